@@ -0,0 +1,81 @@
+package com.example.board.config;
+
+import com.example.board.service.sql.SqlCaptureService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 수집 프록시의 문장당 추가 비용 (H2 메모리 DB, raw와 proxied의 차이가 프록시 비용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlCaptureDataSourceBenchmark {
+
+    @Param({"raw", "proxied"})
+    public String mode;
+
+    private SingleConnectionDataSource target;
+    private Connection connection;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        target = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", true);
+        new JdbcTemplate(target).execute("CREATE TABLE tbl_board (id BIGINT PRIMARY KEY, title VARCHAR(100))");
+        new JdbcTemplate(target).update("INSERT INTO tbl_board VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("jdbcTemplate", new JdbcTemplate(target));
+        // 느린 문장 / 경고 기준은 측정에 영향이 없도록 크게
+        beans.addBean("sqlCaptureService", new SqlCaptureService(beans.getBeanProvider(JdbcTemplate.class),
+                new SimpleMeterRegistry(), 60_000, 2000, 1_000_000, 1_000_000));
+        connection = "raw".equals(mode) ? target.getConnection()
+                : new SqlCaptureDataSource(target, beans.getBeanProvider(SqlCaptureService.class)).getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        target.destroy();
+    }
+
+    /**
+     * 같은 모양의 조회 1건 (Hibernate와 같이 문장마다 prepare)
+     */
+    @Benchmark
+    public String preparedQuery() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT title FROM tbl_board WHERE id = ?")) {
+            statement.setLong(1, next++ % 3 + 1);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        }
+    }
+}
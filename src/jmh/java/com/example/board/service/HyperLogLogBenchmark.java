@@ -0,0 +1,53 @@
+package com.example.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HyperLogLog 방문자 추가 성능 (해시 계산 포함 / 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HyperLogLogBenchmark {
+
+    private static final int VIEWERS = 1 << 20;
+
+    private final HyperLogLog sketch = new HyperLogLog();
+    private long[] hashes;
+    private String[] keys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hashes = new long[VIEWERS];
+        keys = new String[VIEWERS];
+        for (int i = 0; i < VIEWERS; i++) {
+            keys[i] = "viewer-" + i;
+            hashes[i] = HyperLogLog.hash(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean offerHash() {
+        return sketch.offerHash(hashes[next++ & (VIEWERS - 1)]);
+    }
+
+    @Benchmark
+    public boolean offer() {
+        return sketch.offer(keys[next++ & (VIEWERS - 1)]);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.board.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LruCache 동시 읽기 성능 (소수의 인기 키에 조회가 몰리는 경우, 인기 게시글)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class LruCacheBenchmark {
+
+    private static final int KEYS = 10_000;
+    private static final int HOT_KEYS = 64;
+
+    private LruCache<Integer, Integer> cache;
+
+    @Setup
+    public void setUp() {
+        cache = new LruCache<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Integer hotKeyGet(Cursor cursor) {
+        return cache.get(cursor.next++ & (HOT_KEYS - 1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.board.service.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 감사 로그 생산자(요청 스레드) 지연 분포 (생산자 4개, 기록 스레드가 파일에 쓰는 동안)
+ * SampleTime 모드이므로 p50/p99/p99.9 백분위가 함께 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class AuditLogBenchmark {
+
+    private Path directory;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-bench-");
+        // 운영 기본값과 같이 BLOCK (기록 스레드가 밀리면 생산자 지연에 그대로 드러남)
+        auditLog = new AuditLog(true, directory.toString(), 65536, AuditLog.FullPolicy.BLOCK, 5_000, 512,
+                DataSize.ofMegabytes(64), 90, 1000, new SimpleMeterRegistry());
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        auditLog.stop();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private static final AtomicInteger PRODUCERS = new AtomicInteger();
+
+        final String actor = "user-" + PRODUCERS.incrementAndGet();
+        long seq;
+    }
+
+    @Benchmark
+    public void record(Producer producer) {
+        auditLog.record(AuditAction.RECOMMEND, producer.actor, "10.0.0.1", producer.seq++, -1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.board.service.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 두 서버(버스 2개) 사이의 무효화 전달 지연 (H2, MySQL 모드)
+ * 한 번의 측정은 커밋부터 다른 서버의 구독자가 받을 때까지이며, 수신 서버는 운영과 같이 10ms 간격으로 폴링합니다.
+ * SampleTime 모드이므로 p50/p99 백분위가 함께 출력됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcInvalidationBusBenchmark {
+
+    private static final String REGION = "bench";
+    private static final long POLL_MS = 10;
+
+    private final Map<String, CountDownLatch> pending = new ConcurrentHashMap<>();
+    private DriverManagerDataSource dataSource;
+    private TransactionTemplate transactionTemplate;
+    private JdbcInvalidationBus publisher;
+    private ScheduledExecutorService polling;
+    private long seq;
+
+    @Setup
+    public void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/045-cache-changelog.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        publisher = newBus(jdbcTemplate);
+        JdbcInvalidationBus receiver = newBus(jdbcTemplate);
+        receiver.subscribe(REGION, key -> {
+            CountDownLatch delivered = pending.remove(key);
+            if (delivered != null) {
+                delivered.countDown();
+            }
+        });
+        receiver.poll(); // 시작 위치 결정
+        polling = Executors.newSingleThreadScheduledExecutor();
+        polling.scheduleWithFixedDelay(receiver::poll, 0, POLL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        polling.shutdownNow();
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    @Benchmark
+    public void propagation() throws InterruptedException {
+        String key = String.valueOf(seq++);
+        CountDownLatch delivered = new CountDownLatch(1);
+        pending.put(key, delivered);
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, key));
+        if (!delivered.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("무효화가 전달되지 않았습니다: " + key);
+        }
+    }
+
+    private static JdbcInvalidationBus newBus(JdbcTemplate jdbcTemplate) {
+        JdbcInvalidationBus bus = new JdbcInvalidationBus(jdbcTemplate, new SimpleMeterRegistry(),
+                1000, 50, 3_600_000, 600_000);
+        bus.verifyTable();
+        return bus;
+    }
+}
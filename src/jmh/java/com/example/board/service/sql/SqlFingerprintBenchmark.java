@@ -0,0 +1,50 @@
+package com.example.board.service.sql;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 지문 계산 성능 (캐시 적중 / 캐시에 없는 SQL의 정규식 변환)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlFingerprintBenchmark {
+
+    private final String[] statements = new String[64];
+    private int next;
+    private long uncached;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = "select p1_0.id,p1_0.title,p1_0.created_at from tbl_board p1_0 where p1_0.is_del=? " +
+                    "and p1_0.created_at>=? order by p1_0.created_at desc,p1_0.id desc limit ? /* " + i + " */";
+            SqlFingerprint.of(statements[i]); // 캐시 적재
+        }
+    }
+
+    @Benchmark
+    public String cached() {
+        return SqlFingerprint.of(statements[next++ & (statements.length - 1)]);
+    }
+
+    @Benchmark
+    public String uncached() {
+        long i = uncached++;
+        return SqlFingerprint.of("select * from tbl_board where id in (" + i + ", " + (i + 1) + ") and title = 'x" + i + "'");
+    }
+}
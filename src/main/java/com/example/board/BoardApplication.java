@@ -2,8 +2,10 @@ package com.example.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 주기 작업(SSE 하트비트 등) 활성화
 public class BoardApplication {
 
     public static void main(String[] args) {
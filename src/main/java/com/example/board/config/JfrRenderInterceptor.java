@@ -0,0 +1,51 @@
+package com.example.board.config;
+
+import com.example.board.model.Post;
+import com.example.board.service.jfr.TemplateRenderJfrEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * 화면 렌더링 구간을 JFR 이벤트(board.TemplateRender)로 기록하는 인터셉터 (WebMvcConfig에서 등록)
+ * 컨트롤러 처리 직후(postHandle)부터 렌더링이 끝날 때(afterCompletion)까지를 렌더링 시간으로 봅니다.
+ */
+public class JfrRenderInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = JfrRenderInterceptor.class.getName() + ".event";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null
+                || modelAndView.getViewName().startsWith("redirect:")) {
+            return;
+        }
+        request.setAttribute(EVENT_ATTRIBUTE,
+                new TemplateRenderJfrEvent(postIdOf(modelAndView), modelAndView.getViewName()));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(EVENT_ATTRIBUTE) instanceof TemplateRenderJfrEvent event) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            event.finish();
+        }
+    }
+
+    /**
+     * 게시글 화면이면 게시글 ID (없으면 0)
+     */
+    private static long postIdOf(ModelAndView modelAndView) {
+        Object postId = modelAndView.getModel().get("postId");
+        if (postId instanceof Long id) {
+            return id;
+        }
+        if (modelAndView.getModel().get("post") instanceof Post post && post.getId() != null) {
+            return post.getId();
+        }
+        return 0;
+    }
+}
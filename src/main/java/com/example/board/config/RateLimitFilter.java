@@ -0,0 +1,61 @@
+package com.example.board.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 엔드포인트 요청 제한 필터 (SecurityConfig의 필터 체인에 등록)
+ *
+ * 인가 필터 뒤에서 동작하므로 로그인한 사용자는 사용자 ID와 IP 모두,
+ * 비로그인 사용자(회원가입 등)는 IP 기준으로 제한합니다.
+ * 제한을 초과하면 429(Too Many Requests)와 Retry-After 헤더를 반환합니다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.Rule rule = rateLimiter.findRule(request.getMethod(), path);
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 1. IP 기준 제한 (프록시 뒤라면 server.forward-headers-strategy 설정으로 실제 IP 사용)
+        // 2. 로그인한 사용자는 사용자 ID 기준으로도 제한 (둘 다 허용될 때만 토큰을 소비)
+        String ipKey = "ip:" + request.getRemoteAddr();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long waitNanos;
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            waitNanos = rateLimiter.tryAcquire(rule, ipKey, "user:" + authentication.getName());
+        } else {
+            waitNanos = rateLimiter.tryAcquire(rule, ipKey);
+        }
+
+        if (waitNanos > 0) {
+            response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos))));
+            // sendError는 /error 재디스패치(인증 필요)를 거치므로 직접 응답을 작성
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
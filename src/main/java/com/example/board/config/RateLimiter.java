@@ -0,0 +1,197 @@
+package com.example.board.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 요청(글 작성, 댓글 작성, 추천, 회원가입)에 대한 프로세스 내 토큰 버킷 요청 제한기
+ *
+ * - 버킷 하나는 AtomicLong 하나(GCRA: 다음 토큰이 허용되는 이론상 시각)로 표현되며,
+ *   CAS 한 번으로 토큰을 소비하므로 락이 없습니다.
+ * - 버킷은 여러 개의 ConcurrentHashMap(스트라이프)에 나누어 보관하고,
+ *   스트라이프마다 최대 개수를 두어 메모리 사용량을 제한합니다.
+ *   (가득 차면 토큰이 모두 채워진 유휴 버킷부터 제거합니다.)
+ * - 제한값은 "허용 횟수/초" 형식으로 설정합니다. (예: board.rate-limit.post-create=10/60)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final List<Rule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Map<String, AtomicLong>> stripes = new ArrayList<>(STRIPES);
+    private final int maxBucketsPerStripe;
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${board.rate-limit.post-create:10/60}") String postCreate,
+                       @Value("${board.rate-limit.comment-create:30/60}") String commentCreate,
+                       @Value("${board.rate-limit.recommend:60/60}") String recommend,
+                       @Value("${board.rate-limit.register:5/600}") String register,
+                       @Value("${board.rate-limit.attachment-upload:20/600}") String attachmentUpload,
+                       @Value("${board.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.rules = List.of(
+                Rule.of("post-create", "POST", "/posts", postCreate, meterRegistry),
+                Rule.of("comment-create", "POST", "/comments/create/*", commentCreate, meterRegistry),
+                Rule.of("recommend", "POST", "/posts/*/recommend", recommend, meterRegistry),
+                Rule.of("register", "POST", "/user/register", register, meterRegistry),
+                Rule.of("attachment-upload", "POST", "/attachments/upload/*", attachmentUpload, meterRegistry)
+        );
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+        this.maxBucketsPerStripe = Math.max(1, maxBuckets / STRIPES);
+        meterRegistry.gauge("board.ratelimit.buckets", this, RateLimiter::bucketCount);
+    }
+
+    /**
+     * 요청에 해당하는 제한 규칙을 찾습니다.
+     * @param method HTTP 메서드
+     * @param path 요청 경로 (컨텍스트 경로 제외)
+     * @return 규칙 (제한 대상이 아니면 null)
+     */
+    public Rule findRule(String method, String path) {
+        for (Rule rule : rules) {
+            if (rule.method.equals(method) && pathMatcher.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 하나에 대해 모든 제한 키(IP, 사용자 ID 등)의 토큰을 1개씩 소비합니다.
+     * 한 키라도 거부되면 앞서 소비한 키의 토큰을 되돌려, 거부된 요청이 다른 버킷을 깎지 않도록 합니다.
+     * @param rule 제한 규칙
+     * @param keys 제한 키 목록 (사용자 ID 또는 IP)
+     * @return 0이면 허용, 0보다 크면 거부되었으며 다시 시도할 수 있을 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(Rule rule, String... keys) {
+        AtomicLong[] acquired = new AtomicLong[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            AtomicLong bucket = bucket(rule.name + ':' + keys[i]);
+            long waitNanos = consume(rule, bucket);
+            if (waitNanos > 0) {
+                for (int j = 0; j < i; j++) {
+                    acquired[j].addAndGet(-rule.intervalNanos); // 소비한 토큰 1개를 반환
+                }
+                rule.rejected.increment();
+                return waitNanos;
+            }
+            acquired[i] = bucket;
+        }
+        rule.allowed.increment();
+        return 0;
+    }
+
+    private long consume(Rule rule, AtomicLong bucket) {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + rule.intervalNanos;
+            long allowAt = newTat - rule.periodNanos; // 버스트 허용량(capacity)만큼 앞당겨 허용
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucket(String key) {
+        Map<String, AtomicLong> stripe = stripes.get((key.hashCode() & 0x7fffffff) % STRIPES);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.size() >= maxBucketsPerStripe) {
+            evict(stripe, true);
+        }
+        // 새 버킷은 '가득 찬' 상태 (이론상 시각 = 과거)
+        return stripe.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE / 2));
+    }
+
+    /**
+     * 토큰이 모두 채워진(유휴) 버킷을 주기적으로 제거합니다.
+     * (가득 찬 버킷은 새 버킷과 동일하므로 제거해도 제한 결과가 달라지지 않습니다.)
+     */
+    @Scheduled(fixedDelayString = "${board.rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        for (Map<String, AtomicLong> stripe : stripes) {
+            evict(stripe, false);
+        }
+    }
+
+    private void evict(Map<String, AtomicLong> stripe, boolean force) {
+        long now = System.nanoTime();
+        stripe.values().removeIf(tat -> tat.get() <= now);
+        if (force && stripe.size() >= maxBucketsPerStripe) {
+            // 유휴 버킷이 없을 만큼 꽉 찬 경우: 임의의 버킷을 제거하여 상한을 지킴
+            log.warn("요청 제한 버킷 수가 상한에 도달하여 일부 버킷을 제거합니다.");
+            Iterator<AtomicLong> it = stripe.values().iterator();
+            for (int i = 0; i < maxBucketsPerStripe / 10 + 1 && it.hasNext(); i++) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    private int bucketCount() {
+        int count = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    /**
+     * 엔드포인트별 제한 규칙 (capacity회 / period)
+     */
+    public static final class Rule {
+        private final String name;
+        private final String method;
+        private final String pattern;
+        private final long periodNanos;
+        private final long intervalNanos;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Rule(String name, String method, String pattern, int capacity, long periodSeconds, MeterRegistry registry) {
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.periodNanos = TimeUnit.SECONDS.toNanos(periodSeconds);
+            this.intervalNanos = periodNanos / capacity;
+            this.allowed = registry.counter("board.ratelimit.requests", "rule", name, "outcome", "allowed");
+            this.rejected = registry.counter("board.ratelimit.requests", "rule", name, "outcome", "rejected");
+        }
+
+        static Rule of(String name, String method, String pattern, String limit, MeterRegistry registry) {
+            String[] parts = limit.split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("요청 제한 형식이 올바르지 않습니다 (허용 횟수/초): " + limit);
+            }
+            return new Rule(name, method, pattern,
+                    Integer.parseInt(parts[0].trim()), Long.parseLong(parts[1].trim()), registry);
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
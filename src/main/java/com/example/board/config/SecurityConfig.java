@@ -1,13 +1,24 @@
 package com.example.board.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -17,6 +28,16 @@ public class SecurityConfig {
     // UserDetailsService(UserService)는 Spring Boot가 자동으로
     // AuthenticationManager에 연결하여 사용합니다.
 
+    private final RateLimiter rateLimiter; // 쓰기 엔드포인트 요청 제한
+    private final SignedTokenService signedTokenService; // 무상태 로그인 토큰
+
+    // true: HttpSession 대신 서명된 쿠키로 로그인 유지 (노드 간 세션 고정 불필요)
+    @Value("${board.security.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
+    @Value("${board.security.stateless.secure-cookie:false}")
+    private boolean secureCookie;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -25,6 +46,12 @@ public class SecurityConfig {
                         .requestMatchers("/", "/user/login", "/user/register", "/static/**", "/css/**", "/js/**").permitAll()
                         // /posts 및 하위 경로 모두 허용
                         .requestMatchers("/posts", "/posts/**").permitAll()
+                        // 읽기 전용 JSON API (조회만 허용)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/**").permitAll()
+                        // 첨부파일 다운로드/썸네일 (업로드/삭제는 인증 필요)
+                        .requestMatchers(HttpMethod.GET, "/attachments/**").permitAll()
+                        // 헬스 체크 (liveness/readiness 프로브)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                         // /user/** 경로 인증 필요 (마이페이지, 비밀번호 변경)
                         .requestMatchers("/user/**").authenticated()
                         // 그 외는 인증 필요
@@ -45,13 +72,55 @@ public class SecurityConfig {
                         .logoutUrl("/user/logout")
                         .logoutSuccessUrl("/")      // 로그아웃 성공 시 루트 페이지로
                         .permitAll()
-                );
+                )
+                // 인가 통과 후 쓰기 요청(글/댓글 작성, 추천, 회원가입) 횟수 제한
+                .addFilterAfter(new RateLimitFilter(rateLimiter), AuthorizationFilter.class);
+
+        if (statelessEnabled) {
+            configureStateless(http);
+        }
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * 무상태 로그인 모드 설정
+     * - 로그인 정보: 서명된 쿠키 (SignedTokenSecurityContextRepository)
+     * - CSRF 토큰: 쿠키 저장
+     * - 로그인 전 요청 저장(RequestCache) 사용 안 함 (어차피 /posts로 리다이렉트)
+     */
+    private void configureStateless(HttpSecurity http) throws Exception {
+        SignedTokenSecurityContextRepository repository =
+                new SignedTokenSecurityContextRepository(signedTokenService, secureCookie);
+        http
+                .securityContext((context) -> context.securityContextRepository(repository))
+                .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache((cache) -> cache.requestCache(new NullRequestCache()))
+                .csrf((csrf) -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                .logout((logout) -> logout.addLogoutHandler(repository))
+                .addFilterAfter(new SignedTokenRefreshFilter(repository), SecurityContextHolderFilter.class);
+    }
+
+    /**
+     * 비밀번호 인코더
+     * - BCrypt 강도(cost)는 board.security.bcrypt-strength로 조정합니다.
+     * - DelegatingPasswordEncoder를 사용하여 "{bcrypt}" 접두어로 저장하며,
+     *   접두어가 없는 기존 해시도 BCrypt로 검증합니다.
+     * - 강도가 바뀌거나 접두어가 없는 해시는 로그인 성공 시 UserService(UserDetailsPasswordService)가
+     *   새 설정으로 자동 재해시합니다.
+     * - 실제 해시 연산은 크기가 제한된 전용 스레드 풀에서 수행합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${board.security.bcrypt-strength:10}") int strength,
+                                                  @Value("${board.security.hash-threads:0}") int threads,
+                                                  @Value("${board.security.hash-queue-size:256}") int queueSize,
+                                                  @Value("${board.security.hash-timeout-ms:5000}") long timeoutMillis) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없는 기존 해시 호환
+        // 스레드 수 미설정(0) 시 CPU 코어 수만큼
+        int hashThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, hashThreads, queueSize, timeoutMillis, meterRegistry);
     }
 }
 
@@ -0,0 +1,27 @@
+package com.example.board.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 무상태 로그인 모드에서 만료가 가까운 로그인 쿠키를 재발급하는 필터 (슬라이딩 만료)
+ * 응답 본문이 쓰이기 전에 쿠키를 설정해야 하므로 체인 앞쪽에서 처리합니다.
+ */
+@RequiredArgsConstructor
+public class SignedTokenRefreshFilter extends OncePerRequestFilter {
+
+    private final SignedTokenSecurityContextRepository repository;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        repository.refreshIfNeeded(request, response);
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.board.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.DeferredSecurityContext;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import java.util.Collections;
+
+/**
+ * 로그인 정보를 HttpSession 대신 서명된 쿠키에 보관하는 SecurityContextRepository
+ * (board.security.stateless.enabled=true 일 때 SecurityConfig에서 사용)
+ *
+ * - 요청마다 쿠키의 서명만 검증하며, UserService.loadUserByUsername(DB 조회)을 호출하지 않습니다.
+ * - 로그인 성공 시 쿠키를 발급하고, 만료가 가까우면 SignedTokenRefreshFilter가 재발급합니다.
+ * - 로그아웃 시 쿠키를 삭제하고 해당 사용자의 기존 토큰을 폐기합니다.
+ */
+@RequiredArgsConstructor
+public class SignedTokenSecurityContextRepository implements SecurityContextRepository, LogoutHandler {
+
+    public static final String COOKIE_NAME = "BOARD_AUTH";
+    private static final String TOKEN_ATTRIBUTE = SignedTokenSecurityContextRepository.class.getName() + ".TOKEN";
+
+    private final SignedTokenService tokenService;
+    private final boolean secureCookie;
+    private final SecurityContextHolderStrategy holderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return readContext(requestResponseHolder.getRequest());
+    }
+
+    @Override
+    public DeferredSecurityContext loadDeferredContext(HttpServletRequest request) {
+        // 실제로 인증 정보가 필요할 때만 서명 검증 (한 번 읽은 결과는 재사용)
+        return new DeferredSecurityContext() {
+            private SecurityContext context;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    context = readContext(request);
+                }
+                return context;
+            }
+
+            @Override
+            public boolean isGenerated() {
+                return readToken(request) == null; // 유효한 쿠키가 없어 빈 컨텍스트를 만든 경우
+            }
+        };
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            // 로그아웃 등으로 인증 정보가 비워진 경우 쿠키 삭제
+            if (findCookie(request) != null) {
+                writeCookie(response, "", 0);
+            }
+            return;
+        }
+        SignedTokenService.Token current = (SignedTokenService.Token) request.getAttribute(TOKEN_ATTRIBUTE);
+        if (current == null || !current.userId().equals(authentication.getName()) || tokenService.needsRefresh(current)) {
+            issue(authentication.getName(), response);
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return readToken(request) != null;
+    }
+
+    /**
+     * 만료가 가까운 토큰을 재발급합니다. (슬라이딩 만료)
+     */
+    public void refreshIfNeeded(HttpServletRequest request, HttpServletResponse response) {
+        SignedTokenService.Token token = readToken(request);
+        if (token != null && tokenService.needsRefresh(token)) {
+            issue(token.userId(), response);
+        }
+    }
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        if (authentication != null) {
+            tokenService.revoke(authentication.getName());
+        }
+        writeCookie(response, "", 0);
+    }
+
+    private SecurityContext readContext(HttpServletRequest request) {
+        SecurityContext context = holderStrategy.createEmptyContext();
+        SignedTokenService.Token token = readToken(request);
+        if (token != null) {
+            // 컨트롤러의 @AuthenticationPrincipal UserDetails 호환을 위해 UserDetails로 구성
+            // (비밀번호는 보관하지 않음, 권한은 기존과 동일하게 사용하지 않음)
+            UserDetails principal = User.withUsername(token.userId())
+                    .password("")
+                    .authorities(Collections.emptyList())
+                    .build();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    principal, null, principal.getAuthorities()));
+        }
+        return context;
+    }
+
+    private SignedTokenService.Token readToken(HttpServletRequest request) {
+        Object cached = request.getAttribute(TOKEN_ATTRIBUTE);
+        if (cached != null) {
+            return (SignedTokenService.Token) cached;
+        }
+        Cookie cookie = findCookie(request);
+        if (cookie == null || cookie.getValue().isEmpty()) {
+            return null;
+        }
+        SignedTokenService.Token token = tokenService.verify(cookie.getValue());
+        if (token != null) {
+            request.setAttribute(TOKEN_ATTRIBUTE, token); // 같은 요청 내 재검증 방지
+        }
+        return token;
+    }
+
+    private void issue(String userId, HttpServletResponse response) {
+        writeCookie(response, tokenService.issue(userId), (int) (tokenService.getTtlMillis() / 1000));
+    }
+
+    private Cookie findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_NAME, value);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setSecure(secureCookie);
+        cookie.setMaxAge(maxAge);
+        cookie.setAttribute("SameSite", "Lax");
+        response.addCookie(cookie);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.board.config;
+
+import com.example.board.service.event.PasswordChangedEvent;
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 무상태(stateless) 로그인 모드에서 사용하는 서명 토큰 발급/검증기
+ *
+ * - 토큰 형식: base64url("발급시각(ms):만료시각(ms):userId") + "." + base64url(HMAC-SHA256)
+ * - 검증은 HMAC 계산 한 번과 메모리 내 폐기 목록 조회뿐이며, DB를 조회하지 않습니다.
+ * - 폐기 목록: 사용자별 "이 시각 이전에 발급된 토큰은 무효" 기록
+ *   (로그아웃, 비밀번호 변경 시 추가되며, 토큰 최대 수명이 지나면 제거됩니다.)
+ *   폐기는 InvalidationBus(REVOKED_TOKENS)로 다른 서버에도 전달됩니다. (key: "폐기시각(ms):userId")
+ *   전달 전까지(board.invalidation.poll-ms)와 폐기 이후에 시작한 서버에서는 폐기 전 토큰이 통과할 수 있습니다.
+ * - 무상태 로그인 모드에서는 board.security.stateless.secret 이 없으면 기동하지 않습니다.
+ *   (서버마다 다른 키가 생성되면 다른 서버에서 발급한 토큰이 모두 거부됨)
+ */
+@Component
+public class SignedTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final long ttlMillis;
+    private final long refreshMillis;
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final InvalidationBus invalidationBus;
+
+    public SignedTokenService(InvalidationBus invalidationBus,
+                              @Value("${board.security.stateless.enabled:false}") boolean enabled,
+                              @Value("${board.security.stateless.secret:}") String secret,
+                              @Value("${board.security.stateless.ttl-seconds:1800}") long ttlSeconds,
+                              @Value("${board.security.stateless.refresh-seconds:900}") long refreshSeconds) {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else if (enabled) {
+            throw new IllegalStateException("board.security.stateless.enabled=true 이면 board.security.stateless.secret 을 설정해야 합니다. "
+                    + "(모든 서버에 같은 값)");
+        } else {
+            // 무상태 모드를 쓰지 않으면 토큰을 발급하지 않으므로 임의 키로 충분
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.ttlMillis = ttlSeconds * 1000;
+        this.refreshMillis = refreshSeconds * 1000;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(InvalidationRegions.REVOKED_TOKENS, this::onRemoteRevoke);
+    }
+
+    /**
+     * 새 토큰을 발급합니다.
+     * @param userId 사용자 ID
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(String userId) {
+        long now = System.currentTimeMillis();
+        String payload = now + ":" + (now + ttlMillis) + ":" + userId;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * 토큰을 검증합니다.
+     * @param token 토큰 문자열
+     * @return 검증된 토큰 정보 (서명 불일치, 만료, 폐기된 경우 null)
+     */
+    public Token verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return null;
+            }
+
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length != 3) {
+                return null;
+            }
+            long issuedAt = Long.parseLong(parts[0]);
+            long expiresAt = Long.parseLong(parts[1]);
+            String userId = parts[2];
+
+            if (expiresAt <= System.currentTimeMillis()) {
+                return null; // 만료
+            }
+            Long revoked = revokedBefore.get(userId);
+            if (revoked != null && issuedAt <= revoked) {
+                return null; // 폐기됨 (로그아웃/비밀번호 변경)
+            }
+            return new Token(userId, issuedAt, expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null; // Base64/숫자 형식 오류
+        }
+    }
+
+    /**
+     * 토큰의 만료가 가까워 재발급(슬라이딩 갱신)이 필요한지 확인합니다.
+     */
+    public boolean needsRefresh(Token token) {
+        return token.expiresAt() - System.currentTimeMillis() < refreshMillis;
+    }
+
+    /**
+     * 해당 사용자에게 지금까지 발급된 모든 토큰을 무효화합니다.
+     * @param userId 사용자 ID
+     */
+    public void revoke(String userId) {
+        long now = System.currentTimeMillis();
+        revokedBefore.merge(userId, now, Math::max);
+        // 트랜잭션 안(비밀번호 변경)이면 함께 커밋, 밖(로그아웃)이면 바로 기록
+        invalidationBus.publish(InvalidationRegions.REVOKED_TOKENS, now + ":" + userId);
+    }
+
+    /**
+     * 다른 서버에서 발생한 폐기를 반영합니다.
+     * @param key "폐기시각(ms):userId"
+     */
+    private void onRemoteRevoke(String key) {
+        int colon = key.indexOf(':');
+        if (colon <= 0) {
+            return;
+        }
+        long revokedAt = Long.parseLong(key.substring(0, colon));
+        if (revokedAt >= System.currentTimeMillis() - ttlMillis) { // 이미 만료된 토큰만 해당하면 기록 불필요
+            revokedBefore.merge(key.substring(colon + 1), revokedAt, Math::max);
+        }
+    }
+
+    /**
+     * 비밀번호 변경 시 기존 토큰을 모두 무효화합니다.
+     */
+    @EventListener
+    public void onPasswordChanged(PasswordChangedEvent event) {
+        revoke(event.userId());
+    }
+
+    /**
+     * 토큰 최대 수명이 지난 폐기 기록을 제거하여 폐기 목록 크기를 제한합니다.
+     * (그 이전에 발급된 토큰은 이미 만료되었으므로 기록이 필요 없음)
+     */
+    @Scheduled(fixedDelayString = "${board.security.stateless.sweep-ms:60000}")
+    public void sweep() {
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        revokedBefore.values().removeIf(revoked -> revoked < threshold);
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 검증된 토큰 정보
+     */
+    public record Token(String userId, long issuedAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.board.config;
+
+import com.example.board.model.Comment;
+import com.example.board.model.Post;
+import com.example.board.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 인기 게시글에 요청이 몰릴 때 같은 게시글의 동시 조회를 하나로 합치는 로더 설정
+ * (대기 시간(board.single-flight.timeout-ms)을 넘기면 대기 중인 요청 중 하나만 다시 조회)
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Value("${board.single-flight.timeout-ms:2000}")
+    private long timeoutMillis;
+
+    /**
+     * 게시글 상세(작성자 + 렌더링된 본문) 조회
+     */
+    @Bean
+    public SingleFlight<Long, Post> postDetailLoader(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("post.detail", timeoutMillis, meterRegistry);
+    }
+
+    /**
+     * 게시글 댓글 첫 페이지 조회
+     */
+    @Bean
+    public SingleFlight<Long, Slice<Comment>> firstCommentPageLoader(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("comment.first-page", timeoutMillis, meterRegistry);
+    }
+}
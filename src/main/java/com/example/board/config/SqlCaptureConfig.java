@@ -0,0 +1,48 @@
+package com.example.board.config;
+
+import com.example.board.service.sql.SqlCaptureService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 수집 설정 (board.sql.capture.enabled=false로 끌 수 있음)
+ * - DataSource를 SqlCaptureDataSource로 감싸 모든 문장의 실행 시간을 수집합니다.
+ * - 요청 단위 집계 필터(SqlCaptureFilter)를 등록합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.sql.capture.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlCaptureConfig {
+
+    /**
+     * DataSource 빈을 SqlCaptureDataSource로 감쌉니다.
+     * (BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + 지연 조회)
+     */
+    @Bean
+    public static BeanPostProcessor sqlCaptureDataSourcePostProcessor(ObjectProvider<SqlCaptureService> sqlCaptureService) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlCaptureDataSource)) {
+                    return new SqlCaptureDataSource(dataSource, sqlCaptureService);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlCaptureFilter> sqlCaptureFilter(SqlCaptureService sqlCaptureService) {
+        FilterRegistrationBean<SqlCaptureFilter> registration =
+                new FilterRegistrationBean<>(new SqlCaptureFilter(sqlCaptureService));
+        // 보안 필터(로그인 사용자 조회)의 쿼리도 요청에 포함
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.board.config;
+
+import com.example.board.service.sql.SqlCaptureService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행되는 모든 SQL 문장의 시간을 재어 SqlCaptureService로 전달하는 DataSource 래퍼 (SqlCaptureConfig에서 등록)
+ *
+ * 커넥션과 문장(Statement / PreparedStatement / CallableStatement)을 JDK 동적 프록시로 감싸며,
+ * execute* 호출만 시간을 재고 나머지 호출은 그대로 위임합니다.
+ */
+public class SqlCaptureDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<SqlCaptureService> captureServiceProvider;
+    private volatile SqlCaptureService captureService;
+
+    public SqlCaptureDataSource(DataSource target, ObjectProvider<SqlCaptureService> captureServiceProvider) {
+        super(target);
+        this.captureServiceProvider = captureServiceProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private SqlCaptureService captureService() {
+        SqlCaptureService service = captureService;
+        if (service == null) {
+            service = captureServiceProvider.getObject();
+            captureService = service;
+        }
+        return service;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 커넥션 프록시: 문장을 만드는 메서드의 결과만 감쌉니다.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = invokeTarget(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null);
+                case "prepareStatement" -> wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private Object wrapStatement(Class<? extends Statement> type, Statement statement, String sql) {
+            return Proxy.newProxyInstance(SqlCaptureDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * 문장 프록시: 바인딩 값을 기억하고 execute* 호출 시간을 잽니다. (문장은 한 스레드에서만 사용됨)
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql; // PreparedStatement의 SQL (Statement는 null)
+        private final List<Object> params;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+            this.params = sql != null ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (params != null) {
+                // setXxx(int parameterIndex, value, ...) 바인딩 값 기억
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    bind(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("clearParameters")) {
+                    params.clear();
+                }
+            }
+            if (!name.startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+            // Statement.execute(String sql, ...)는 인자의 SQL, PreparedStatement.execute()는 준비된 SQL
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                captureService().record(executed, params, System.nanoTime() - start);
+            }
+        }
+
+        private void bind(int index, Object value) {
+            while (params.size() < index) {
+                params.add(null);
+            }
+            params.set(index - 1, value);
+        }
+    }
+}
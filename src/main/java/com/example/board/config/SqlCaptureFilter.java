@@ -0,0 +1,32 @@
+package com.example.board.config;
+
+import com.example.board.service.sql.SqlCaptureService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위 SQL 수집 필터 (SqlCaptureConfig에서 보안 필터보다 먼저 등록)
+ * 요청을 처리하는 스레드에서 실행된 문장만 모읍니다. (스트리밍 응답의 비동기 스레드는 전체 집계에만 포함)
+ */
+@RequiredArgsConstructor
+public class SqlCaptureFilter extends OncePerRequestFilter {
+
+    private final SqlCaptureService sqlCaptureService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        sqlCaptureService.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sqlCaptureService.endRequest();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.board.config;
+
+import com.example.board.model.Comment;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.service.CommentService;
+import com.example.board.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기동 직후 워밍업 (fast-startup 프로필에서 board.warmup.enabled=true)
+ *
+ * ApplicationRunner는 내장 톰캣이 뜬 뒤, readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로
+ * 워밍업이 끝날 때까지 로드밸런서가 트래픽을 보내지 않습니다.
+ * - 자기 자신에게 HTTP 요청을 보내 보안 필터 체인, 템플릿 파싱/렌더링, JPA 조회 경로를 미리 실행(JIT 포함)
+ * - 게시글 상세는 조회수가 증가하지 않도록 댓글 페이지 조각(detail.html) 요청과 서비스 조회로 대신함
+ * - 기동 시간과 워밍업 마지막 라운드의 p99 응답 시간을 로그로 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.warmup.enabled", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+
+    private final ServletWebServerApplicationContext context;
+    private final PostService postService;
+    private final CommentService commentService;
+
+    @Value("${board.warmup.iterations:30}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long warmupStart = System.nanoTime();
+
+        String base = "http://localhost:" + context.getWebServer().getPort();
+        List<String> paths = new ArrayList<>(List.of("/", "/posts", "/user/login", "/user/register"));
+        List<PostSummary> latest = postService.findLatest10();
+        for (PostSummary post : latest) {
+            // 조회수 증가 없이 detail.html 파싱/댓글 조회 경로 실행
+            // (첫 댓글의 path를 커서로 사용하여 실제 다음 페이지 조각을 렌더링, 댓글이 없는 게시글은 제외)
+            Slice<Comment> firstPage = commentService.findCommentPage(post.getId(), null);
+            if (firstPage.hasContent()) {
+                String cursor = URLEncoder.encode(firstPage.getContent().get(0).getPath(), StandardCharsets.UTF_8);
+                paths.add("/posts/" + post.getId() + "/comments?cursor=" + cursor);
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        long[] lastRound = new long[paths.size()];
+        for (int i = 0; i < iterations; i++) {
+            for (int p = 0; p < paths.size(); p++) {
+                lastRound[p] = request(client, base + paths.get(p));
+            }
+            // 서비스 계층 조회 경로 (상세/댓글)
+            for (PostSummary post : latest) {
+                postService.findById(post.getId());
+                commentService.findCommentPage(post.getId(), null);
+            }
+        }
+
+        long warmupMillis = Duration.ofNanos(System.nanoTime() - warmupStart).toMillis();
+        log.info("[warmup] 기동 {}ms, 워밍업 {}ms ({}회 x {}개 경로), 워밍업 후 p99 {}ms",
+                startupMillis, warmupMillis, iterations, paths.size(), percentile99(lastRound));
+    }
+
+    private long request(HttpClient client, String url) {
+        long start = System.nanoTime();
+        try {
+            client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.discarding());
+        } catch (Exception e) {
+            log.debug("[warmup] 요청 실패: {}", url, e);
+        }
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private long percentile99(long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.99) - 1)];
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.board.config;
+
+import com.example.board.service.AttachmentStorage;
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 내장 웹 서버 설정
+ */
+@Configuration
+public class WebServerConfig {
+
+    /**
+     * JSON API 응답 gzip 압축 (Accept-Encoding: gzip 요청에만 적용)
+     * server.compression.enabled=true로 직접 설정한 경우에는 그 설정을 그대로 사용합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "board.api.gzip.enabled", havingValue = "true", matchIfMissing = true)
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> jsonCompressionCustomizer(
+            ServerProperties serverProperties) {
+        return factory -> {
+            if (serverProperties.getCompression().getEnabled()) {
+                return;
+            }
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(new String[]{MediaType.APPLICATION_JSON_VALUE});
+            compression.setMinResponseSize(DataSize.ofKilobytes(1));
+            factory.setCompression(compression);
+        };
+    }
+
+    /**
+     * 파일 업로드(multipart) 설정 (spring.servlet.multipart.* 대신 사용)
+     * - 업로드 내용은 크기와 관계없이 항상 디스크 임시 파일로 받습니다. (힙 버퍼링 없음)
+     * - 임시 파일을 첨부파일 저장소와 같은 디스크에 두어, 저장 시 복사 없이 이동(rename)만 하도록 합니다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            AttachmentStorage attachmentStorage,
+            @Value("${board.attachment.max-file-size:20MB}") DataSize maxFileSize,
+            @Value("${board.attachment.max-request-size:21MB}") DataSize maxRequestSize) {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(attachmentStorage.tempDirectory().toString());
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxRequestSize);
+        factory.setFileSizeThreshold(DataSize.ofBytes(0));
+        return factory.createMultipartConfig();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.board.controller;
+
+import com.example.board.service.UserService;
+import com.example.board.service.jfr.ContinuousRecording;
+import com.example.board.service.sql.SqlCaptureService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.Principal;
+
+/**
+ * 관리자 전용 진단 페이지 컨트롤러 (tbl_user.admin = true 인 사용자만)
+ */
+@Controller
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final UserService userService;
+    private final SqlCaptureService sqlCaptureService;
+    private final ContinuousRecording continuousRecording;
+
+    // 화면에 표시할 / EXPLAIN을 실행할 상위 지문 수
+    @Value("${board.sql.top-limit:30}")
+    private int topLimit;
+
+    @Value("${board.sql.explain-top:10}")
+    private int explainTop;
+
+    /**
+     * SQL 지문별 집계 (전체 시간 순) (GET /admin/sql)
+     */
+    @GetMapping("/sql")
+    public String sql(Model model, Principal principal) {
+        requireAdmin(principal);
+        model.addAttribute("stats", sqlCaptureService.top(topLimit));
+        return "admin/sql"; // templates/admin/sql.html
+    }
+
+    /**
+     * 상위 지문의 EXPLAIN 수집 (POST /admin/sql/explain)
+     */
+    @PostMapping("/sql/explain")
+    public String explain(Principal principal, RedirectAttributes redirectAttributes) {
+        requireAdmin(principal);
+        int explained = sqlCaptureService.explainTop(explainTop);
+        redirectAttributes.addFlashAttribute("message", "EXPLAIN " + explained + "건을 수집했습니다.");
+        return "redirect:/admin/sql";
+    }
+
+    /**
+     * SQL 집계 초기화 (POST /admin/sql/reset)
+     */
+    @PostMapping("/sql/reset")
+    public String reset(Principal principal, RedirectAttributes redirectAttributes) {
+        requireAdmin(principal);
+        sqlCaptureService.reset();
+        redirectAttributes.addFlashAttribute("message", "집계를 초기화했습니다.");
+        return "redirect:/admin/sql";
+    }
+
+    /**
+     * JFR 상시 기록 상태 페이지 (GET /admin/jfr)
+     */
+    @GetMapping("/jfr")
+    public String jfr(Model model, Principal principal) {
+        requireAdmin(principal);
+        model.addAttribute("recording", continuousRecording.isRecording());
+        return "admin/jfr"; // templates/admin/jfr.html
+    }
+
+    /**
+     * 최근 N분의 JFR 기록을 서버의 파일로 저장 (POST /admin/jfr/dump)
+     */
+    @PostMapping("/jfr/dump")
+    public String dumpJfr(@RequestParam(defaultValue = "5") long minutes, Principal principal,
+                          RedirectAttributes redirectAttributes) {
+        requireAdmin(principal);
+        try {
+            Path file = continuousRecording.dump(minutes);
+            redirectAttributes.addFlashAttribute("message", "저장했습니다: " + file);
+        } catch (IOException | IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", "저장하지 못했습니다: " + e.getMessage());
+        }
+        return "redirect:/admin/jfr";
+    }
+
+    /**
+     * 관리자가 아니면 403 (권한(Role)을 사용하지 않으므로 tbl_user.admin 값으로 확인)
+     */
+    private void requireAdmin(Principal principal) {
+        if (principal == null || !userService.findByUserId(principal.getName()).isAdmin()) {
+            throw new AccessDeniedException("관리자만 접근할 수 있습니다.");
+        }
+    }
+}
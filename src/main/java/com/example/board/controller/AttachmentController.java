@@ -0,0 +1,211 @@
+package com.example.board.controller;
+
+import com.example.board.model.Attachment;
+import com.example.board.service.AttachmentService;
+import com.example.board.service.AttachmentStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부파일 업로드/다운로드를 처리하는 컨트롤러
+ *
+ * 다운로드는 파일 내용을 애플리케이션 메모리로 읽지 않고 전송합니다.
+ * - 톰캣 sendfile을 지원하면(NIO 커넥터) 요청 속성으로 파일 구간만 넘기고, 톰캣이 커널 sendfile로 전송합니다.
+ * - 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 바로 전송합니다.
+ * - Range 요청(단일 구간)은 206 Partial Content로 응답합니다. (여러 구간 요청은 전체 파일로 응답)
+ * - 파일 이름이 내용 해시이므로 내용이 바뀌지 않아 ETag/장기 캐시를 사용합니다.
+ */
+@Controller
+@RequestMapping("/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    // 톰캣 sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final AttachmentService attachmentService;
+    private final AttachmentStorage attachmentStorage;
+
+    /**
+     * 첨부파일 업로드 (POST /attachments/upload/{postId}, 게시글 작성자만)
+     */
+    @PostMapping("/upload/{postId}")
+    public String upload(@PathVariable("postId") Long postId,
+                         @RequestParam("file") MultipartFile file,
+                         Principal principal,
+                         RedirectAttributes redirectAttributes) {
+        if (principal == null) {
+            return "redirect:/user/login";
+        }
+        try {
+            attachmentService.upload(postId, file, principal.getName());
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+        }
+        return "redirect:/posts/" + postId;
+    }
+
+    /**
+     * 첨부파일 삭제 (POST /attachments/{id}/delete, 업로드한 사용자만)
+     */
+    @PostMapping("/{id}/delete")
+    public String delete(@PathVariable Long id, Principal principal) {
+        if (principal == null) {
+            return "redirect:/user/login";
+        }
+        Long postId = attachmentService.delete(id, principal.getName());
+        return "redirect:/posts/" + postId;
+    }
+
+    /**
+     * 첨부파일 다운로드 (GET /attachments/{id})
+     * 허용된 이미지 형식은 브라우저에 바로 표시(inline), 그 외는 내려받기(attachment)로 응답합니다.
+     */
+    @GetMapping("/{id}")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Attachment attachment = attachmentService.findDownloadable(id);
+        ContentDisposition disposition = (attachment.isImage()
+                ? ContentDisposition.inline() : ContentDisposition.attachment())
+                .filename(attachment.getOriginalName(), StandardCharsets.UTF_8)
+                .build();
+        send(request, response, attachmentStorage.blobPath(attachment.getSha256()),
+                attachment.getContentType(), attachment.getSha256(), disposition);
+    }
+
+    /**
+     * 썸네일 (GET /attachments/{id}/thumbnail)
+     * 아직 생성되지 않았거나 생성할 수 없는 경우 원본으로 이동합니다.
+     */
+    @GetMapping("/{id}/thumbnail")
+    public void thumbnail(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Attachment attachment = attachmentService.findDownloadable(id);
+        Optional<Path> thumbnail = attachment.isImage()
+                ? attachmentStorage.findThumbnail(attachment.getSha256()) : Optional.empty();
+        if (thumbnail.isEmpty()) {
+            response.sendRedirect(request.getContextPath() + "/attachments/" + id);
+            return;
+        }
+        String contentType = thumbnail.get().toString().endsWith(".png")
+                ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE;
+        send(request, response, thumbnail.get(), contentType, "t-" + attachment.getSha256(), ContentDisposition.inline().build());
+    }
+
+    /**
+     * 파일(또는 Range로 요청된 구간)을 응답으로 전송합니다.
+     */
+    private void send(HttpServletRequest request, HttpServletResponse response, Path file, String contentType,
+                      String etag, ContentDisposition disposition) throws IOException {
+        long length;
+        try {
+            length = Files.size(file);
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND); // /error 재요청(인증 필요) 없이 상태만 응답
+            return;
+        }
+
+        String quotedEtag = "\"" + etag + "\"";
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (quotedEtag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0) {
+            List<HttpRange> ranges = List.of();
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                start = length; // 잘못된 Range -> 416
+            }
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count <= 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 톰캣이 서블릿 처리 후 커널 sendfile로 전송 (end는 포함하지 않는 위치)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 파일이 잘린 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 존재하지 않는 첨부파일 (서비스의 IllegalArgumentException) -> 404
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public void handleNotFound() {
+    }
+}
@@ -23,11 +23,12 @@ public class CommentController {
     private final CommentService commentService;
 
     /**
-     * 새 댓글을 생성합니다.
+     * 새 댓글(또는 답글)을 생성합니다.
      * 이 메서드는 /posts/{postId}/comments URL로 POST 요청을 받도록 PostController에 만들 수도 있지만,
      * 여기서는 /comments/create/{postId}로 분리했습니다.
      *
      * @param postId 댓글이 달릴 게시글 ID
+     * @param parentId 답글이면 부모 댓글 ID (일반 댓글은 전송하지 않음)
      * @param content 댓글 내용
      * @param userDetails 현재 로그인한 사용자 정보 (Spring Security가 제공)
      * @param redirectAttributes 리다이렉트 시 메시지를 전달하기 위함
@@ -35,6 +36,7 @@ public class CommentController {
      */
     @PostMapping("/create/{postId}")
     public String createComment(@PathVariable("postId") Long postId,
+                                @RequestParam(value = "parentId", required = false) Long parentId,
                                 @RequestParam("content") String content,
                                 @AuthenticationPrincipal UserDetails userDetails,
                                 RedirectAttributes redirectAttributes) {
@@ -45,7 +47,7 @@ public class CommentController {
         }
 
         try {
-            commentService.createComment(postId, content, userDetails.getUsername());
+            commentService.createComment(postId, parentId, content, userDetails.getUsername());
         } catch (IllegalArgumentException e) {
             // 사용자를 찾을 수 없거나 게시글을 찾을 수 없는 경우
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
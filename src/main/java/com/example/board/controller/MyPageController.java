@@ -1,10 +1,14 @@
 package com.example.board.controller;
 
+import com.example.board.model.Comment;
+import com.example.board.model.Post;
 import com.example.board.model.User;
 import com.example.board.service.CommentService;
 import com.example.board.service.PostService;
 import com.example.board.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 
 /**
  * 마이페이지 관련 요청을 처리하는 컨트롤러
@@ -48,11 +53,9 @@ public class MyPageController {
             model.addAttribute("userCommentCount", commentCount);
             model.addAttribute("userTotalRecommendations", totalRecommendations);
 
-            // 내가 쓴 게시글 목록 (최신 10개)
-            model.addAttribute("myPosts", postService.findPostsByUserId(userId));
-
-            // 내가 쓴 댓글 목록 (최신 10개)
-            model.addAttribute("myComments", commentService.findCommentsByUserId(userId));
+            // 내가 쓴 게시글 / 댓글 목록 (첫 페이지, 나머지는 '더보기'로 이어서 조회)
+            addPostPage(model, postService.findPostsByUserId(userId, null, null));
+            addCommentPage(model, commentService.findCommentsByUserId(userId, null, null));
 
         } catch (Exception e) {
             // 오류 발생 시 기본값 설정
@@ -64,6 +67,54 @@ public class MyPageController {
         return "user/mypage"; // templates/user/mypage.html
     }
 
+    /**
+     * 내가 쓴 게시글 다음 페이지 (GET /user/mypage/posts?cursorAt=...&cursorId=...)
+     * 마이페이지의 게시글 목록 조각(fragment)만 렌더링합니다.
+     */
+    @GetMapping("/mypage/posts")
+    public String myPostPage(@RequestParam("cursorAt") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+                             @RequestParam("cursorId") Long cursorId,
+                             Model model, Principal principal) {
+        addPostPage(model, postService.findPostsByUserId(principal.getName(), cursorAt, cursorId));
+        return "user/mypage :: myPostPage";
+    }
+
+    /**
+     * 내가 쓴 댓글 다음 페이지 (GET /user/mypage/comments?cursorAt=...&cursorId=...)
+     * 마이페이지의 댓글 목록 조각(fragment)만 렌더링합니다.
+     */
+    @GetMapping("/mypage/comments")
+    public String myCommentPage(@RequestParam("cursorAt") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+                                @RequestParam("cursorId") Long cursorId,
+                                Model model, Principal principal) {
+        addCommentPage(model, commentService.findCommentsByUserId(principal.getName(), cursorAt, cursorId));
+        return "user/mypage :: myCommentPage";
+    }
+
+    /**
+     * 게시글 페이지와 다음 페이지 커서를 모델에 추가합니다.
+     */
+    private void addPostPage(Model model, Slice<Post> page) {
+        model.addAttribute("myPosts", page.getContent());
+        if (page.hasNext()) {
+            Post last = page.getContent().get(page.getNumberOfElements() - 1);
+            model.addAttribute("nextPostCursorAt", last.getCreatedAt());
+            model.addAttribute("nextPostCursorId", last.getId());
+        }
+    }
+
+    /**
+     * 댓글 페이지와 다음 페이지 커서를 모델에 추가합니다.
+     */
+    private void addCommentPage(Model model, Slice<Comment> page) {
+        model.addAttribute("myComments", page.getContent());
+        if (page.hasNext()) {
+            Comment last = page.getContent().get(page.getNumberOfElements() - 1);
+            model.addAttribute("nextCommentCursorAt", last.getCreatedAt());
+            model.addAttribute("nextCommentCursorId", last.getId());
+        }
+    }
+
     /**
      * 비밀번호 변경 폼 (GET /user/change-password)
      */
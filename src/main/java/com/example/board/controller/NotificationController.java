@@ -0,0 +1,50 @@
+package com.example.board.controller;
+
+import com.example.board.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.security.Principal;
+
+/**
+ * 새 댓글 알림 관련 요청을 처리하는 컨트롤러
+ */
+@Controller
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 알림 목록 페이지 (GET /notifications)
+     */
+    @GetMapping
+    public String list(Model model, Principal principal) {
+        model.addAttribute("notifications", notificationService.findRecent(principal.getName()));
+        return "notifications/list"; // templates/notifications/list.html
+    }
+
+    /**
+     * 알림 읽음 처리 후 게시글로 이동 (POST /notifications/{id}/read)
+     */
+    @PostMapping("/{id}/read")
+    public String read(@PathVariable Long id, Principal principal) {
+        Long postId = notificationService.markRead(id, principal.getName());
+        return "redirect:/posts/" + postId;
+    }
+
+    /**
+     * 모든 알림 읽음 처리 (POST /notifications/read-all)
+     */
+    @PostMapping("/read-all")
+    public String readAll(Principal principal) {
+        notificationService.markAllRead(principal.getName());
+        return "redirect:/notifications";
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.board.controller;
+
+import com.example.board.repository.CommentRepository.CommentView;
+import com.example.board.repository.PostRepository.PostDetailView;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.service.CommentService;
+import com.example.board.service.PostService;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글/댓글 읽기 전용 JSON API (/api/v1, 모바일 클라이언트용)
+ *
+ * - 엔티티 대신 프로젝션을 그대로 직렬화하며, 작성자 정보는 응답에 포함하지 않습니다. (익명 게시판)
+ * - 목록은 키셋 커서(cursorAt, cursorId), 댓글은 답글 트리 경로 커서(cursor)로 다음 페이지를 조회합니다.
+ * - 댓글은 배치 단위로 조회하면서 Jackson 스트리밍 API로 바로 기록합니다. (전체 목록을 메모리에 올리지 않음)
+ * - JSON 응답은 gzip으로 압축됩니다. (WebServerConfig)
+ */
+@RestController
+@RequestMapping("/api/v1/posts")
+@RequiredArgsConstructor
+public class PostApiController {
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${board.api.max-page-size:100}")
+    private int maxPageSize; // 게시글 목록 최대 페이지 크기
+
+    @Value("${board.api.max-comments:1000}")
+    private int maxComments; // 댓글 한 번에 최대 응답 개수
+
+    /**
+     * 게시글 목록 (GET /api/v1/posts?cursorAt=...&cursorId=...&size=20)
+     */
+    @GetMapping
+    public PostPage listPosts(@RequestParam(value = "cursorAt", required = false)
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorAt,
+                              @RequestParam(value = "cursorId", required = false) Long cursorId,
+                              @RequestParam(value = "size", defaultValue = "20") int size) {
+        Slice<PostSummary> page = postService.findSummaryPage(cursorAt, cursorId, clamp(size, maxPageSize));
+        if (!page.hasNext()) {
+            return new PostPage(page.getContent(), null, null);
+        }
+        PostSummary last = page.getContent().get(page.getNumberOfElements() - 1);
+        return new PostPage(page.getContent(), last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 게시글 상세 (GET /api/v1/posts/{id}) (조회수 증가 O)
+     */
+    @GetMapping("/{id}")
+    public PostDetail getPost(@PathVariable Long id, HttpServletRequest request) {
+        // 고유 방문자 키: 상세 화면(PostController)과 같은 규칙
+        Principal principal = request.getUserPrincipal();
+        String viewerKey = principal != null
+                ? "u:" + principal.getName()
+                : "a:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+        PostDetailView post = postService.getPostDetailView(id, viewerKey);
+        return new PostDetail(post, postService.getRenderedContent(id));
+    }
+
+    /**
+     * 댓글 목록 (GET /api/v1/posts/{id}/comments?cursor=...&limit=...)
+     * 답글 트리 순서(부모 다음에 답글)로 응답하며, depth로 들여쓰기 단계를 알려줍니다.
+     * 응답 형식: {"comments":[{"id":1,"depth":0,"anonymousId":0,"content":"...","createdAt":"..."}...],
+     *            "nextCursor":"..."}
+     */
+    @GetMapping(value = "/{id}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(
+            @PathVariable Long id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "200") int limit) {
+        postService.findById(id); // 존재하지 않는 게시글이면 응답을 시작하기 전에 404
+        int max = clamp(limit, maxComments);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator json = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("comments");
+                CommentService.CommentStreamResult result = commentService.streamCommentViews(id, cursor, max,
+                        view -> writeComment(json, view));
+                json.writeEndArray();
+                CommentView next = result.hasMore() ? result.last() : null;
+                json.writeObjectField("nextCursor", next != null ? next.getPath() : null);
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 댓글 하나와 그 아래의 모든 답글 (GET /api/v1/posts/{id}/comments/{commentId}/thread?limit=...)
+     * 응답 형식: {"comments":[...]} (첫 항목이 요청한 댓글, 이후 답글 트리 순서)
+     */
+    @GetMapping(value = "/{id}/comments/{commentId}/thread", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> thread(@PathVariable Long id,
+                                                        @PathVariable Long commentId,
+                                                        @RequestParam(value = "limit", defaultValue = "200") int limit) {
+        List<CommentView> thread = commentService.findThread(id, commentId, clamp(limit, maxComments));
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator json = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("comments");
+                thread.forEach(view -> writeComment(json, view));
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private void writeComment(JsonGenerator json, CommentView view) {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", view.getId());
+            json.writeNumberField("depth", view.getDepth()); // 0: 댓글, 1~: 답글
+            json.writeObjectField("anonymousId", view.getAnonymousId()); // 0: 글 작성자, 1~: 익명 번호
+            json.writeStringField("content", commentService.renderedContentOf(view));
+            json.writeObjectField("createdAt", view.getCreatedAt());
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결 종료 등
+        }
+    }
+
+    /**
+     * 존재하지 않는 게시글 (서비스의 IllegalArgumentException) -> 404
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(1, Math.min(value, max));
+    }
+
+    /**
+     * 게시글 목록 응답 (다음 페이지가 없으면 커서는 null)
+     */
+    public record PostPage(List<PostSummary> posts, LocalDateTime nextCursorAt, Long nextCursorId) {
+    }
+
+    /**
+     * 게시글 상세 응답 (프로젝션 필드 + 렌더링된 본문 HTML)
+     */
+    public record PostDetail(@JsonUnwrapped PostDetailView post, String content) {
+    }
+}
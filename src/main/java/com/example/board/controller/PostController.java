@@ -1,10 +1,18 @@
 package com.example.board.controller;
 
+import com.example.board.model.Comment;
 import com.example.board.model.Post;
+import com.example.board.service.AttachmentService;
 import com.example.board.service.CommentService;
+import com.example.board.service.PostEventHub;
 import com.example.board.service.PostService;
+import com.example.board.service.PostStatsRollup;
 import com.example.board.service.RecommendationService; // RecommendationService import
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
@@ -13,8 +21,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.security.Principal;
+import java.time.Duration;
 
 /**
  * 게시글(Post) 관련 웹 요청을 처리하는 컨트롤러
@@ -27,33 +40,62 @@ public class PostController {
     private final PostService postService;
     private final CommentService commentService; // 댓글 조회를 위해 CommentService 주입
     private final RecommendationService recommendationService; // 추천 기능 C-Service 주입
+    private final PostEventHub postEventHub; // 실시간 갱신(SSE) 허브
+    private final PostStatsRollup postStatsRollup; // 기간별 조회수/추천수 집계
+    private final AttachmentService attachmentService; // 첨부파일
 
     /**
      * 게시글 목록 페이지 (GET /posts)
+     * 목록을 배치 단위로 읽으면서 렌더링하고(Thymeleaf 부분 출력), 각 배치를 조회하기 전에
+     * 지금까지 렌더링된 HTML(헤더 포함)을 클라이언트로 보냅니다. (응답 버퍼 크기만큼만 메모리 사용)
      */
     @GetMapping
-    public String listPosts(Model model) {
-        model.addAttribute("posts", postService.findAll());
+    public String listPosts(Model model, HttpServletResponse response) {
+        model.addAttribute("posts", postService.streamAll(() -> flush(response)));
         return "posts/list"; // templates/posts/list.html
     }
 
+    private void flush(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결 종료 등
+        }
+    }
+
     /**
      * 게시글 상세 보기 페이지 (GET /posts/{id})
      * (★조회수 증가 로직 반영★)
      */
     @GetMapping("/{id}")
-    public String showPost(@PathVariable Long id, Model model) {
+    public String showPost(@PathVariable Long id, Model model, HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean loggedIn = authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal());
+
+        // 고유 방문자 키: 로그인 사용자는 ID, 비로그인 사용자는 IP + User-Agent (세션 생성 없이)
+        String viewerKey = loggedIn
+                ? "u:" + authentication.getName()
+                : "a:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+
         // [수정됨] findById -> getPostDetail (조회수 증가 O)
-        Post post = postService.getPostDetail(id);
+        Post post = postService.getPostDetail(id, viewerKey);
         model.addAttribute("post", post);
+        model.addAttribute("attachments", attachmentService.findByPostId(id));
 
-        // 댓글 목록 추가
-        model.addAttribute("comments", commentService.findCommentsByPostId(id));
+        // 작성자 본인에게만 최근 24시간 / 7일 조회수·추천수 표시
+        if (loggedIn && post.getUser().getUserId().equals(authentication.getName())) {
+            model.addAttribute("stats24h", postStatsRollup.totals(id, Duration.ofHours(24)));
+            model.addAttribute("stats7d", postStatsRollup.totals(id, Duration.ofDays(7)));
+        }
+
+        // 댓글 목록 추가 (첫 페이지만, 이후는 '댓글 더보기'로 조회)
+        model.addAttribute("postId", id);
+        addCommentPage(model, commentService.findCommentPage(id, null));
 
         // [추가됨] 현재 사용자의 추천 여부 확인
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         boolean isRecommended = false;
-        if (authentication != null && authentication.isAuthenticated() && !"anonymousUser".equals(authentication.getPrincipal())) {
+        if (loggedIn) {
             String userId = authentication.getName();
             isRecommended = recommendationService.isRecommended(id, userId);
         }
@@ -62,6 +104,43 @@ public class PostController {
         return "posts/detail"; // templates/posts/detail.html
     }
 
+    /**
+     * 댓글 다음 페이지 조회 (GET /posts/{id}/comments?cursor=...)
+     * 상세 페이지의 댓글 목록 조각(fragment)만 렌더링합니다. (조회수 증가 X)
+     */
+    @GetMapping("/{id}/comments")
+    public String showCommentPage(@PathVariable Long id,
+                                  @RequestParam("cursor") String cursor,
+                                  Model model) {
+        model.addAttribute("postId", id);
+        addCommentPage(model, commentService.findCommentPage(id, cursor));
+        return "posts/detail :: commentPage"; // detail.html의 commentPage 조각
+    }
+
+    /**
+     * 댓글 페이지와 다음 페이지 커서를 모델에 추가합니다.
+     */
+    private void addCommentPage(Model model, Slice<Comment> page) {
+        model.addAttribute("comments", page.getContent());
+        model.addAttribute("hasMoreComments", page.hasNext());
+        model.addAttribute("maxCommentDepth", Comment.MAX_DEPTH); // 이 깊이의 댓글에는 답글 폼을 표시하지 않음
+        if (page.hasNext()) {
+            Comment last = page.getContent().get(page.getNumberOfElements() - 1);
+            model.addAttribute("nextCursor", last.getPath());
+        }
+    }
+
+    /**
+     * 게시글 실시간 이벤트 구독 (GET /posts/{id}/events)
+     * 새 댓글(comment)과 추천 수 변경(recommend) 이벤트를 SSE로 전달합니다.
+     * (조회수 증가 X, 댓글 목록 재조회 X)
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long id) {
+        postService.findById(id); // 존재하지 않는 게시글이면 예외
+        return postEventHub.subscribe(id);
+    }
+
     /**
      * 새 게시글 작성 폼 페이지 (GET /posts/new)
      */
@@ -86,7 +165,7 @@ public class PostController {
      */
     @GetMapping("/edit/{id}")
     public String showEditForm(@PathVariable Long id, Model model) {
-        model.addAttribute("post", postService.findById(id)); // (조회수 증가 X)
+        model.addAttribute("post", postService.findWithContent(id)); // (조회수 증가 X, 본문 포함)
         return "posts/edit-form"; // templates/posts/edit-form.html
     }
 
@@ -0,0 +1,77 @@
+package com.example.board.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부파일 (tbl_attachment)
+ * 파일 내용은 DB가 아닌 로컬 디스크에 SHA-256 해시 이름으로 저장하며(AttachmentStorage),
+ * 같은 내용의 파일은 한 번만 저장됩니다. (여러 첨부파일 행이 같은 파일을 가리킬 수 있음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_attachment",
+        indexes = {
+                // 게시글별 첨부파일 조회용 인덱스
+                @Index(name = "idx_attachment_board", columnList = "board_id, is_del")
+        }
+)
+@SQLDelete(sql = "UPDATE tbl_attachment SET is_del = true WHERE id = ?") // 삭제 요청 시 is_del = true로 업데이트
+@SQLRestriction("is_del = false") // 조회 시 항상 is_del = false인 것만 조회
+public class Attachment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 첨부된 게시글
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Post post;
+
+    // 업로드한 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 업로드 시 파일 이름 (다운로드 시 Content-Disposition에 사용)
+    @Column(name = "original_name", nullable = false, length = 255)
+    private String originalName;
+
+    // 응답 Content-Type (허용된 이미지 형식이 아니면 application/octet-stream)
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    // 파일 내용의 SHA-256 (16진수 64자, 저장 파일 이름)
+    @Column(name = "sha256", nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String sha256;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // 'is_del' 컬럼 (Soft Delete)
+    @Column(name = "is_del")
+    @ColumnDefault("false")
+    private boolean isDel = false;
+
+    /**
+     * 이미지 첨부파일인지 확인합니다. (썸네일 생성 / 본문 내 표시 대상)
+     */
+    public boolean isImage() {
+        return contentType.startsWith("image/");
+    }
+}
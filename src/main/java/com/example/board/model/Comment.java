@@ -15,11 +15,24 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tbl_comment") // 사용자가 요청한 테이블 이름
-@SQLDelete(sql = "UPDATE tbl_comment SET is_del = true WHERE id = ?") // 삭제 요청 시 is_del = true로 업데이트
+@Table(name = "tbl_comment", // 사용자가 요청한 테이블 이름
+        indexes = {
+                // 게시글별 댓글 트리 조회 / 키셋 페이지네이션용 인덱스 (board_id, is_del, path)
+                @Index(name = "idx_comment_board_del_path", columnList = "board_id, is_del, path"),
+                // 사용자별 작성 댓글(최신순) 조회용 인덱스
+                @Index(name = "idx_comment_user_created", columnList = "user_id, is_del, created_at")
+        }
+)
+// 삭제 요청 시 is_del = true로 업데이트 (id만 사용하여 모든 월 파티션을 읽으므로 CommentService는 softDelete 사용)
+@SQLDelete(sql = "UPDATE tbl_comment SET is_del = true WHERE id = ?")
 @Where(clause = "is_del = false") // 조회 시 항상 is_del = false인 것만 조회
 public class Comment {
 
+    // 경로 한 단계(댓글 ID)의 길이: 36진수 8자리 고정 (최대 ID 36^8 - 1)
+    public static final int PATH_SEGMENT_LENGTH = 8;
+    // 최대 깊이 (0: 댓글, 1~: 답글), path 컬럼 길이 255 / 8
+    public static final int MAX_DEPTH = 255 / PATH_SEGMENT_LENGTH - 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,8 +50,17 @@ public class Comment {
     @Column(nullable = false, length = 500)
     private String content;
 
+    // 화면 표시용으로 미리 렌더링된 HTML (ContentRenderer, 작성 시 1회 생성)
+    @Column(name = "rendered_content", columnDefinition = "TEXT")
+    private String renderedContent;
+
+    // renderedContent를 만든 렌더러 버전 (ContentRenderer.VERSION과 다르면 조회 시 재렌더링)
+    @Column(name = "render_version")
+    @ColumnDefault("0")
+    private int renderVersion = 0;
+
     @CreationTimestamp
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false) // 월 단위 파티션 키 (db/044)
     private LocalDateTime createdAt;
 
     // 'is_del' 컬럼 (Soft Delete)
@@ -51,6 +73,17 @@ public class Comment {
     @Column(name = "anonymous_id")
     private Integer anonymousId; // '작성자'는 0, 익명은 1부터 시작 등
 
+    // 'path' 컬럼 (답글 트리의 경로, materialized path)
+    // 부모 댓글의 path + 자기 ID(36진수 8자리)이므로 path 순서가 곧 화면 표시 순서(부모 다음에 답글)이고,
+    // 한 댓글의 하위 트리는 path 범위 [path, path + '~') 하나로 조회됩니다.
+    @Column(name = "path", nullable = false, length = 255,
+            columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String path = "";
+
+    // 이 댓글 바로 위에 '삭제된 댓글입니다' 자리로 표시할 삭제된 조상 댓글 수 (화면 표시용, 저장하지 않음)
+    // 삭제된 댓글은 조회되지 않으므로 답글이 다른 댓글의 답글처럼 보이지 않도록 함 (CommentService.markDeletedAncestors)
+    @Transient
+    private int deletedAncestors;
 
     // 서비스 레이어에서 익명 ID를 설정하기 위한 생성자 (예시)
     public Comment(Post post, User user, String content, Integer anonymousId) {
@@ -59,5 +92,42 @@ public class Comment {
         this.content = content;
         this.anonymousId = anonymousId;
     }
+
+    /**
+     * 답글 깊이 (0: 댓글, 1: 답글, 2: 답글의 답글 ...)
+     */
+    public int getDepth() {
+        return Math.max(path.length() / PATH_SEGMENT_LENGTH - 1, 0);
+    }
+
+    /**
+     * 부모 경로 아래에 댓글 ID를 붙인 경로를 만듭니다.
+     * @param parentPath 부모 댓글의 path (최상위 댓글은 "")
+     * @param id 댓글 ID
+     */
+    public static String childPath(String parentPath, long id) {
+        String segment = Long.toString(id, Character.MAX_RADIX);
+        if (segment.length() > PATH_SEGMENT_LENGTH) {
+            throw new IllegalStateException("댓글 ID가 경로 범위를 넘었습니다: " + id);
+        }
+        return parentPath + "0".repeat(PATH_SEGMENT_LENGTH - segment.length()) + segment;
+    }
+
+    /**
+     * 부모 댓글의 경로를 반환합니다.
+     * @param path 댓글의 path
+     * @return 부모 댓글의 path (최상위 댓글은 "")
+     */
+    public static String parentPath(String path) {
+        return path.substring(0, Math.max(path.length() - PATH_SEGMENT_LENGTH, 0));
+    }
+
+    /**
+     * 하위 트리 범위의 상한 (이 값 미만이면 하위 트리)
+     * 경로 문자는 [0-9a-z]뿐이므로 '~'(0x7E)를 붙인 값은 모든 하위 경로보다 큽니다.
+     */
+    public static String subtreeUpperBound(String path) {
+        return path + "~";
+    }
 }
 
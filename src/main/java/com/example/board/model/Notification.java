@@ -0,0 +1,57 @@
+package com.example.board.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 게시글 새 댓글 알림 (tbl_notification)
+ * 수신자 + 게시글당 1행만 유지하며, 읽지 않은 동안 달린 댓글 수를 누적합니다. ("새 댓글 5개")
+ * 행은 NotificationService가 주기적으로 모아서 upsert 하므로 JPA로는 읽기/읽음 처리만 합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_notification",
+        uniqueConstraints = {
+                // 수신자 + 게시글당 1행 (upsert 기준)
+                @UniqueConstraint(name = "uk_notification_recipient_board", columnNames = {"recipient_id", "board_id"})
+        },
+        indexes = {
+                // 읽지 않은 알림 수 / 최근 알림 목록 조회용 인덱스
+                @Index(name = "idx_notification_recipient_read", columnList = "recipient_id, is_read, updated_at")
+        }
+)
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 알림을 받는 사용자 PK (게시글 작성자, tbl_user.id)
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    // 댓글이 달린 게시글
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    private Post post;
+
+    // 마지막으로 읽은 이후 달린 새 댓글 수
+    @Column(name = "comment_count", nullable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    @Column(name = "is_read", nullable = false)
+    @ColumnDefault("false")
+    private boolean read = false;
+
+    // 마지막으로 새 댓글이 반영된 시각
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -18,8 +18,16 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tbl_board") // 사용자가 요청한 테이블 이름
-@SQLDelete(sql = "UPDATE tbl_board SET is_del = true WHERE id = ?") // 삭제 요청 시 is_del = true로 업데이트
+@Table(name = "tbl_board", // 사용자가 요청한 테이블 이름
+        indexes = {
+                // 목록 키셋 페이지네이션(최신순)용 인덱스 (is_del, created_at, id)
+                @Index(name = "idx_board_del_created", columnList = "is_del, created_at, id"),
+                // 사용자별 작성글(최신순) 조회용 인덱스
+                @Index(name = "idx_board_user_created", columnList = "user_id, is_del, created_at")
+        }
+)
+// 삭제 요청 시 is_del = true로 업데이트 (id만 사용하여 모든 월 파티션을 읽으므로 PostService는 softDelete 사용)
+@SQLDelete(sql = "UPDATE tbl_board SET is_del = true WHERE id = ?")
 @Where(clause = "is_del = false") // 조회 시 항상 is_del = false인 것만 조회
 public class Post {
 
@@ -35,12 +43,17 @@ public class Post {
     @Column(nullable = false, length = 100)
     private String title;
 
-    @Lob // 대용량 텍스트
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // 본문은 별도 테이블(tbl_board_content, PostContent)에 압축 저장하며,
+    // 상세/수정 화면에서만 PostService가 읽어서 채웁니다. (목록 조회 시에는 null)
+    @Transient
     private String content;
 
+    // 화면 표시용으로 미리 렌더링된 본문 HTML (상세 화면에서만 채워짐)
+    @Transient
+    private String renderedContent;
+
     @CreationTimestamp // 엔티티 생성 시 자동으로 현재 시간 저장
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false) // 월 단위 파티션 키 (db/044)
     private LocalDateTime createdAt;
 
     // ★★★ [오류 수정] updatedAt 필드 추가 ★★★
@@ -54,7 +67,8 @@ public class Post {
     private boolean isDel = false;
 
     // 'view_count' 컬럼 (조회수)
-    @Column(name = "view_count")
+    // PostService가 원자적 UPDATE(증가 쿼리)로만 변경합니다. (동시 조회 시 유실 방지, updatable = false)
+    @Column(name = "view_count", updatable = false)
     @ColumnDefault("0") // 기본값 0
     private int viewCount = 0;
 
@@ -64,9 +78,22 @@ public class Post {
     @ColumnDefault("0") // 기본값 0
     private int recommendationCount = 0;
 
+    // 'unique_viewer_count' 컬럼 (고유 방문자 수 추정값, HyperLogLog)
+    // UniqueViewerCounter가 주기적으로 UPDATE 쿼리로만 변경합니다. (updatable = false)
+    @Column(name = "unique_viewer_count", updatable = false)
+    @ColumnDefault("0")
+    private long uniqueViewerCount = 0;
+
+    // 'comment_count' 컬럼 (댓글 수, 비정규화)
+    // CommentService가 원자적 UPDATE(증감 쿼리)로만 변경합니다.
+    // updatable = false: 엔티티 더티 체킹(조회수 증가 등)으로 오래된 값이 덮어써지지 않도록 함
+    @Column(name = "comment_count", updatable = false)
+    @ColumnDefault("0") // 기본값 0
+    private int commentCount = 0;
+
     // 'Post'가 삭제되면 연관된 'Comment'도 모두 삭제 (Cascade)
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    @OrderBy("createdAt asc") // 댓글을 생성 시간순으로 정렬
+    @OrderBy("path asc") // 답글 트리 순서로 정렬 (부모 다음에 답글, 같은 부모 아래에서는 작성순)
     private List<Comment> comments;
 
     // 'Post'가 삭제되면 연관된 'Recommendation'도 모두 삭제 (Cascade)
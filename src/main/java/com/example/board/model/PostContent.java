@@ -0,0 +1,49 @@
+package com.example.board.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (tbl_board에서 분리된 별도 테이블)
+ *
+ * 목록/메인 화면 등 본문이 필요 없는 조회에서 큰 본문을 함께 읽지 않도록 분리했습니다.
+ * 본문은 상세/수정 화면에서만 PostService를 통해 조회합니다.
+ * 일정 크기 이상의 본문은 Deflate로 압축하여 저장합니다. (PostContentCodec 참고)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_board_content")
+public class PostContent {
+
+    public static final byte CODEC_NONE = 0;    // 압축 안 함 (UTF-8 그대로)
+    public static final byte CODEC_DEFLATE = 1; // Deflate 압축
+
+    // 'tbl_board'의 'id'와 동일한 값 (게시글 1개당 본문 1개)
+    @Id
+    @Column(name = "board_id")
+    private Long postId;
+
+    // 저장 방식 (CODEC_NONE / CODEC_DEFLATE)
+    @Column(name = "codec", nullable = false)
+    private byte codec;
+
+    // 압축 전 UTF-8 바이트 길이 (압축 해제 버퍼 크기 및 통계용)
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Lob // 대용량 바이너리
+    @Column(name = "body", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] body;
+
+    // 화면 표시용으로 미리 렌더링된 HTML (ContentRenderer, 저장 시 1회 생성)
+    @Column(name = "rendered_html", columnDefinition = "LONGTEXT")
+    private String renderedHtml;
+
+    // renderedHtml을 만든 렌더러 버전 (ContentRenderer.VERSION과 다르면 조회 시 재렌더링)
+    @Column(name = "render_version", nullable = false)
+    private int renderVersion;
+}
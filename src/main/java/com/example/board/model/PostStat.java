@@ -0,0 +1,79 @@
+package com.example.board.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 게시글별 시간 구간(분/시/일) 조회수·추천수 집계 (tbl_board_stats)
+ * PostStatsRollup이 메모리에서 모은 값을 주기적으로 더해서(upsert) 저장합니다.
+ * 추천수는 구간 내 증감(추천 +1, 취소 -1)의 합입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(PostStat.Key.class)
+@Table(name = "tbl_board_stats",
+        indexes = @Index(name = "idx_board_stats_granularity_bucket", columnList = "granularity, bucket_start"))
+public class PostStat {
+
+    @Id
+    @Column(name = "board_id")
+    private Long postId;
+
+    @Id
+    @Enumerated(EnumType.ORDINAL) // 0: 분, 1: 시, 2: 일
+    @Column(name = "granularity", columnDefinition = "TINYINT")
+    private Granularity granularity;
+
+    // 구간 시작 시각 (구간 단위로 절삭)
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "recommend_count", nullable = false)
+    private long recommendCount;
+
+    /**
+     * 집계 구간 단위 (순서 = DB 저장값이므로 변경 금지)
+     */
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES),
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        /**
+         * 시각을 구간 시작 시각으로 절삭합니다.
+         */
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+
+    /**
+     * 복합 키 (게시글 ID + 구간 단위 + 구간 시작 시각)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long postId;
+        private Granularity granularity;
+        private LocalDateTime bucketStart;
+    }
+}
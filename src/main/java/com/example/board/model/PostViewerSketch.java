@@ -0,0 +1,32 @@
+package com.example.board.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 고유 방문자 HyperLogLog 스케치 (HyperLogLog.toCompactBytes 형식, 최대 3073바이트)
+ * UniqueViewerCounter가 메모리의 스케치를 주기적으로 병합하여 저장합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "tbl_board_viewers")
+public class PostViewerSketch {
+
+    // 'tbl_board'의 'id'와 동일한 값
+    @Id
+    @Column(name = "board_id")
+    private Long postId;
+
+    // HyperLogLog 압축 표현 (희소 / 6비트 밀집, 이전 형식의 4096바이트 레지스터 배열도 읽음)
+    @Column(name = "registers", nullable = false, columnDefinition = "VARBINARY(4096)")
+    private byte[] registers;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.example.board.repository;
+
+import com.example.board.model.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 첨부파일(Attachment)을 처리하는 JpaRepository
+ */
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    /**
+     * 게시글의 첨부파일을 업로드한 사용자와 함께 업로드 순서대로 조회합니다.
+     * @param postId 게시글 ID
+     * @return 첨부파일 목록
+     */
+    @Query("SELECT a FROM Attachment a JOIN FETCH a.user WHERE a.post.id = :postId ORDER BY a.id ASC")
+    List<Attachment> findByPostIdWithUser(@Param("postId") Long postId);
+
+    /**
+     * 다운로드용 첨부파일을 조회합니다. (삭제된 게시글의 첨부파일은 제외)
+     * @param id 첨부파일 ID
+     * @return 첨부파일
+     */
+    @Query("SELECT a FROM Attachment a JOIN a.post p WHERE a.id = :id AND p.isDel = false")
+    Optional<Attachment> findDownloadableById(@Param("id") Long id);
+}
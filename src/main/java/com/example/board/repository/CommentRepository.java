@@ -3,41 +3,222 @@ package com.example.board.repository;
 import com.example.board.model.Comment;
 import com.example.board.model.Post;
 import com.example.board.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 특정 게시글(Post ID)에 해당하는 댓글 목록을 조회합니다.
-     * (is_del = false 등을 추가로 고려할 수 있습니다.)
+     * 특정 게시글(Post ID)에 해당하는 댓글 목록을 답글 트리 순서로 조회합니다.
      * @param postId 게시글 ID
-     * @return 댓글 목록
+     * @return 댓글 목록 (부모 다음에 답글)
      */
-    List<Comment> findByPostId(Long postId);
+    List<Comment> findByPostIdOrderByPathAsc(Long postId);
 
-    Optional<Comment> findFirstByPostAndUserAndAnonymousIdGreaterThanOrderByCreatedAtAsc(Post post, User user, int anonymousId);
+    /**
+     * 특정 게시글의 댓글 첫 페이지를 답글 트리 순서로 조회합니다. (키셋 페이지네이션)
+     * (board_id, is_del, path) 인덱스를 타도록 정렬 조건을 맞췄습니다.
+     * since(게시글 작성 시각 기준, PartitionWindows.childRowsSince) 이전의 월 파티션은 읽지 않습니다.
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한
+     * @param pageable 페이지 크기 (offset은 사용하지 않음)
+     * @return 댓글 Slice (다음 페이지 존재 여부 포함)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.createdAt >= :since " +
+            "ORDER BY c.path ASC")
+    Slice<Comment> findFirstCommentPage(@Param("postId") Long postId,
+                                        @Param("since") LocalDateTime since,
+                                        Pageable pageable);
+
+    /**
+     * 커서(path) 이후의 댓글 페이지를 조회합니다. (키셋 페이지네이션)
+     * OFFSET 없이 인덱스 범위 스캔으로 다음 페이지를 읽습니다.
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (파티션 가지치기용)
+     * @param path 이전 페이지 마지막 댓글의 path
+     * @param pageable 페이지 크기 (offset은 사용하지 않음)
+     * @return 댓글 Slice (다음 페이지 존재 여부 포함)
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId AND c.createdAt >= :since " +
+            "AND c.path > :path ORDER BY c.path ASC")
+    Slice<Comment> findCommentPageAfter(@Param("postId") Long postId,
+                                        @Param("since") LocalDateTime since,
+                                        @Param("path") String path,
+                                        Pageable pageable);
+
+    /**
+     * JSON API용 댓글 프로젝션의 첫 배치를 조회합니다. (작성자 정보 제외, 엔티티 미생성)
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (파티션 가지치기용)
+     * @param pageable 배치 크기 (offset은 사용하지 않음)
+     * @return 답글 트리 순서의 댓글 프로젝션 목록
+     */
+    @Query("SELECT c.id AS id, c.anonymousId AS anonymousId, c.content AS content, " +
+            "c.renderedContent AS renderedContent, c.renderVersion AS renderVersion, c.createdAt AS createdAt, " +
+            "c.path AS path FROM Comment c WHERE c.post.id = :postId AND c.createdAt >= :since ORDER BY c.path ASC")
+    List<CommentView> findCommentViews(@Param("postId") Long postId,
+                                       @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    /**
+     * 커서(path) 이후의 댓글 프로젝션 배치를 조회합니다. (키셋 페이지네이션)
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (파티션 가지치기용)
+     * @param path 이전 배치 마지막 댓글의 path
+     * @param pageable 배치 크기 (offset은 사용하지 않음)
+     * @return 답글 트리 순서의 댓글 프로젝션 목록
+     */
+    @Query("SELECT c.id AS id, c.anonymousId AS anonymousId, c.content AS content, " +
+            "c.renderedContent AS renderedContent, c.renderVersion AS renderVersion, c.createdAt AS createdAt, " +
+            "c.path AS path FROM Comment c WHERE c.post.id = :postId AND c.createdAt >= :since " +
+            "AND c.path > :path ORDER BY c.path ASC")
+    List<CommentView> findCommentViewsAfter(@Param("postId") Long postId,
+                                            @Param("since") LocalDateTime since,
+                                            @Param("path") String path,
+                                            Pageable pageable);
+
+    /**
+     * 댓글 하나와 그 아래의 모든 답글(하위 트리)을 답글 트리 순서로 조회합니다.
+     * path 범위 [from, to) 하나의 인덱스 범위 스캔으로 읽습니다. (깊이와 관계없이 쿼리 1번)
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (파티션 가지치기용, 루트 댓글의 작성 시각)
+     * @param from 하위 트리 루트 댓글의 path
+     * @param to 하위 트리 상한 (Comment.subtreeUpperBound)
+     * @param pageable 최대 개수 (offset은 사용하지 않음)
+     * @return 답글 트리 순서의 댓글 프로젝션 목록
+     */
+    @Query("SELECT c.id AS id, c.anonymousId AS anonymousId, c.content AS content, " +
+            "c.renderedContent AS renderedContent, c.renderVersion AS renderVersion, c.createdAt AS createdAt, " +
+            "c.path AS path FROM Comment c WHERE c.post.id = :postId AND c.createdAt >= :since " +
+            "AND c.path >= :from AND c.path < :to ORDER BY c.path ASC")
+    List<CommentView> findSubtreeViews(@Param("postId") Long postId,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("from") String from,
+                                       @Param("to") String to,
+                                       Pageable pageable);
+
+    /**
+     * 주어진 경로 중 삭제되지 않은 댓글의 경로를 조회합니다. (답글의 부모 댓글 삭제 여부 확인용)
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (파티션 가지치기용)
+     * @param paths 확인할 댓글 경로 목록
+     * @return 삭제되지 않은 댓글의 경로 목록
+     */
+    @Query("SELECT c.path FROM Comment c WHERE c.post.id = :postId AND c.createdAt >= :since AND c.path IN :paths")
+    List<String> findLivePaths(@Param("postId") Long postId,
+                               @Param("since") LocalDateTime since,
+                               @Param("paths") Collection<String> paths);
+
+    /**
+     * 특정 게시글에서 사용자가 익명으로 단 첫 댓글을 찾습니다. (since 이전의 월 파티션은 읽지 않음)
+     */
+    Optional<Comment> findFirstByPostAndUserAndAnonymousIdGreaterThanAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+            Post post, User user, int anonymousId, LocalDateTime since);
     /**
      * (★익명 기능★)
      * 특정 게시글(Post)에서 0(작성자)을 제외한 가장 큰 'anonymous_id'를 찾습니다.
      * (새로운 익명 사용자에게 다음 ID를 부여하기 위함)
      * @param post 게시글 엔티티
+     * @param since 작성 시각 하한 (파티션 가지치기용)
      * @return 가장 큰 anonymous_id (Optional)
      */
-    @Query("SELECT MAX(c.anonymousId) FROM Comment c WHERE c.post = :post AND c.anonymousId > 0")
-    Optional<Integer> findMaxAnonymousIdByPost(@Param("post") Post post);
+    @Query("SELECT MAX(c.anonymousId) FROM Comment c WHERE c.post = :post AND c.createdAt >= :since AND c.anonymousId > 0")
+    Optional<Integer> findMaxAnonymousIdByPost(@Param("post") Post post, @Param("since") LocalDateTime since);
 
     long countByUser(User user);
 
     /**
-     * 특정 사용자가 작성한 댓글을 최신순으로 조회합니다.
+     * 댓글을 논리적으로 삭제합니다. (is_del = true)
+     * 엔티티의 @SQLDelete(WHERE id = ?)와 달리 created_at 조건이 있어 해당 월 파티션 1개만 읽습니다.
+     * @param id 댓글 ID
+     * @param createdAt 댓글 작성 시각 (파티션 키)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDel = true WHERE c.id = :id AND c.createdAt = :createdAt")
+    int softDelete(@Param("id") Long id, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 게시글의 댓글을 모두 논리적으로 삭제합니다. (게시글 삭제 시)
+     * @param postId 게시글 ID
+     * @param since 작성 시각 하한 (PartitionWindows.childRowsSince, 게시글 작성 이전의 월 파티션은 읽지 않음)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.isDel = true WHERE c.post.id = :postId AND c.createdAt >= :since")
+    int softDeleteByPostId(@Param("postId") Long postId, @Param("since") LocalDateTime since);
+
+    /**
+     * 렌더러 버전이 바뀐 댓글의 렌더링된 HTML을 갱신합니다.
+     * @param id 댓글 ID
+     * @param createdAt 댓글 작성 시각 (파티션 키, 해당 월 파티션만 읽음)
+     * @param renderedContent 새로 렌더링된 HTML
+     * @param renderVersion 렌더러 버전
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.renderedContent = :renderedContent, c.renderVersion = :renderVersion " +
+            "WHERE c.id = :id AND c.createdAt = :createdAt")
+    int updateRenderedContent(@Param("id") Long id,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("renderedContent") String renderedContent,
+                              @Param("renderVersion") int renderVersion);
+
+    /**
+     * 특정 사용자가 작성 시각 구간 [from, to) 안에 작성한 댓글 중 커서(이전 페이지 마지막 댓글) 다음을 최신순으로 조회합니다.
+     * (user_id, is_del, created_at) 인덱스 + 해당 월 파티션만 읽습니다. (마이페이지 키셋 페이지네이션)
+     * 첫 페이지는 커서로 PartitionWindows.MAX / Long.MAX_VALUE를 넘깁니다.
      * @param user 사용자
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (제외)
+     * @param createdAt 커서 댓글의 작성 시각
+     * @param id 커서 댓글의 ID
+     * @param pageable 최대 개수 (페이지 번호는 항상 0)
      * @return 사용자가 작성한 댓글 목록
      */
-    List<Comment> findByUserOrderByCreatedAtDesc(User user);
+    @Query("SELECT c FROM Comment c WHERE c.user = :user AND c.createdAt >= :from AND c.createdAt < :to " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByUserWindow(@Param("user") User user,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    /**
+     * JSON API용 댓글 프로젝션 (작성자 정보 제외)
+     */
+    interface CommentView {
+        Long getId();
+
+        Integer getAnonymousId();
+
+        String getContent();
+
+        String getRenderedContent();
+
+        int getRenderVersion();
+
+        LocalDateTime getCreatedAt();
+
+        String getPath();
+
+        /**
+         * 답글 깊이 (0: 댓글, 1~: 답글)
+         */
+        default int getDepth() {
+            return Math.max(getPath().length() / Comment.PATH_SEGMENT_LENGTH - 1, 0);
+        }
+    }
 }
 
@@ -0,0 +1,51 @@
+package com.example.board.repository;
+
+import com.example.board.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 새 댓글 알림(Notification)을 처리하는 JpaRepository
+ */
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * 사용자의 최근 알림 목록 (게시글 포함, 최근 댓글 순)
+     * 삭제된 게시글의 알림은 제외합니다.
+     */
+    @Query("SELECT n FROM Notification n JOIN FETCH n.post p " +
+            "WHERE n.recipientId = (SELECT u.id FROM User u WHERE u.userId = :userId) AND p.isDel = false " +
+            "ORDER BY n.updatedAt DESC")
+    List<Notification> findRecentByUserId(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * 사용자의 읽지 않은 알림 수 (삭제된 게시글 제외)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n JOIN n.post p " +
+            "WHERE n.recipientId = (SELECT u.id FROM User u WHERE u.userId = :userId) " +
+            "AND n.read = false AND p.isDel = false")
+    long countUnreadByUserId(@Param("userId") String userId);
+
+    /**
+     * 알림 1건을 읽음 처리합니다. (본인 알림만)
+     * @return 읽음 처리된 행 수 (0: 없거나 이미 읽음)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true " +
+            "WHERE n.id = :id AND n.read = false " +
+            "AND n.recipientId = (SELECT u.id FROM User u WHERE u.userId = :userId)")
+    int markRead(@Param("id") Long id, @Param("userId") String userId);
+
+    /**
+     * 사용자의 모든 알림을 읽음 처리합니다.
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true " +
+            "WHERE n.read = false AND n.recipientId = (SELECT u.id FROM User u WHERE u.userId = :userId)")
+    int markAllRead(@Param("userId") String userId);
+}
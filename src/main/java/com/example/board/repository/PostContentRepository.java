@@ -0,0 +1,32 @@
+package com.example.board.repository;
+
+import com.example.board.model.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 게시글 본문(PostContent)을 처리하는 JpaRepository
+ * (ID = 게시글 ID)
+ */
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    /**
+     * 상세 화면용: 미리 렌더링된 HTML과 렌더러 버전만 조회합니다. (압축된 원문은 읽지 않음)
+     * @param postId 게시글 ID
+     * @return 렌더링된 본문 (Optional)
+     */
+    @Query("SELECT c.renderedHtml AS renderedHtml, c.renderVersion AS renderVersion FROM PostContent c WHERE c.postId = :postId")
+    Optional<RenderedContent> findRenderedByPostId(@Param("postId") Long postId);
+
+    /**
+     * 렌더링된 본문 프로젝션
+     */
+    interface RenderedContent {
+        String getRenderedHtml();
+
+        int getRenderVersion();
+    }
+}
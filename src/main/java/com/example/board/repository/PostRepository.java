@@ -2,11 +2,15 @@ package com.example.board.repository;
 
 import com.example.board.model.Post;
 import com.example.board.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Post 엔티티에 대한 데이터베이스 접근을 처리하는 JpaRepository입니다.
@@ -16,21 +20,6 @@ import java.util.List;
 @Repository // Spring Data JPA 리포지토리임을 나타냅니다.
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    /**
-     * 생성 날짜(createdAt)를 기준으로 내림차순 정렬하여
-     * 상위 5개의 게시글을 조회합니다. (메인 페이지용)
-     * (Finds the top 5 posts, ordered by createdAt descending (for main page))
-     * @return 최신 게시글 5개 목록 (List of 5 latest posts)
-     */
-    List<Post> findTop5ByOrderByCreatedAtDesc();
-
-    /**
-     * 생성 날짜(createdAt)를 기준으로 내림차순 정렬하여
-     * 상위 10개의 게시글을 조회합니다. (메인 페이지용)
-     * @return 최신 게시글 10개 목록
-     */
-    List<Post> findTop10ByOrderByCreatedAtDesc();
-
     List<Post> findAllByOrderByCreatedAtDesc();
 
     /**
@@ -57,12 +46,154 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Long sumRecommendationCountByUser(@Param("user") User user);
 
     /**
-     * 특정 사용자가 작성한 게시글을 최신순으로 조회합니다.
+     * 특정 사용자가 작성 시각 구간 [from, to) 안에 작성한 게시글 중 커서(이전 페이지 마지막 게시글) 다음을 최신순으로 조회합니다.
+     * (user_id, is_del, created_at) 인덱스 + 해당 월 파티션만 읽습니다. (마이페이지 키셋 페이지네이션)
+     * 첫 페이지는 커서로 PartitionWindows.MAX / Long.MAX_VALUE를 넘깁니다.
      * @param user 사용자
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (제외)
+     * @param createdAt 커서 게시글의 작성 시각
+     * @param id 커서 게시글의 ID
+     * @param pageable 최대 개수 (페이지 번호는 항상 0)
      * @return 사용자가 작성한 게시글 목록
      */
-    List<Post> findByUserOrderByCreatedAtDesc(User user);
+    @Query("SELECT p FROM Post p WHERE p.user = :user AND p.createdAt >= :from AND p.createdAt < :to " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByUserWindow(@Param("user") User user,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    /**
+     * 작성 시각 구간 [from, to) 안에서 커서(이전 페이지 마지막 게시글) 다음의 게시글 요약을 조회합니다.
+     * (최신순 키셋 페이지네이션, 엔티티가 아닌 프로젝션, PartitionWindows로 구간을 나눠 호출)
+     * 첫 페이지는 커서로 PartitionWindows.MAX / Long.MAX_VALUE를 넘깁니다.
+     * @param from 구간 시작 (포함)
+     * @param to 구간 끝 (제외)
+     * @param createdAt 커서 게시글의 작성 시각
+     * @param id 커서 게시글의 ID
+     * @param pageable 최대 개수 (페이지 번호는 항상 0)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.createdAt AS createdAt, " +
+            "p.recommendationCount AS recommendationCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.createdAt >= :from AND p.createdAt < :to " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findSummaryWindow(@Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /**
+     * 게시글 요약 1개를 조회합니다. (최신 게시글 목록의 항목 갱신용, 삭제된 게시글은 없음)
+     * @param id 게시글 ID
+     * @return 게시글 요약
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.createdAt AS createdAt, " +
+            "p.recommendationCount AS recommendationCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.id = :id")
+    Optional<PostSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * 게시글 작성 시각 (댓글 조회 시 파티션 하한 계산용, 삭제된 게시글은 없음)
+     * @param id 게시글 ID
+     * @return 작성 시각
+     */
+    @Query("SELECT p.createdAt FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    /**
+     * JSON API 상세 응답용 게시글 프로젝션을 조회합니다. (작성자 정보 제외)
+     * @param id 게시글 ID
+     * @return 게시글 상세 프로젝션
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.createdAt AS createdAt, p.updatedAt AS updatedAt, " +
+            "p.viewCount AS viewCount, p.uniqueViewerCount AS uniqueViewerCount, " +
+            "p.recommendationCount AS recommendationCount, p.commentCount AS commentCount " +
+            "FROM Post p WHERE p.id = :id")
+    Optional<PostDetailView> findDetailViewById(@Param("id") Long id);
+
+    /**
+     * 게시글을 작성자와 함께 조회합니다. (상세 화면용, 작성자 지연 로딩 없음)
+     * @param id 게시글 ID
+     * @return 작성자(user)가 채워진 게시글
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id = :id")
+    Optional<Post> findDetailById(@Param("id") Long id);
 
+    /**
+     * 댓글 수를 원자적으로 변경합니다. (comment_count = comment_count + delta)
+     * 읽고-수정-쓰기 대신 단일 UPDATE 문을 사용하므로 동시 댓글 작성 시에도 값이 유실되지 않습니다.
+     * id 조건만 있으므로 모든 월 파티션의 PK를 확인합니다. (작성 시각을 알면 created_at을 받는 메서드 사용)
+     * @param postId 게시글 ID
+     * @param delta 증감값 (+1: 작성, -1: 삭제)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 댓글 수를 원자적으로 변경합니다. (게시글 작성 시각을 아는 경우)
+     * created_at 조건이 있어 해당 월 파티션 1개만 읽습니다. (id만으로는 모든 월 파티션의 PK를 확인함, db/044)
+     * @param postId 게시글 ID
+     * @param createdAt 게시글 작성 시각 (파티션 키)
+     * @param delta 증감값 (+1: 작성, -1: 삭제)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId AND p.createdAt = :createdAt")
+    int addCommentCount(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt, @Param("delta") int delta);
+
+    /**
+     * 게시글을 논리적으로 삭제합니다. (is_del = true)
+     * 엔티티의 @SQLDelete(WHERE id = ?)와 달리 created_at 조건이 있어 해당 월 파티션 1개만 읽습니다.
+     * @param postId 게시글 ID
+     * @param createdAt 게시글 작성 시각 (파티션 키)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.isDel = true WHERE p.id = :postId AND p.createdAt = :createdAt")
+    int softDelete(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 고유 방문자 수 추정값을 갱신합니다. (UniqueViewerCounter 저장 시)
+     * @param postId 게시글 ID
+     * @param uniqueViewerCount 고유 방문자 수 추정값
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.uniqueViewerCount = :uniqueViewerCount WHERE p.id = :postId")
+    int updateUniqueViewerCount(@Param("postId") Long postId, @Param("uniqueViewerCount") long uniqueViewerCount);
+
+    /**
+     * 목록 화면용 게시글 요약 (영속성 컨텍스트에 올라가지 않는 프로젝션)
+     */
+    interface PostSummary {
+        Long getId();
+
+        String getTitle();
+
+        LocalDateTime getCreatedAt();
+
+        int getRecommendationCount();
+
+        int getCommentCount();
+    }
+
+    /**
+     * 상세 응답용 게시글 프로젝션 (작성자 정보 제외)
+     */
+    interface PostDetailView extends PostSummary {
+        LocalDateTime getUpdatedAt();
 
+        int getViewCount();
 
-}
\ No newline at end of file
+        long getUniqueViewerCount();
+    }
+}
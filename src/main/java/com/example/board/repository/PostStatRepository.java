@@ -0,0 +1,34 @@
+package com.example.board.repository;
+
+import com.example.board.model.PostStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글별 시간 구간 집계(PostStat)를 처리하는 JpaRepository
+ */
+public interface PostStatRepository extends JpaRepository<PostStat, PostStat.Key> {
+
+    /**
+     * 게시글의 구간 집계를 기간으로 조회합니다. (from 이상, to 미만)
+     */
+    @Query("SELECT s FROM PostStat s WHERE s.postId = :postId AND s.granularity = :granularity " +
+            "AND s.bucketStart >= :from AND s.bucketStart < :to ORDER BY s.bucketStart")
+    List<PostStat> findRange(@Param("postId") Long postId,
+                             @Param("granularity") PostStat.Granularity granularity,
+                             @Param("from") LocalDateTime from,
+                             @Param("to") LocalDateTime to);
+
+    /**
+     * 보존 기간이 지난 구간 집계를 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM PostStat s WHERE s.granularity = :granularity AND s.bucketStart < :before")
+    int deleteOlderThan(@Param("granularity") PostStat.Granularity granularity,
+                        @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,37 @@
+package com.example.board.repository;
+
+import com.example.board.model.PostViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 게시글별 고유 방문자 스케치(PostViewerSketch)를 처리하는 JpaRepository
+ * (ID = 게시글 ID)
+ */
+public interface PostViewerSketchRepository extends JpaRepository<PostViewerSketch, Long> {
+
+    /**
+     * 스케치가 없을 때만 저장합니다. (여러 서버가 같은 게시글의 첫 스케치를 동시에 저장해도 중복 키 오류 없음)
+     * @return 저장했으면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tbl_board_viewers (board_id, registers, updated_at) " +
+            "VALUES (:postId, :registers, :updatedAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("registers") byte[] registers,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 병합을 위해 스케치를 행 잠금(SELECT ... FOR UPDATE)으로 조회합니다.
+     * (다른 서버의 병합은 이 트랜잭션이 끝날 때까지 대기하므로 병합 결과가 유실되지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PostViewerSketch s WHERE s.postId = :postId")
+    Optional<PostViewerSketch> findForUpdate(@Param("postId") Long postId);
+}
@@ -4,7 +4,11 @@ import com.example.board.model.Post;
 import com.example.board.model.Recommendation;
 import com.example.board.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -38,6 +42,33 @@ public interface RecommendationRepository extends JpaRepository<Recommendation,
      */
     long countByPost(Post post);
 
+    /**
+     * 특정 게시글을 추천한 사용자 PK 목록을 조회합니다. (추천자 비트맵 로딩용)
+     *
+     * @param postId 게시글 ID
+     * @return 사용자 PK(tbl_user.id) 목록
+     */
+    @Query("SELECT r.user.id FROM Recommendation r WHERE r.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글 ID와 사용자 PK로 추천 여부를 확인합니다. (엔티티 조회 없이)
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 PK (tbl_user.id)
+     * @return 추천했다면 true
+     */
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
     // 참고: ID로도 카운트할 수 있습니다.
     // long countByPostId(Long postId);
+
+    /**
+     * 게시글의 추천 기록을 모두 삭제합니다. (게시글 삭제 시)
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM Recommendation r WHERE r.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
 }
@@ -0,0 +1,127 @@
+package com.example.board.service;
+
+import com.example.board.model.Attachment;
+import com.example.board.model.Post;
+import com.example.board.model.User;
+import com.example.board.repository.AttachmentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 첨부파일(Attachment) 관련 비즈니스 로직을 처리하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttachmentService {
+
+    // 브라우저에서 바로 표시할 수 있는 이미지 형식 (그 외는 application/octet-stream으로 내려받기)
+    private static final Set<String> INLINE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final AttachmentRepository attachmentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    /**
+     * 게시글에 첨부파일을 추가합니다. (게시글 작성자만 가능)
+     * @param postId 게시글 ID
+     * @param file 업로드된 파일
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 저장된 첨부파일
+     */
+    @Transactional
+    public Attachment upload(Long postId, MultipartFile file, String userId) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일은 첨부할 수 없습니다.");
+        }
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + postId));
+        User user = userRepository.findByUserId(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        if (!post.getUser().getUserId().equals(userId)) {
+            throw new AccessDeniedException("첨부파일을 추가할 권한이 없습니다.");
+        }
+
+        AttachmentStorage.StoredBlob blob;
+        try {
+            blob = attachmentStorage.store(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일을 저장할 수 없습니다.", e);
+        }
+
+        Attachment attachment = new Attachment();
+        attachment.setPost(post);
+        attachment.setUser(user);
+        attachment.setOriginalName(originalName(file));
+        attachment.setContentType(INLINE_TYPES.contains(file.getContentType())
+                ? file.getContentType() : "application/octet-stream");
+        attachment.setSize(blob.size());
+        attachment.setSha256(blob.sha256());
+        Attachment saved = attachmentRepository.save(attachment);
+
+        if (saved.isImage()) {
+            thumbnailGenerator.request(blob.sha256()); // 비동기 (대기열이 가득 차면 건너뜀)
+        }
+        return saved;
+    }
+
+    /**
+     * 게시글의 첨부파일 목록을 조회합니다.
+     * @param postId 게시글 ID
+     * @return 첨부파일 목록 (업로드 순서)
+     */
+    public List<Attachment> findByPostId(Long postId) {
+        return attachmentRepository.findByPostIdWithUser(postId);
+    }
+
+    /**
+     * 다운로드할 첨부파일을 조회합니다. (삭제된 게시글의 첨부파일은 제외)
+     * @param id 첨부파일 ID
+     * @return 첨부파일
+     */
+    public Attachment findDownloadable(Long id) {
+        return attachmentRepository.findDownloadableById(id)
+                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다: " + id));
+    }
+
+    /**
+     * 첨부파일을 삭제합니다. (업로드한 사용자만 가능, 논리적 삭제)
+     * 같은 내용을 다른 첨부파일이 사용할 수 있으므로 디스크의 파일은 지우지 않습니다.
+     * @param id 첨부파일 ID
+     * @param userId 현재 로그인한 사용자 ID
+     * @return 첨부파일이 속한 게시글 ID
+     */
+    @Transactional
+    public Long delete(Long id, String userId) {
+        Attachment attachment = attachmentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다: " + id));
+        if (!attachment.getUser().getUserId().equals(userId)) {
+            throw new AccessDeniedException("첨부파일을 삭제할 권한이 없습니다.");
+        }
+        attachmentRepository.delete(attachment); // @SQLDelete가 논리적 삭제로 처리함
+        return attachment.getPost().getId();
+    }
+
+    private static String originalName(MultipartFile file) {
+        String original = file.getOriginalFilename();
+        String name = original != null ? StringUtils.getFilename(original.replace('\\', '/')) : null; // 경로 부분 제거
+        if (!StringUtils.hasText(name)) {
+            return "file";
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+}
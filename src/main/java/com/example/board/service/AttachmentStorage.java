@@ -0,0 +1,150 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 첨부파일 내용 저장소 (로컬 디스크, 내용 주소 방식)
+ *
+ * - 파일은 {board.attachment.dir}/blobs/{해시 앞 2자}/{SHA-256} 에 저장하며, 같은 내용은 한 번만 저장합니다.
+ * - 업로드는 서블릿 multipart 임시 파일(같은 디스크의 tmp 디렉터리)을 이동(rename)하므로 힙에 올리지 않고 복사도 하지 않습니다.
+ *   해시는 이동한 파일을 다이렉트 버퍼로 한 번 읽어 계산합니다.
+ * - 썸네일은 {board.attachment.dir}/thumbs/{해시 앞 2자}/{SHA-256}.jpg|png 에 저장합니다. (ThumbnailGenerator)
+ */
+@Component
+public class AttachmentStorage {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path blobs;
+    private final Path thumbs;
+    private final Path tmp;
+    private final Counter stored;
+    private final Counter deduplicated;
+
+    public AttachmentStorage(@Value("${board.attachment.dir:attachments}") String directory,
+                             MeterRegistry meterRegistry) {
+        this.root = Path.of(directory).toAbsolutePath();
+        this.blobs = root.resolve("blobs");
+        this.thumbs = root.resolve("thumbs");
+        this.tmp = root.resolve("tmp");
+        try {
+            Files.createDirectories(blobs);
+            Files.createDirectories(thumbs);
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부파일 디렉터리를 만들 수 없습니다: " + root, e);
+        }
+        this.stored = meterRegistry.counter("board.attachment.stored", "result", "new");
+        this.deduplicated = meterRegistry.counter("board.attachment.stored", "result", "duplicate");
+    }
+
+    /**
+     * 업로드 임시 파일을 저장하는 디렉터리 (blobs와 같은 디스크여야 이동이 복사 없이 처리됨)
+     */
+    public Path tempDirectory() {
+        return tmp;
+    }
+
+    /**
+     * 업로드된 파일을 내용 주소(SHA-256) 위치로 옮깁니다. 같은 내용의 파일이 이미 있으면 새 파일은 버립니다.
+     * @param file 업로드된 파일
+     * @return 저장된 파일의 해시와 크기
+     */
+    public StoredBlob store(MultipartFile file) throws IOException {
+        Path incoming = tmp.resolve("upload-" + UUID.randomUUID());
+        try {
+            file.transferTo(incoming.toFile()); // 임시 파일 이동 (같은 디스크이면 rename)
+            String sha256 = sha256(incoming);
+            long size = Files.size(incoming);
+            Path target = blobPath(sha256);
+            if (Files.exists(target)) {
+                deduplicated.increment();
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(incoming, target, StandardCopyOption.ATOMIC_MOVE);
+                    stored.increment();
+                } catch (FileAlreadyExistsException e) {
+                    deduplicated.increment(); // 같은 내용을 동시에 업로드한 경우
+                }
+            }
+            return new StoredBlob(sha256, size);
+        } finally {
+            Files.deleteIfExists(incoming);
+        }
+    }
+
+    /**
+     * 저장된 파일 경로
+     */
+    public Path blobPath(String sha256) {
+        return blobs.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    /**
+     * 썸네일 파일 경로 (확장자: jpg 또는 png)
+     */
+    public Path thumbnailPath(String sha256, String extension) {
+        return thumbs.resolve(sha256.substring(0, 2)).resolve(sha256 + "." + extension);
+    }
+
+    /**
+     * 생성된 썸네일을 찾습니다.
+     * @return 썸네일 파일 (아직 생성되지 않았거나 생성할 수 없는 이미지이면 empty)
+     */
+    public Optional<Path> findThumbnail(String sha256) {
+        for (String extension : new String[]{"jpg", "png"}) {
+            Path path = thumbnailPath(sha256, extension);
+            if (Files.exists(path)) {
+                return Optional.of(path);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param sha256 내용 해시 (16진수)
+     * @param size 크기 (바이트)
+     */
+    public record StoredBlob(String sha256, long size) {
+    }
+}
@@ -4,17 +4,32 @@ import com.example.board.model.Comment;
 import com.example.board.model.Post;
 import com.example.board.model.User;
 import com.example.board.repository.CommentRepository;
+import com.example.board.repository.CommentRepository.CommentView;
 import com.example.board.repository.PostRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.event.CommentDeletedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 댓글(Comment) 관련 비즈니스 로직을 처리하는 서비스
@@ -27,15 +42,203 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository; // userId로 변경된 것을 사용
+    private final ApplicationEventPublisher eventPublisher; // 실시간 갱신(SSE) 이벤트 발행
+    private final ContentRenderer contentRenderer; // 댓글 HTML 렌더링 (작성 시 1회)
+    private final PlatformTransactionManager transactionManager; // 재렌더링 결과 저장용
+    private final SingleFlight<Long, Slice<Comment>> firstCommentPageLoader; // 같은 게시글의 동시 첫 페이지 조회를 1번으로 합침
+
+    @Value("${board.comment.page-size:50}")
+    private int commentPageSize; // 상세 페이지 댓글 한 페이지 크기
+
+    @Value("${board.mypage.page-size:100}")
+    private int myPagePageSize; // 마이페이지 작성 댓글 한 페이지 크기
+
+    // 게시글 작성 시각 캐시 (댓글 조회 시 파티션 하한 계산용, 작성 시각은 바뀌지 않음)
+    private final LruCache<Long, LocalDateTime> postCreatedAtCache = new LruCache<>(10_000);
 
     /**
-     * 특정 게시글의 모든 댓글을 조회합니다.
+     * 특정 게시글의 모든 댓글을 답글 트리 순서로 조회합니다.
      * @param postId 게시글 ID
      * @return 댓글 목록
      */
     public List<Comment> findCommentsByPostId(Long postId) {
         // @Where 어노테이션 덕분에 is_del = false인 댓글만 조회됨
-        return commentRepository.findByPostId(postId);
+        return commentRepository.findByPostIdOrderByPathAsc(postId);
+    }
+
+    /**
+     * 특정 게시글의 댓글을 답글 트리 순서로 한 페이지씩 조회합니다. (키셋 페이지네이션)
+     * 커서가 없으면 첫 페이지, 있으면 커서 이후의 페이지를 반환합니다.
+     * @param postId 게시글 ID
+     * @param cursorPath 이전 페이지 마지막 댓글의 path (첫 페이지는 null)
+     * @return 댓글 Slice
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 첫 페이지 동시 조회를 기다리는 동안 DB 커넥션을 점유하지 않도록
+    public Slice<Comment> findCommentPage(Long postId, String cursorPath) {
+        PageRequest pageRequest = PageRequest.of(0, commentPageSize);
+        if (cursorPath == null || cursorPath.isEmpty()) {
+            // 첫 페이지는 상세 화면마다 조회되므로, 같은 게시글의 동시 조회는 1번만 실행하고 결과를 공유 (읽기 전용)
+            return firstCommentPageLoader.load(postId, () -> {
+                LocalDateTime since = commentsSince(postId);
+                Slice<Comment> page = commentRepository.findFirstCommentPage(postId, since, pageRequest);
+                rerenderStale(page.getContent());
+                markDeletedAncestors(postId, since, page.getContent());
+                return page;
+            });
+        }
+        LocalDateTime since = commentsSince(postId);
+        Slice<Comment> page = commentRepository.findCommentPageAfter(postId, since, cursorPath, pageRequest);
+        rerenderStale(page.getContent());
+        markDeletedAncestors(postId, since, page.getContent());
+        return page;
+    }
+
+    /**
+     * 조상 댓글이 삭제된 답글에 삭제된 조상 수를 기록합니다. (화면에서 '삭제된 댓글입니다' 자리를 대신 보여줌)
+     * 삭제된 댓글은 조회되지 않으므로, 표시하지 않으면 답글이 바로 앞의 다른 댓글에 달린 것처럼 들여쓰기됩니다.
+     * 같은 페이지에 없는 조상만 모아 쿼리 1번으로 확인합니다. (보통은 부모가 같은 페이지에 있어 쿼리 없음)
+     */
+    private void markDeletedAncestors(Long postId, LocalDateTime since, List<Comment> comments) {
+        Set<String> present = new HashSet<>();
+        Set<String> unknown = new HashSet<>();
+        for (Comment comment : comments) {
+            for (String path = Comment.parentPath(comment.getPath());
+                 !path.isEmpty() && !present.contains(path); path = Comment.parentPath(path)) {
+                unknown.add(path);
+            }
+            present.add(comment.getPath());
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        present.addAll(commentRepository.findLivePaths(postId, since, unknown)); // 이전 페이지에 있는 조상
+        for (Comment comment : comments) {
+            int deleted = 0;
+            for (String path = Comment.parentPath(comment.getPath());
+                 !path.isEmpty() && present.add(path); path = Comment.parentPath(path)) {
+                deleted++; // 삭제된 조상 (한 번 표시하면 present에 추가되어 같은 페이지에서 다시 표시하지 않음)
+            }
+            comment.setDeletedAncestors(deleted);
+        }
+    }
+
+    /**
+     * 댓글 프로젝션을 배치 단위로 조회하여 답글 트리 순서대로 전달합니다. (JSON API 스트리밍용)
+     * 배치마다 짧은 트랜잭션으로 조회하므로 응답을 쓰는 동안 DB 커넥션을 점유하지 않습니다.
+     * @param postId 게시글 ID
+     * @param cursorPath 이전 페이지 마지막 댓글의 path (처음부터는 null)
+     * @param limit 최대 전달 개수
+     * @param consumer 댓글 처리기 (예: JSON 생성기에 바로 기록)
+     * @return 마지막으로 전달한 댓글과 다음 댓글 존재 여부
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentStreamResult streamCommentViews(Long postId, String cursorPath,
+                                                  int limit, Consumer<CommentView> consumer) {
+        String afterPath = cursorPath;
+        LocalDateTime since = commentsSince(postId);
+        CommentView last = null;
+        int remaining = limit;
+        while (remaining > 0) {
+            int size = Math.min(commentPageSize, remaining);
+            List<CommentView> batch = (afterPath == null || afterPath.isEmpty())
+                    ? commentRepository.findCommentViews(postId, since, PageRequest.of(0, size))
+                    : commentRepository.findCommentViewsAfter(postId, since, afterPath, PageRequest.of(0, size));
+            for (CommentView view : batch) {
+                consumer.accept(view);
+                last = view;
+            }
+            if (batch.size() < size) {
+                return new CommentStreamResult(last, false);
+            }
+            remaining -= batch.size();
+            afterPath = last.getPath();
+        }
+        boolean hasMore = !commentRepository.findCommentViewsAfter(postId, since, afterPath, PageRequest.of(0, 1)).isEmpty();
+        return new CommentStreamResult(last, hasMore);
+    }
+
+    /**
+     * 댓글 하나와 그 아래의 모든 답글을 답글 트리 순서로 조회합니다. (깊이와 관계없이 범위 조회 1번)
+     * @param postId 게시글 ID
+     * @param commentId 하위 트리의 루트 댓글 ID
+     * @param limit 최대 개수
+     * @return 댓글 프로젝션 목록 (첫 항목이 루트 댓글)
+     */
+    public List<CommentView> findThread(Long postId, Long commentId, int limit) {
+        Comment root = commentRepository.findById(commentId)
+                .filter(comment -> comment.getPost().getId().equals(postId))
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
+        // 답글은 루트 댓글보다 나중에 작성되므로 루트 작성 시각 이전의 파티션은 읽지 않음
+        return commentRepository.findSubtreeViews(postId, PartitionWindows.childRowsSince(root.getCreatedAt()), root.getPath(),
+                Comment.subtreeUpperBound(root.getPath()), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 댓글 프로젝션의 표시용 HTML을 반환합니다. (예전 렌더러로 만든 경우 저장하지 않고 다시 렌더링)
+     */
+    public String renderedContentOf(CommentView view) {
+        return view.getRenderVersion() == ContentRenderer.VERSION
+                ? view.getRenderedContent()
+                : contentRenderer.render(view.getContent());
+    }
+
+    /**
+     * 게시글 댓글 조회 시 작성 시각 하한 (게시글 작성 시각 이전의 월 파티션은 읽지 않음)
+     */
+    private LocalDateTime commentsSince(Long postId) {
+        LocalDateTime createdAt = postCreatedAt(postId);
+        if (createdAt == null) {
+            return PartitionWindows.MIN; // 없는 게시글 (결과도 비어 있음)
+        }
+        return PartitionWindows.childRowsSince(createdAt);
+    }
+
+    /**
+     * 게시글 작성 시각 (파티션 키, 캐시에 없으면 id로 조회)
+     * @return 작성 시각 (없는 게시글이면 null)
+     */
+    private LocalDateTime postCreatedAt(Long postId) {
+        LocalDateTime createdAt = postCreatedAtCache.get(postId);
+        if (createdAt == null) {
+            createdAt = postRepository.findCreatedAtById(postId).orElse(null);
+            if (createdAt != null) {
+                postCreatedAtCache.put(postId, createdAt);
+            }
+        }
+        return createdAt;
+    }
+
+    /**
+     * 댓글 스트리밍 결과
+     * @param last 마지막으로 전달한 댓글 (없으면 null)
+     * @param hasMore 다음 댓글 존재 여부
+     */
+    public record CommentStreamResult(CommentView last, boolean hasMore) {
+    }
+
+    /**
+     * 렌더러 버전이 다른(예전 렌더러로 만든) 댓글을 다시 렌더링합니다.
+     * 조회는 읽기 전용 트랜잭션이므로, 렌더러 업그레이드 직후에만 별도 쓰기 트랜잭션으로 저장합니다.
+     */
+    private void rerenderStale(List<Comment> comments) {
+        List<Comment> stale = new ArrayList<>();
+        for (Comment comment : comments) {
+            if (comment.getRenderVersion() != ContentRenderer.VERSION) {
+                comment.setRenderedContent(contentRenderer.render(comment.getContent()));
+                stale.add(comment);
+            }
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        writeTransaction.executeWithoutResult(status -> {
+            for (Comment comment : stale) {
+                commentRepository.updateRenderedContent(comment.getId(), comment.getCreatedAt(),
+                        comment.getRenderedContent(), ContentRenderer.VERSION);
+            }
+        });
     }
 
     /**
@@ -50,14 +253,16 @@ public class CommentService {
     }
 
     /**
-     * 새 댓글을 작성합니다. (★익명 ID 할당 로직 수정★)
+     * 새 댓글(또는 답글)을 작성합니다. (★익명 ID 할당 로직 수정★)
+     * 답글도 같은 게시글의 댓글이므로 익명 ID는 댓글과 똑같이 게시글 단위로 할당됩니다.
      * @param postId 댓글을 작성할 게시글 ID
+     * @param parentId 답글이면 부모 댓글 ID (일반 댓글은 null)
      * @param content 댓글 내용
      * @param userId 작성자 ID
      * @return 저장된 댓글
      */
     @Transactional // 쓰기 작업이므로 트랜잭션 적용
-    public Comment createComment(Long postId, String content, String userId) {
+    public Comment createComment(Long postId, Long parentId, String content, String userId) {
         // 1. 사용자 조회 (userId 사용)
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
@@ -66,6 +271,18 @@ public class CommentService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + postId));
 
+        // 2a. 답글이면 부모 댓글 조회 (같은 게시글의 댓글이어야 하며, 최대 깊이 제한)
+        String parentPath = "";
+        if (parentId != null) {
+            Comment parent = commentRepository.findById(parentId)
+                    .filter(comment -> comment.getPost().getId().equals(postId))
+                    .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + parentId));
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("더 이상 답글을 달 수 없습니다.");
+            }
+            parentPath = parent.getPath();
+        }
+
         // 3. (★핵심 로직★) 익명 ID 할당 (long -> int로 수정)
         Integer anonymousId; // ★ long -> Integer로 수정
         // 3a. 게시글 작성자와 댓글 작성자가 동일한지 확인
@@ -73,10 +290,12 @@ public class CommentService {
             // 작성자 본인이면 anonymousId = 0
             anonymousId = 0; // ★ 0L -> 0으로 수정
         } else {
+            LocalDateTime commentsSince = PartitionWindows.childRowsSince(post.getCreatedAt()); // 파티션 하한
             // 3b. 작성자가 아니면, 이 게시글에 '익명으로' 댓글을 단 사용자인지 확인
             // (수정) 0보다 큰 ID(익명)만 찾도록 새 리포지토리 메서드 사용
             Optional<Comment> existingComment = commentRepository
-                    .findFirstByPostAndUserAndAnonymousIdGreaterThanOrderByCreatedAtAsc(post, user, 0);
+                    .findFirstByPostAndUserAndAnonymousIdGreaterThanAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+                            post, user, 0, commentsSince);
 
             if (existingComment.isPresent()) {
                 // 이미 익명 댓글을 단 사용자면, 기존 anonymousId 사용
@@ -85,7 +304,7 @@ public class CommentService {
                 // 3c. 이 게시글에 처음 댓글을 다는 익명 사용자
                 // 현재 게시글의 최대 익명 ID를 조회 (0(작성자) 제외)
                 // (수정) 리포지토리 메서드가 Integer를 반환
-                Integer maxId = commentRepository.findMaxAnonymousIdByPost(post).orElse(0); // ★ long -> Integer로 수정
+                Integer maxId = commentRepository.findMaxAnonymousIdByPost(post, commentsSince).orElse(0); // ★ long -> Integer로 수정
                 anonymousId = maxId + 1; // '익명1', '익명2'...
             }
         }
@@ -93,13 +312,24 @@ public class CommentService {
         // 4. 댓글 엔티티 생성
         Comment comment = new Comment();
         comment.setContent(content);
+        comment.setRenderedContent(contentRenderer.render(content)); // 표시용 HTML 미리 생성
+        comment.setRenderVersion(ContentRenderer.VERSION);
         comment.setCreatedAt(LocalDateTime.now());
         comment.setPost(post);
         comment.setUser(user);
         comment.setAnonymousId(anonymousId); // ★ 할당된 익명 ID 설정
+        comment.setPath(parentPath); // ID가 정해진 뒤 자기 ID를 붙임
 
-        // 5. 저장
-        return commentRepository.save(comment);
+        // 5. 저장 (IDENTITY라 INSERT 후 ID가 정해지므로, 경로는 같은 트랜잭션에서 UPDATE로 완성)
+        Comment saved = commentRepository.save(comment);
+        saved.setPath(Comment.childPath(parentPath, saved.getId()));
+        postRepository.addCommentCount(postId, post.getCreatedAt(), 1); // 댓글 수 +1 (원자적 UPDATE, 해당 월 파티션만)
+
+        // 6. 새 댓글 이벤트 발행 (커밋 이후 PostEventHub가 구독자에게 전달)
+        eventPublisher.publishEvent(new CommentCreatedEvent(postId, saved.getId(), saved.getPath(), anonymousId,
+                saved.getContent(), saved.getRenderedContent(), saved.getCreatedAt(), userId, user.getId(),
+                post.getUser().getId(), post.getUser().getUserId()));
+        return saved;
     }
 
     /**
@@ -123,18 +353,27 @@ public class CommentService {
             throw new AccessDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 4. 삭제 (엔티티의 @SQLDelete가 논리적 삭제로 처리함)
-        commentRepository.delete(comment);
+        // 4. 논리적 삭제 (created_at 조건으로 해당 월 파티션만 읽음, @SQLDelete는 id만 사용)
+        Long postId = comment.getPost().getId();
+        commentRepository.softDelete(commentId, comment.getCreatedAt());
+        LocalDateTime postCreatedAt = postCreatedAt(postId);
+        if (postCreatedAt != null) {
+            postRepository.addCommentCount(postId, postCreatedAt, -1); // 댓글 수 -1 (원자적 UPDATE)
+        }
+        eventPublisher.publishEvent(new CommentDeletedEvent(postId, commentId, userId, user.getId()));
     }
 
     /**
-     * 특정 사용자가 작성한 댓글을 조회합니다.
+     * 특정 사용자가 작성한 댓글을 최신순으로 한 페이지 조회합니다. (키셋 페이지네이션, board.mypage.page-size개씩)
      * @param userId 사용자 ID
-     * @return 사용자가 작성한 댓글 목록
+     * @param cursorCreatedAt 이전 페이지 마지막 댓글의 작성 시각 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 댓글의 ID (첫 페이지는 null)
+     * @return 사용자가 작성한 댓글 Slice
      */
-    public List<Comment> findCommentsByUserId(String userId) {
+    public Slice<Comment> findCommentsByUserId(String userId, LocalDateTime cursorCreatedAt, Long cursorId) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-        return commentRepository.findByUserOrderByCreatedAtDesc(user);
+        return PartitionWindows.newestFirstPage(cursorCreatedAt, cursorId, myPagePageSize, (from, to, afterAt, afterId, limit) ->
+                commentRepository.findByUserWindow(user, from, to, afterAt, afterId, PageRequest.of(0, limit)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.board.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글/댓글 본문을 화면 표시용 HTML로 변환하는 렌더러
+ *
+ * - HTML 특수문자를 이스케이프하고(XSS 방지), 줄바꿈을 &lt;br&gt;로 변환하며,
+ *   http(s) 주소를 링크로 바꿉니다.
+ * - 글 작성/수정 시 한 번만 렌더링하여 원문과 함께 저장하고, 화면은 저장된 HTML을 그대로 출력합니다.
+ * - 렌더링 규칙을 바꾸면 VERSION을 올려야 합니다. 저장된 버전이 다른 글/댓글은 조회 시 다시 렌더링됩니다.
+ */
+@Component
+public class ContentRenderer {
+
+    public static final int VERSION = 1;
+
+    // http(s) 주소 (따옴표, 꺾쇠, 공백에서 끝남)
+    private static final Pattern URL = Pattern.compile("https?://[^\\s<>\"']+");
+    // 주소 끝에 붙은 문장 부호는 링크에서 제외
+    private static final String TRAILING_PUNCTUATION = ".,;:!?)]}";
+
+    /**
+     * 원문을 안전한 HTML로 변환합니다.
+     * @param raw 원문
+     * @return 이스케이프/줄바꿈/링크 처리된 HTML
+     */
+    public String render(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder(raw.length() + raw.length() / 8);
+        Matcher matcher = URL.matcher(raw);
+        int last = 0;
+        while (matcher.find()) {
+            int end = matcher.end();
+            while (end > matcher.start() && TRAILING_PUNCTUATION.indexOf(raw.charAt(end - 1)) >= 0) {
+                end--;
+            }
+            appendText(html, raw.substring(last, matcher.start()));
+            String url = HtmlUtils.htmlEscape(raw.substring(matcher.start(), end), "UTF-8");
+            html.append("<a href=\"").append(url)
+                    .append("\" target=\"_blank\" rel=\"nofollow noopener noreferrer\">")
+                    .append(url).append("</a>");
+            last = end;
+        }
+        appendText(html, raw.substring(last));
+        return html.toString();
+    }
+
+    private void appendText(StringBuilder html, String text) {
+        String escaped = HtmlUtils.htmlEscape(text, "UTF-8");
+        html.append(escaped.replace("\r\n", "\n").replace("\r", "\n").replace("\n", "<br>\n"));
+    }
+}
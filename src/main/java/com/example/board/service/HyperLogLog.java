@@ -0,0 +1,182 @@
+package com.example.board.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고유 방문자 수 추정을 위한 HyperLogLog 스케치
+ *
+ * - 정밀도 p = 12 (레지스터 4096개, 1바이트씩 = 4KB 고정), 표준 오차 약 1.6%
+ * - 방문자가 몇 명이든 메모리 사용량은 일정합니다.
+ * - 병합은 레지스터별 최댓값입니다.
+ * - 저장 형식(toCompactBytes): 레지스터 값은 최대 64 - p + 1 = 53이므로 6비트로 충분합니다.
+ *   - 희소(첫 바이트 1): 0이 아닌 레지스터만 (번호 12비트 + 값 6비트)를 3바이트씩 (방문자가 적은 대부분의 게시글)
+ *   - 밀집(첫 바이트 2): 전체 레지스터를 6비트씩 이어 붙임 (3072바이트)
+ *   - 이전 형식(레지스터 1바이트씩, 4096바이트)도 읽을 수 있습니다.
+ *
+ * 이 클래스는 스레드 안전하지 않습니다. (UniqueViewerCounter가 동기화를 담당)
+ */
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final int REGISTER_BITS = 6;
+    private static final int DENSE_BYTES = REGISTER_COUNT * REGISTER_BITS / 8;
+    private static final int SPARSE_ENTRY_BYTES = 3;
+    private static final byte FORMAT_SPARSE = 1;
+    private static final byte FORMAT_DENSE = 2;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    /**
+     * 저장된 레지스터 배열로 스케치를 복원합니다.
+     * @param registers 레지스터 배열 (길이 REGISTER_COUNT)
+     */
+    public HyperLogLog(byte[] registers) {
+        if (registers.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("HyperLogLog 레지스터 크기가 올바르지 않습니다: " + registers.length);
+        }
+        this.registers = registers;
+    }
+
+    /**
+     * 방문자 키를 추가합니다.
+     * @param key 방문자 키 (사용자 ID 또는 비로그인 방문자 지문)
+     * @return 레지스터가 바뀌었으면 true
+     */
+    public boolean offer(String key) {
+        return offerHash(hash(key));
+    }
+
+    /**
+     * 미리 계산한 64비트 해시를 추가합니다.
+     */
+    public boolean offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 남은 비트에서 첫 1비트의 위치 (1부터 시작)
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 스케치를 병합합니다. (레지스터별 최댓값)
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 고유 방문자 수 추정값
+     */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            // 소수 구간 보정 (linear counting)
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 저장용 압축 표현 (희소 또는 6비트 밀집 중 작은 쪽)
+     */
+    public byte[] toCompactBytes() {
+        int nonZero = 0;
+        for (byte register : registers) {
+            if (register != 0) {
+                nonZero++;
+            }
+        }
+        if (nonZero * SPARSE_ENTRY_BYTES < DENSE_BYTES) {
+            byte[] out = new byte[1 + nonZero * SPARSE_ENTRY_BYTES];
+            out[0] = FORMAT_SPARSE;
+            int pos = 1;
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (registers[i] != 0) {
+                    int entry = (i << REGISTER_BITS) | registers[i];
+                    out[pos++] = (byte) (entry >>> 16);
+                    out[pos++] = (byte) (entry >>> 8);
+                    out[pos++] = (byte) entry;
+                }
+            }
+            return out;
+        }
+        byte[] out = new byte[1 + DENSE_BYTES];
+        out[0] = FORMAT_DENSE;
+        // 레지스터 4개(24비트)를 3바이트에
+        for (int i = 0, pos = 1; i < REGISTER_COUNT; i += 4, pos += 3) {
+            int packed = registers[i] << 18 | registers[i + 1] << 12 | registers[i + 2] << 6 | registers[i + 3];
+            out[pos] = (byte) (packed >>> 16);
+            out[pos + 1] = (byte) (packed >>> 8);
+            out[pos + 2] = (byte) packed;
+        }
+        return out;
+    }
+
+    /**
+     * 저장된 표현(toCompactBytes 또는 이전 형식의 레지스터 배열)으로 스케치를 복원합니다.
+     */
+    public static HyperLogLog fromBytes(byte[] stored) {
+        if (stored.length == REGISTER_COUNT) {
+            return new HyperLogLog(stored.clone()); // 이전 형식 (레지스터 1바이트씩)
+        }
+        byte[] registers = new byte[REGISTER_COUNT];
+        if (stored.length > 0 && stored[0] == FORMAT_SPARSE && (stored.length - 1) % SPARSE_ENTRY_BYTES == 0) {
+            for (int pos = 1; pos < stored.length; pos += SPARSE_ENTRY_BYTES) {
+                int entry = (stored[pos] & 0xff) << 16 | (stored[pos + 1] & 0xff) << 8 | (stored[pos + 2] & 0xff);
+                registers[(entry >>> REGISTER_BITS) & (REGISTER_COUNT - 1)] = (byte) (entry & 0x3f);
+            }
+            return new HyperLogLog(registers);
+        }
+        if (stored.length == 1 + DENSE_BYTES && stored[0] == FORMAT_DENSE) {
+            for (int i = 0, pos = 1; i < REGISTER_COUNT; i += 4, pos += 3) {
+                int packed = (stored[pos] & 0xff) << 16 | (stored[pos + 1] & 0xff) << 8 | (stored[pos + 2] & 0xff);
+                registers[i] = (byte) (packed >>> 18 & 0x3f);
+                registers[i + 1] = (byte) (packed >>> 12 & 0x3f);
+                registers[i + 2] = (byte) (packed >>> 6 & 0x3f);
+                registers[i + 3] = (byte) (packed & 0x3f);
+            }
+            return new HyperLogLog(registers);
+        }
+        throw new IllegalArgumentException("HyperLogLog 저장 형식이 올바르지 않습니다: " + stored.length + "바이트");
+    }
+
+    /**
+     * 문자열 키의 64비트 해시 (FNV-1a + MurmurHash3 finalizer)
+     */
+    public static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
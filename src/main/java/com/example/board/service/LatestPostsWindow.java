@@ -0,0 +1,412 @@
+package com.example.board.service;
+
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.event.CommentDeletedEvent;
+import com.example.board.service.event.PostCreatedEvent;
+import com.example.board.service.event.PostDeletedEvent;
+import com.example.board.service.event.PostUpdatedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.With;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최신 게시글 요약 N개(board.posts.latest.size)를 메모리에 보관하여 목록 앞쪽 페이지를 DB 조회 없이 제공합니다.
+ *
+ * - 읽기: 불변 스냅샷(최신순 목록)을 volatile 필드 하나로 읽으므로 락이 없습니다.
+ * - 쓰기: 게시글 작성/수정/삭제, 댓글 수/추천 수 변경이 커밋되면 새 목록을 만들어 통째로 교체합니다. (copy-on-write)
+ * - 스냅샷이 없으면(기동 직후) 다음 조회 때 DB에서 한 번 읽어 만듭니다. 적재는 한 번에 하나만 하며,
+ *   적재 중에 들어온 조회는 기다리지 않고 DB로 처리합니다. 적재 중에 커밋된 변경은 적재 결과에 다시 적용합니다.
+ *   (댓글 수 증감은 적재 결과에 이미 포함되었을 수 있어 잠시 1 차이가 날 수 있고, 다음 재적재 때 맞춰짐)
+ * - 다른 서버의 작성/수정/삭제는 InvalidationBus로 받아 해당 게시글 1개만 DB에서 다시 읽어 반영하고,
+ *   다른 서버에서 바뀐 댓글 수/추천 수는 주기적인 재적재(board.posts.latest.refresh-ms)로 맞춥니다.
+ *   재적재 때 DB와 다른 항목 수를 board.posts.latest.drift 카운터로 남깁니다.
+ */
+@Slf4j
+@Component
+public class LatestPostsWindow {
+
+    private final PostRepository postRepository;
+    private final InvalidationBus invalidationBus;
+    private final int capacity;
+
+    // 현재 스냅샷 (null: 아직 없음)
+    private volatile Snapshot snapshot;
+    // 적재는 한 번에 하나만 (다른 스레드는 기다리지 않음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // 적재 중에 커밋된 변경 (적재 결과에 다시 적용, 적재 중이 아니면 null, this로 보호)
+    private List<Change> changesDuringLoad;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter drift;
+
+    public LatestPostsWindow(PostRepository postRepository,
+                             InvalidationBus invalidationBus,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.posts.latest.size:1000}") int capacity) {
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBus;
+        this.capacity = capacity;
+        this.hits = meterRegistry.counter("board.posts.latest", "result", "hit");
+        this.misses = meterRegistry.counter("board.posts.latest", "result", "miss");
+        this.drift = meterRegistry.counter("board.posts.latest.drift");
+        invalidationBus.subscribe(InvalidationRegions.LATEST_POSTS, postId -> refreshEntry(Long.valueOf(postId)));
+    }
+
+    /**
+     * 스냅샷에서 최신순 한 페이지를 꺼냅니다.
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성 시각 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 게시글의 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 요약 Slice (스냅샷 범위를 벗어나면 null - DB에서 조회해야 함)
+     */
+    public Slice<PostSummary> findPage(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = reload();
+        }
+        if (current == null) {
+            misses.increment();
+            return null;
+        }
+        List<Entry> posts = current.posts();
+        int from = cursorCreatedAt == null || cursorId == null ? 0 : indexAfter(posts, cursorCreatedAt, cursorId);
+        int to = from + size;
+        // 다음 페이지 존재 여부까지 알 수 있어야 함 (스냅샷 뒤에 게시글이 더 있을 수 있으면 DB로)
+        if (to >= posts.size() && !current.complete()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        List<PostSummary> rows = Collections.unmodifiableList(posts.subList(from, Math.min(to, posts.size())));
+        return new SliceImpl<>(rows, PageRequest.of(0, size), to < posts.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        Entry created = new Entry(event.postId(), event.title(), event.createdAt(), 0, 0);
+        update((posts, complete) -> posts.stream().anyMatch(entry -> entry.getId().equals(event.postId()))
+                ? posts
+                : insert(posts, complete, created));
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        update((posts, complete) -> replace(posts, event.postId(), entry -> entry.withTitle(event.title())));
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        update((posts, complete) -> remove(posts, event.postId()));
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        update((posts, complete) -> replace(posts, event.postId(), entry -> entry.withCommentCount(entry.getCommentCount() + 1)));
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        update((posts, complete) -> replace(posts, event.postId(), entry -> entry.withCommentCount(entry.getCommentCount() - 1)));
+    }
+
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        update((posts, complete) -> replace(posts, event.postId(),
+                entry -> entry.withRecommendationCount(event.recommendationCount())));
+    }
+
+    /**
+     * 게시글 작성/수정/삭제를 다른 서버에 알립니다. (커밋 직전, 같은 트랜잭션으로 기록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publishCreated(PostCreatedEvent event) {
+        invalidationBus.publish(InvalidationRegions.LATEST_POSTS, String.valueOf(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publishUpdated(PostUpdatedEvent event) {
+        invalidationBus.publish(InvalidationRegions.LATEST_POSTS, String.valueOf(event.postId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publishDeleted(PostDeletedEvent event) {
+        invalidationBus.publish(InvalidationRegions.LATEST_POSTS, String.valueOf(event.postId()));
+    }
+
+    /**
+     * 다른 서버에서 작성/수정/삭제된 게시글 1개를 DB에서 다시 읽어 반영합니다.
+     * @param postId 게시글 ID
+     */
+    public void refreshEntry(Long postId) {
+        if (snapshot == null && !loadLock.isLocked()) {
+            return; // 스냅샷이 없음 (다음 적재 때 반영됨)
+        }
+        Optional<PostSummary> row;
+        try {
+            row = postRepository.findSummaryById(postId);
+        } catch (DataAccessException e) {
+            log.warn("최신 게시글 목록 항목 갱신 실패: {}", postId, e);
+            invalidate(); // 반영하지 못한 변경이 남지 않도록 다음 조회 때 다시 적재
+            return;
+        }
+        if (row.isEmpty()) {
+            update((posts, complete) -> remove(posts, postId)); // 삭제됨
+            return;
+        }
+        Entry entry = toEntry(row.get());
+        update((posts, complete) -> insert(remove(posts, postId), complete, entry));
+    }
+
+    /**
+     * 주기적으로 DB에서 다시 읽어 교체합니다. (다른 서버의 댓글 수/추천 수 변경 반영, 차이 기록)
+     */
+    @Scheduled(fixedDelayString = "${board.posts.latest.refresh-ms:60000}")
+    public void refresh() {
+        if (snapshot == null) {
+            return; // 아직 사용되지 않음 (다음 조회 때 적재)
+        }
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("최신 게시글 목록 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 스냅샷을 버립니다. (다음 조회 때 DB에서 적재)
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add((posts, complete) -> null); // 진행 중인 적재 결과도 버림
+        }
+    }
+
+    /**
+     * DB에서 읽어 스냅샷을 교체합니다.
+     * @return 새 스냅샷 (다른 스레드가 적재 중이거나 적재 결과를 버린 경우 null)
+     */
+    private Snapshot reload() {
+        if (!loadLock.tryLock()) {
+            return null; // 다른 스레드가 적재 중 (기다리지 않고 DB로)
+        }
+        try {
+            synchronized (this) {
+                changesDuringLoad = new ArrayList<>();
+            }
+            Snapshot loaded = null;
+            try {
+                loaded = load();
+            } finally {
+                loaded = install(loaded);
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        List<PostSummary> rows = PartitionWindows.newestFirst(null, capacity + 1,
+                (from, to, limit) -> postRepository.findSummaryWindow(from, to, PartitionWindows.MAX, Long.MAX_VALUE,
+                        PageRequest.of(0, limit)));
+        List<Entry> posts = new ArrayList<>(Math.min(rows.size(), capacity));
+        for (PostSummary row : rows.subList(0, Math.min(rows.size(), capacity))) {
+            posts.add(toEntry(row));
+        }
+        return new Snapshot(List.copyOf(posts), rows.size() <= capacity);
+    }
+
+    /**
+     * 적재 중에 커밋된 변경을 적재 결과에 다시 적용하고 교체합니다.
+     * @param loaded 적재 결과 (실패한 경우 null)
+     */
+    private synchronized Snapshot install(Snapshot loaded) {
+        List<Change> changes = changesDuringLoad;
+        changesDuringLoad = null;
+        if (loaded == null) {
+            return null;
+        }
+        Snapshot installed = loaded;
+        for (Change change : changes) {
+            installed = apply(installed, change);
+            if (installed == null) {
+                break;
+            }
+        }
+        Snapshot previous = snapshot;
+        if (previous != null && installed != null) {
+            // 재적재: 지금까지의 변경을 모두 반영한 기존 스냅샷과 DB가 다른 항목 수 (정합성 확인용)
+            int differences = countDifferences(previous.posts(), installed.posts());
+            if (differences > 0) {
+                drift.increment(differences);
+                log.debug("최신 게시글 목록이 DB와 {}건 달라 교체했습니다.", differences);
+            }
+        }
+        snapshot = installed;
+        return installed;
+    }
+
+    /**
+     * 새 목록을 만들어 스냅샷을 교체합니다. (쓰기끼리는 직렬화)
+     */
+    private synchronized void update(Change change) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(change); // 적재 결과에도 다시 적용
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = apply(current, change);
+        }
+    }
+
+    /**
+     * 스냅샷에 변경을 적용한 새 스냅샷 (null: 다시 적재해야 함)
+     */
+    private Snapshot apply(Snapshot current, Change change) {
+        List<Entry> next = change.apply(current.posts(), current.complete());
+        if (next == null) {
+            return null;
+        }
+        if (next == current.posts()) {
+            return current;
+        }
+        boolean complete = current.complete();
+        if (next.size() > capacity) {
+            next = next.subList(0, capacity);
+            complete = false;
+        }
+        if (!complete && next.size() < capacity / 2) {
+            return null; // 삭제로 많이 줄었으면 다시 적재
+        }
+        return new Snapshot(List.copyOf(next), complete);
+    }
+
+    /**
+     * 정렬 위치에 게시글을 넣은 새 목록 (스냅샷 범위 밖이면 그대로)
+     */
+    private static List<Entry> insert(List<Entry> posts, boolean complete, Entry entry) {
+        int index = indexAfter(posts, entry.getCreatedAt(), entry.getId());
+        if (index == posts.size() && !complete) {
+            return posts; // 스냅샷의 마지막 게시글보다 오래됨 (DB 조회 범위)
+        }
+        List<Entry> next = new ArrayList<>(posts);
+        next.add(index, entry);
+        return next;
+    }
+
+    private static List<Entry> remove(List<Entry> posts, Long postId) {
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).getId().equals(postId)) {
+                List<Entry> next = new ArrayList<>(posts);
+                next.remove(i);
+                return next;
+            }
+        }
+        return posts;
+    }
+
+    private static Entry toEntry(PostSummary row) {
+        return new Entry(row.getId(), row.getTitle(), row.getCreatedAt(),
+                row.getRecommendationCount(), row.getCommentCount());
+    }
+
+    private static List<Entry> replace(List<Entry> posts, Long postId, UnaryOperator<Entry> change) {
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).getId().equals(postId)) {
+                List<Entry> next = new ArrayList<>(posts);
+                next.set(i, change.apply(posts.get(i)));
+                return next;
+            }
+        }
+        return posts; // 스냅샷에 없는 게시글
+    }
+
+    /**
+     * 최신순 목록에서 (createdAt, id) 커서 바로 다음 위치 (이진 탐색)
+     */
+    private static int indexAfter(List<Entry> posts, LocalDateTime createdAt, Long id) {
+        int low = 0;
+        int high = posts.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Entry entry = posts.get(mid);
+            int byTime = entry.getCreatedAt().compareTo(createdAt);
+            boolean after = byTime < 0 || (byTime == 0 && entry.getId() < id);
+            if (after) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int countDifferences(List<Entry> cached, List<Entry> loaded) {
+        int differences = Math.abs(cached.size() - loaded.size());
+        for (int i = 0; i < Math.min(cached.size(), loaded.size()); i++) {
+            if (!cached.get(i).equals(loaded.get(i))) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * 스냅샷 목록 변경 (새 목록을 반환, 바뀌지 않으면 같은 목록, 다시 적재해야 하면 null)
+     */
+    @FunctionalInterface
+    private interface Change {
+        List<Entry> apply(List<Entry> posts, boolean complete);
+    }
+
+    /**
+     * 불변 스냅샷
+     * @param posts 최신순 게시글 요약 (불변 목록)
+     * @param complete 전체 게시글이 모두 들어 있으면 true (마지막 페이지까지 제공 가능)
+     */
+    private record Snapshot(List<Entry> posts, boolean complete) {
+    }
+
+    /**
+     * 게시글 요약 1개 (불변, 변경 시 with*로 새 객체 생성)
+     */
+    @Getter
+    @With
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static final class Entry implements PostSummary {
+        private final Long id;
+        private final String title;
+        private final LocalDateTime createdAt;
+        private final int recommendationCount;
+        private final int commentCount;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.board.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 최대 개수가 제한된 간단한 LRU 캐시 (스레드 안전, CLOCK 방식의 근사 LRU)
+ *
+ * - 조회(get)는 잠금 없이 ConcurrentHashMap에서 읽고 항목의 사용 표시만 켭니다. (이미 켜져 있으면 쓰지 않음)
+ *   (모든 조회가 하나의 잠금을 잡던 LinkedHashMap 방식은 여러 요청 스레드가 같은 캐시를 읽을 때 병목)
+ * - 최대 개수를 넘으면 시계 바늘처럼 항목을 순서대로 훑어, 사용 표시가 켜진 항목은 표시만 끄고 넘어가고(한 번 더 기회)
+ *   꺼진 항목을 제거합니다. 제거만 잠금으로 직렬화하며 훑는 위치는 다음 제거로 이어집니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final BiConsumer<K, V> onEvict;
+    private final ConcurrentHashMap<K, Node<V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // 제거 후보를 훑는 위치 (evictionLock 안에서만 사용)
+    private Iterator<Map.Entry<K, Node<V>>> hand;
+
+    public LruCache(int maxEntries) {
+        this(maxEntries, null);
+    }
+
+    /**
+     * @param maxEntries 최대 항목 수
+     * @param onEvict 항목이 밀려날 때 호출할 콜백 (없으면 null)
+     */
+    public LruCache(int maxEntries, BiConsumer<K, V> onEvict) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.onEvict = onEvict;
+    }
+
+    public V get(K key) {
+        Node<V> node = map.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.touch();
+        return node.value;
+    }
+
+    public void put(K key, V value) {
+        map.put(key, new Node<>(value));
+        evictIfNeeded();
+    }
+
+    public V putIfAbsent(K key, V value) {
+        Node<V> existing = map.putIfAbsent(key, new Node<>(value));
+        if (existing != null) {
+            existing.touch();
+            return existing.value;
+        }
+        evictIfNeeded();
+        return null;
+    }
+
+    public void remove(K key) {
+        map.remove(key);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void evictIfNeeded() {
+        if (map.size() <= maxEntries) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            while (map.size() > maxEntries) {
+                evictOne();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 바늘 위치부터 사용 표시가 꺼진 항목 1개를 찾아 제거합니다. (모두 켜져 있어도 두 바퀴 안에 끝남)
+     */
+    private void evictOne() {
+        while (true) {
+            if (hand == null || !hand.hasNext()) {
+                hand = map.entrySet().iterator(); // 한 바퀴 돌면 처음부터 (약한 일관성: 동시 변경 중에도 예외 없음)
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<K, Node<V>> candidate = hand.next();
+            Node<V> node = candidate.getValue();
+            if (node.referenced) {
+                node.referenced = false;
+                continue;
+            }
+            if (map.remove(candidate.getKey(), node) && onEvict != null) {
+                onEvict.accept(candidate.getKey(), node.value);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 값과 사용 표시
+     * (referenced는 제거 후보 판단에만 쓰이므로 volatile 없이 기록 - 다른 스레드에 늦게 보여도 됨)
+     */
+    private static final class Node<V> {
+        private final V value;
+        private boolean referenced;
+
+        private Node(V value) {
+            this.value = value;
+        }
+
+        void touch() {
+            if (!referenced) {
+                referenced = true; // 인기 항목의 캐시 라인을 여러 코어가 계속 쓰지 않도록 바뀔 때만 기록
+            }
+        }
+    }
+}
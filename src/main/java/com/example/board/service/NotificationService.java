@@ -0,0 +1,242 @@
+package com.example.board.service;
+
+import com.example.board.model.Notification;
+import com.example.board.repository.NotificationRepository;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내 게시글 새 댓글 알림 서비스
+ *
+ * - 다른 사용자가 댓글을 달면 DB에 바로 쓰지 않고 메모리에서 (수신자, 게시글)별로 댓글 수만 합칩니다.
+ * - 주기적으로(board.notification.flush-ms) 모인 알림을 board.notification.flush-batch-size 행씩
+ *   한 트랜잭션에서 JDBC 배치 upsert 한 번으로 저장합니다. (인기 게시글에 댓글이 몰려도 주기당 1행만 씀)
+ * - 헤더에 표시하는 읽지 않은 알림 수는 사용자별로 캐시하며, 알림이 저장되거나 읽음 처리되면 비웁니다.
+ *   (다른 서버의 캐시는 같은 트랜잭션에서 InvalidationBus로 무효화를 발행하여 비움)
+ */
+@Slf4j
+@Service
+public class NotificationService {
+
+    private static final int RECENT_LIMIT = 50;
+
+    /**
+     * 새 댓글 수를 알림에 더합니다. (행이 없으면 생성, 수신자 + 게시글 유니크 키 기준 upsert)
+     * 이미 읽은 알림이면 댓글 수를 새로 시작하고 다시 읽지 않음 상태로 바꿉니다.
+     * (comment_count를 SET 절 맨 앞에 두어 변경 전 is_read 값을 기준으로 계산)
+     */
+    private static final String UPSERT_SQL =
+            "INSERT INTO tbl_notification (recipient_id, board_id, comment_count, is_read, updated_at) " +
+            "VALUES (?, ?, ?, false, ?) " +
+            "ON DUPLICATE KEY UPDATE comment_count = CASE WHEN is_read THEN VALUES(comment_count) " +
+            "ELSE comment_count + VALUES(comment_count) END, " +
+            "is_read = false, updated_at = VALUES(updated_at)";
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+    private final int flushBatchSize;
+    private final long unreadCacheTtlMillis;
+
+    // 마지막 저장 이후 모인 알림 (수신자 + 게시글 -> 새 댓글 수)
+    private final Map<Target, Pending> pending = new ConcurrentHashMap<>();
+    // 저장에 실패하여 다음 주기에 재시도할 알림 (저장 스케줄 스레드에서만 사용)
+    private final Map<Target, Pending> retry = new HashMap<>();
+    // 읽지 않은 알림 수 캐시 (사용자 ID -> 개수)
+    private final LruCache<String, CachedCount> unreadCache;
+
+    private final Counter enqueuedCounter;
+    private final Counter writtenCounter;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               InvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry,
+                               @Value("${board.notification.flush-batch-size:500}") int flushBatchSize,
+                               @Value("${board.notification.unread-cache-size:100000}") int unreadCacheSize,
+                               @Value("${board.notification.unread-cache-ttl-ms:60000}") long unreadCacheTtlMillis) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.invalidationBus = invalidationBus;
+        this.flushBatchSize = flushBatchSize;
+        this.unreadCacheTtlMillis = unreadCacheTtlMillis;
+        this.unreadCache = new LruCache<>(unreadCacheSize);
+        this.enqueuedCounter = meterRegistry.counter("board.notification.enqueued");
+        this.writtenCounter = meterRegistry.counter("board.notification.written");
+        meterRegistry.gauge("board.notification.pending", pending, Map::size);
+        invalidationBus.subscribe(InvalidationRegions.UNREAD_NOTIFICATIONS, unreadCache::remove);
+    }
+
+    /**
+     * 새 댓글 알림을 모읍니다. (게시글 작성자 본인의 댓글은 제외)
+     */
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        if (event.postAuthorPk() == null || event.postAuthorPk().equals(event.userPk())) {
+            return;
+        }
+        Target target = new Target(event.postAuthorPk(), event.postAuthorId(), event.postId());
+        Pending comment = new Pending(1, event.createdAt());
+        // merge는 키 단위로 원자적이므로 저장(flush) 중 제거와 경합해도 유실되지 않음
+        pending.merge(target, comment, Pending::plus);
+        enqueuedCounter.increment();
+    }
+
+    /**
+     * 모인 알림을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.notification.flush-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty() && retry.isEmpty()) {
+            return;
+        }
+        Map<Target, Pending> rows = new HashMap<>(retry);
+        retry.clear();
+        for (Target target : new ArrayList<>(pending.keySet())) {
+            Pending counts = pending.remove(target);
+            if (counts != null) {
+                rows.merge(target, counts, Pending::plus);
+            }
+        }
+
+        List<Map.Entry<Target, Pending>> entries = new ArrayList<>(rows.entrySet());
+        int saved = 0;
+        try {
+            while (saved < entries.size()) {
+                List<Map.Entry<Target, Pending>> batch =
+                        entries.subList(saved, Math.min(saved + flushBatchSize, entries.size()));
+                Set<String> recipients = new HashSet<>();
+                batch.forEach(entry -> recipients.add(entry.getKey().recipientId()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                        ps.setLong(1, entry.getKey().recipientPk());
+                        ps.setLong(2, entry.getKey().postId());
+                        ps.setLong(3, entry.getValue().comments());
+                        ps.setTimestamp(4, Timestamp.valueOf(entry.getValue().latest()));
+                    });
+                    invalidationBus.publishAll(InvalidationRegions.UNREAD_NOTIFICATIONS, recipients);
+                });
+                saved += batch.size();
+                writtenCounter.increment(batch.size());
+                recipients.forEach(unreadCache::remove);
+            }
+        } catch (RuntimeException e) {
+            // 저장하지 못한 알림만 다음 주기에 재시도 (upsert는 댓글 수를 더하므로 저장된 행은 다시 쓰지 않음)
+            log.warn("알림 저장 실패: {}행 중 {}행 재시도 예정", entries.size(), entries.size() - saved, e);
+            for (Map.Entry<Target, Pending> entry : entries.subList(saved, entries.size())) {
+                retry.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 아직 저장하지 않은 알림을 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 읽지 않은 알림 수 (헤더 표시용, 캐시 사용)
+     * @param userId 로그인 사용자 ID
+     */
+    public long unreadCount(String userId) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = unreadCache.get(userId);
+        if (cached != null && now - cached.loadedAt() < unreadCacheTtlMillis) {
+            return cached.count();
+        }
+        // 조회와 저장(flush) 사이의 캐시 비우기와 겹치면 오래된 값이 남을 수 있으나 TTL 이내로 제한됨
+        long count = notificationRepository.countUnreadByUserId(userId);
+        unreadCache.put(userId, new CachedCount(count, now));
+        return count;
+    }
+
+    /**
+     * 최근 알림 목록 (게시글 포함, 최근 댓글 순)
+     */
+    public List<Notification> findRecent(String userId) {
+        return notificationRepository.findRecentByUserId(userId, PageRequest.of(0, RECENT_LIMIT));
+    }
+
+    /**
+     * 알림 1건을 읽음 처리하고 알림의 게시글 ID를 반환합니다.
+     */
+    public Long markRead(Long id, String userId) {
+        Notification notification = notificationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다: " + id));
+        Long postId = notification.getPost().getId();
+        int updated = transactionTemplate.execute(status -> {
+            int count = notificationRepository.markRead(id, userId);
+            if (count > 0) {
+                invalidationBus.publish(InvalidationRegions.UNREAD_NOTIFICATIONS, userId);
+            }
+            return count;
+        });
+        if (updated == 0 && !notification.isRead()) {
+            // 읽지 않은 알림인데 갱신되지 않았다면 본인의 알림이 아님
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다: " + id);
+        }
+        unreadCache.remove(userId);
+        return postId;
+    }
+
+    /**
+     * 모든 알림을 읽음 처리합니다.
+     */
+    public void markAllRead(String userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (notificationRepository.markAllRead(userId) > 0) {
+                invalidationBus.publish(InvalidationRegions.UNREAD_NOTIFICATIONS, userId);
+            }
+        });
+        unreadCache.remove(userId);
+    }
+
+    /**
+     * 알림 대상 (수신자 PK / 수신자 ID / 게시글 ID)
+     */
+    private record Target(Long recipientPk, String recipientId, Long postId) {
+    }
+
+    /**
+     * 모인 새 댓글 수와 마지막 댓글 시각
+     */
+    private record Pending(long comments, LocalDateTime latest) {
+
+        Pending plus(Pending other) {
+            return new Pending(comments + other.comments,
+                    latest.isAfter(other.latest) ? latest : other.latest);
+        }
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.board.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * tbl_board / tbl_comment 월 단위 파티션 관리 (MySQL RANGE COLUMNS(created_at), db/044)
+ *
+ * - 현재 달 + board.partition.future-months 개월까지 파티션을 미리 만듭니다.
+ *   (마지막 MAXVALUE 파티션 pmax를 월 파티션 + pmax로 나눔)
+ *   REORGANIZE는 pmax의 모든 행을 새 파티션으로 복사하면서 테이블 쓰기를 막으므로 pmax가 비어 있을 때만 나눕니다.
+ *   마이그레이션(db/044)이 현재 달까지 월 파티션을 만들고 이후 미래 달 파티션을 미리 만들어 두므로
+ *   정상적으로는 비어 있으며, 행이 있으면 경고만 남기고 건너뜁니다. (점검 시간에 직접 나눠야 함)
+ * - board.partition.retention-months 가 0보다 크면 그보다 오래된 파티션을 떼어냅니다.
+ *   (같은 구조의 보관 테이블 {테이블}_{파티션}과 EXCHANGE 후 빈 파티션 DROP, 데이터는 보관 테이블에 남음)
+ *   tbl_board 파티션을 떼어낼 때는 그 게시글의 하위 행(댓글, 추천, 알림, 첨부 등, 댓글은 이후 월 파티션 포함)을
+ *   먼저 {하위 테이블}_of_{파티션} 보관 테이블로 옮깁니다. (첨부 파일 자체는 저장소에 그대로 남음)
+ *   하위 행을 모두 옮긴 뒤에만 게시글 파티션을 떼어내며, 중간에 실패해도 다음 실행에서 이어서 옮깁니다.
+ * - 파티션되지 않은 테이블(마이그레이션 전, 개발 DB)은 건너뜁니다.
+ * - 여러 서버가 동시에 실행하지 않도록 MySQL 이름 잠금(GET_LOCK)을 사용합니다.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenance {
+
+    private static final List<String> TABLES = List.of("tbl_board", "tbl_comment");
+    private static final String MAX_PARTITION = "pmax";
+    private static final String LOCK_NAME = "board_partition_maintenance";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    // 게시글 하위 행 테이블 (모두 board_id 컬럼으로 게시글을 참조, 없는 테이블은 건너뜀)
+    private static final List<String> BOARD_CHILD_TABLES = List.of("tbl_comment", "tbl_recommend", "tbl_notification",
+            "tbl_attachment", "tbl_board_content", "tbl_board_stats", "tbl_board_viewers");
+    // 하위 행을 옮기는 게시글 묶음 크기
+    private static final int ARCHIVE_BATCH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int futureMonths;
+    private final int retentionMonths;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                @Value("${board.partition.enabled:true}") boolean enabled,
+                                @Value("${board.partition.future-months:3}") int futureMonths,
+                                @Value("${board.partition.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.futureMonths = futureMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * 미래 파티션 생성 / 오래된 파티션 분리 (기동 직후 + 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${board.partition.maintenance-ms:86400000}", initialDelayString = "${board.partition.initial-delay-ms:60000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 잠금과 DDL이 같은 커넥션에서 실행되어야 하므로 커넥션 하나로 처리
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate single = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = single.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+                if (locked == null || locked != 1) {
+                    return null; // 다른 서버가 실행 중
+                }
+                try {
+                    for (String table : TABLES) {
+                        maintain(single, table);
+                    }
+                } finally {
+                    single.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("파티션 관리 실패", e);
+        }
+    }
+
+    private void maintain(JdbcTemplate jdbc, String table) {
+        List<Partition> partitions = jdbc.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM INFORMATION_SCHEMA.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))), table);
+        if (partitions.isEmpty()) {
+            log.debug("파티션되지 않은 테이블이므로 건너뜀: {}", table);
+            return;
+        }
+        addFuturePartitions(jdbc, table, partitions);
+        if (retentionMonths > 0) {
+            detachExpiredPartitions(jdbc, table, partitions);
+        }
+    }
+
+    /**
+     * 마지막 월 파티션 다음 달부터 (현재 달 + futureMonths)까지 월 파티션을 만듭니다.
+     */
+    private void addFuturePartitions(JdbcTemplate jdbc, String table, List<Partition> partitions) {
+        LocalDate lastBound = partitions.stream()
+                .map(Partition::bound)
+                .filter(bound -> bound != null)
+                .reduce((first, second) -> second)
+                .orElse(null);
+        if (lastBound == null) {
+            log.warn("월 파티션이 없어 미래 파티션을 만들 수 없습니다: {}", table);
+            return;
+        }
+        LocalDate target = LocalDate.now().withDayOfMonth(1).plusMonths(futureMonths + 1L);
+        StringJoiner definitions = new StringJoiner(", ");
+        for (LocalDate month = lastBound; month.isBefore(target); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1) + "')");
+        }
+        if (definitions.length() == 0) {
+            return;
+        }
+        boolean hasMax = partitions.stream().anyMatch(partition -> MAX_PARTITION.equals(partition.name()));
+        if (hasMax && !jdbc.queryForList("SELECT 1 FROM " + table + " PARTITION (" + MAX_PARTITION + ") LIMIT 1",
+                Integer.class).isEmpty()) {
+            log.warn("{}.{} 파티션에 행이 있어 미래 파티션을 만들지 않습니다. (REORGANIZE 시 모든 행을 복사하므로 직접 나눠야 함)",
+                    table, MAX_PARTITION);
+            return;
+        }
+        String sql = hasMax
+                ? "ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + definitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))"
+                : "ALTER TABLE " + table + " ADD PARTITION (" + definitions + ")";
+        jdbc.execute(sql);
+        log.info("파티션 추가: {} ~{}", table, target);
+    }
+
+    /**
+     * 보존 기간보다 오래된 파티션을 보관 테이블로 떼어냅니다. (가장 최근 월 파티션은 남김)
+     */
+    private void detachExpiredPartitions(JdbcTemplate jdbc, String table, List<Partition> partitions) {
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        List<Partition> expired = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (partition.bound() != null && !partition.bound().isAfter(cutoff)) {
+                expired.add(partition);
+            }
+        }
+        long bounded = partitions.stream().filter(partition -> partition.bound() != null).count();
+        if (expired.size() >= bounded) {
+            expired.remove(expired.size() - 1); // RANGE 파티션은 최소 1개의 월 파티션이 필요
+        }
+        for (Partition partition : expired) {
+            String archive = table + "_" + partition.name();
+            try {
+                if ("tbl_board".equals(table)) {
+                    archiveBoardChildRows(jdbc, partition);
+                }
+                // 이미 있으면 실패 (이전 실행의 보관 테이블을 덮어쓰지 않음)
+                jdbc.execute("CREATE TABLE " + archive + " LIKE " + table);
+                jdbc.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+                jdbc.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partition.name() + " WITH TABLE " + archive);
+                jdbc.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+                log.info("파티션 분리: {}.{} -> {}", table, partition.name(), archive);
+            } catch (DataAccessException e) {
+                log.warn("파티션 분리 실패: {}.{}", table, partition.name(), e);
+            }
+        }
+    }
+
+    /**
+     * 떼어낼 게시글 파티션의 게시글에 딸린 하위 행을 {하위 테이블}_of_{파티션} 보관 테이블로 옮깁니다.
+     * 게시글 ID 묶음마다 복사(INSERT IGNORE, 다시 실행해도 중복 없음) 후 삭제합니다.
+     * 하위 테이블의 board_id 조회는 board_id 인덱스를 사용하고, 댓글은 파티션 하한 이후의 월 파티션만 읽습니다.
+     */
+    private void archiveBoardChildRows(JdbcTemplate jdbc, Partition partition) {
+        List<String> children = new ArrayList<>();
+        for (String child : BOARD_CHILD_TABLES) {
+            Integer exists = jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Integer.class, child);
+            if (exists == null || exists == 0) {
+                continue;
+            }
+            String archive = child + "_of_" + partition.name();
+            Integer archived = jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Integer.class, archive);
+            if (archived == null || archived == 0) {
+                jdbc.execute("CREATE TABLE " + archive + " LIKE " + child);
+                if (TABLES.contains(child)) {
+                    jdbc.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+                }
+            }
+            children.add(child);
+        }
+
+        LocalDateTime oldest = jdbc.queryForObject("SELECT MIN(created_at) FROM tbl_board PARTITION ("
+                + partition.name() + ")", LocalDateTime.class);
+        if (oldest == null) {
+            return; // 빈 파티션
+        }
+        // 댓글은 게시글 작성 이후에 작성되므로 파티션의 가장 오래된 게시글 기준 하한 이후만 읽음
+        LocalDateTime commentsSince = PartitionWindows.childRowsSince(oldest);
+        long afterId = 0;
+        long moved = 0;
+        while (true) {
+            List<Long> postIds = jdbc.queryForList("SELECT id FROM tbl_board PARTITION (" + partition.name() + ") " +
+                    "WHERE id > ? ORDER BY id LIMIT " + ARCHIVE_BATCH, Long.class, afterId);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            String ids = postIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            for (String child : children) {
+                boolean comments = "tbl_comment".equals(child);
+                String where = " WHERE board_id IN (" + ids + ")" + (comments ? " AND created_at >= ?" : "");
+                Object[] args = comments ? new Object[]{commentsSince} : new Object[0];
+                // 복사와 삭제를 한 트랜잭션으로 (복사 시 잡은 잠금으로 그 사이 추가된 행이 복사 없이 삭제되지 않음)
+                jdbc.execute("START TRANSACTION");
+                try {
+                    jdbc.update("INSERT IGNORE INTO " + child + "_of_" + partition.name() + " SELECT * FROM " + child + where, args);
+                    moved += jdbc.update("DELETE FROM " + child + where, args);
+                    jdbc.execute("COMMIT");
+                } catch (DataAccessException e) {
+                    jdbc.execute("ROLLBACK");
+                    throw e;
+                }
+            }
+            afterId = postIds.get(postIds.size() - 1);
+        }
+        log.info("게시글 하위 행 보관: tbl_board.{} -> {}개 테이블, {}행", partition.name(), children.size(), moved);
+    }
+
+    /**
+     * PARTITION_DESCRIPTION ('2025-02-01 00:00:00' 또는 MAXVALUE)에서 상한 날짜를 읽습니다.
+     */
+    private static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, 10));
+    }
+
+    /**
+     * 파티션 이름과 상한 (MAXVALUE 파티션은 null)
+     */
+    private record Partition(String name, LocalDate bound) {
+    }
+}
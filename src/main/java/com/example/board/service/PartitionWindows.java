@@ -0,0 +1,102 @@
+package com.example.board.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월 단위 파티션(created_at, PartitionMaintenance)을 최신 구간부터 나눠 조회하는 도우미
+ *
+ * "최신 N개" 조회를 created_at 범위 조건이 있는 쿼리 여러 개로 나누어, 각 쿼리가 일부 파티션만 읽도록 합니다.
+ * 기준 시각이 속한 달부터 [이번 달, ∞) → [2개월 전, 이번 달) → [11개월 전, 2개월 전) → [처음, 11개월 전)
+ * 순서로 조회하고, N개가 모이면 멈춥니다. (대부분 첫 구간 = 최신 파티션 1개에서 끝남)
+ * 범위 조건은 항상 붙이므로(MIN / MAX) 파티션이 없는 테이블에서도 같은 쿼리가 그대로 동작합니다.
+ */
+public final class PartitionWindows {
+
+    // 범위가 없는 쪽의 경계값 (NULL 비교 대신 사용하여 MySQL이 항상 파티션을 가지치기할 수 있게 함)
+    public static final LocalDateTime MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    // 각 구간의 하한: 기준 달의 1일에서 몇 개월 전인지
+    private static final int[] MONTHS_BACK = {0, 2, 11};
+
+    private PartitionWindows() {
+    }
+
+    /**
+     * created_at 범위 [from, to) 안에서 최신순으로 최대 limit개를 조회하는 쿼리
+     */
+    @FunctionalInterface
+    public interface WindowQuery<T> {
+        List<T> find(LocalDateTime from, LocalDateTime to, int limit);
+    }
+
+    /**
+     * created_at 범위 [from, to) 안에서 커서(작성 시각, ID) 다음 행을 최신순으로 최대 limit개 조회하는 쿼리
+     */
+    @FunctionalInterface
+    public interface KeysetWindowQuery<T> {
+        List<T> find(LocalDateTime from, LocalDateTime to, LocalDateTime afterAt, Long afterId, int limit);
+    }
+
+    /**
+     * 최신순 키셋 페이지 1개를 조회합니다. (커서가 속한 달의 파티션부터, 다음 페이지 존재 여부를 위해 1개 더 조회)
+     * 첫 페이지는 커서 대신 MAX / Long.MAX_VALUE를 넘기므로 쿼리는 항상 같은 형태입니다.
+     * @param cursorCreatedAt 이전 페이지 마지막 행의 작성 시각 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 행의 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param query 구간 조회 쿼리
+     * @return 최신순 Slice
+     */
+    public static <T> Slice<T> newestFirstPage(LocalDateTime cursorCreatedAt, Long cursorId, int size,
+                                               KeysetWindowQuery<T> query) {
+        boolean first = cursorCreatedAt == null || cursorId == null;
+        LocalDateTime afterAt = first ? MAX : cursorCreatedAt;
+        Long afterId = first ? Long.MAX_VALUE : cursorId;
+        List<T> rows = newestFirst(first ? null : cursorCreatedAt, size + 1,
+                (from, to, limit) -> query.find(from, to, afterAt, afterId, limit));
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 최신 구간부터 조회하여 최신순으로 최대 limit개를 모읍니다.
+     * @param anchor 기준 시각 (키셋 커서의 작성 시각, 첫 페이지는 null = 현재)
+     * @param limit 최대 개수
+     * @param query 구간 조회 쿼리
+     * @return 최신순 목록 (최대 limit개)
+     */
+    public static <T> List<T> newestFirst(LocalDateTime anchor, int limit, WindowQuery<T> query) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate month = (anchor == null || anchor.isAfter(now) ? now : anchor).toLocalDate().withDayOfMonth(1);
+
+        List<T> rows = new ArrayList<>();
+        LocalDateTime to = MAX;
+        for (int monthsBack : MONTHS_BACK) {
+            LocalDateTime from = month.minusMonths(monthsBack).atStartOfDay();
+            rows.addAll(query.find(from, to, limit - rows.size()));
+            if (rows.size() >= limit) {
+                return rows;
+            }
+            to = from;
+        }
+        rows.addAll(query.find(MIN, to, limit - rows.size()));
+        return rows;
+    }
+
+    /**
+     * 게시글에 딸린 행(댓글 등)을 조회할 때 쓰는 created_at 하한
+     * 댓글은 게시글보다 먼저 작성될 수 없으므로 게시글 작성 시각 이전의 파티션은 읽지 않습니다.
+     * (서버 간 시계 차이를 고려해 하루 여유를 둠, 파티션은 월 단위라 가지치기 효과는 같음)
+     * @param postCreatedAt 게시글 작성 시각 (모르면 null)
+     */
+    public static LocalDateTime childRowsSince(LocalDateTime postCreatedAt) {
+        return postCreatedAt == null ? MIN : postCreatedAt.minusDays(1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.board.service;
+
+import com.example.board.model.PostContent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 압축/해제기
+ *
+ * - UTF-8 기준 board.content.compress-threshold 바이트 이상인 본문만 Deflate로 압축합니다.
+ * - 압축 결과가 원문보다 크거나 같으면 압축하지 않고 저장합니다.
+ */
+@Component
+public class PostContentCodec {
+
+    private final int compressThreshold;
+
+    public PostContentCodec(@Value("${board.content.compress-threshold:1024}") int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    /**
+     * 본문을 저장용 엔티티로 변환합니다.
+     * @param postId 게시글 ID
+     * @param content 본문
+     * @return 저장할 PostContent
+     */
+    public PostContent encode(Long postId, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= compressThreshold) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length) {
+                return create(postId, PostContent.CODEC_DEFLATE, raw.length, compressed);
+            }
+        }
+        return create(postId, PostContent.CODEC_NONE, raw.length, raw);
+    }
+
+    /**
+     * 저장된 본문을 문자열로 복원합니다.
+     * @param postContent 저장된 본문
+     * @return 본문
+     */
+    public String decode(PostContent postContent) {
+        if (postContent.getCodec() == PostContent.CODEC_DEFLATE) {
+            return new String(inflate(postContent.getBody(), postContent.getOriginalLength()), StandardCharsets.UTF_8);
+        }
+        return new String(postContent.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private PostContent create(Long postId, byte codec, int originalLength, byte[] body) {
+        PostContent postContent = new PostContent();
+        postContent.setPostId(postId);
+        postContent.setCodec(codec);
+        postContent.setOriginalLength(originalLength);
+        postContent.setBody(body);
+        return postContent;
+    }
+
+    private byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] result = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(result, offset, originalLength - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != originalLength) {
+                throw new IllegalStateException("게시글 본문이 손상되었습니다.");
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("게시글 본문 압축 해제에 실패했습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.board.service;
+
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 상세 페이지의 실시간 갱신(SSE)을 위한 프로세스 내 팬아웃 허브
+ *
+ * - 게시글 ID별로 구독자(SseEmitter)를 관리합니다.
+ * - 새 댓글 / 추천 수 변경 이벤트를 트랜잭션 커밋 이후에 구독자에게 전달합니다.
+ * - 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 찬(느린) 구독자는 연결을 끊습니다.
+ * - 전송은 소수의 전송 스레드가 담당하므로 요청 스레드나 이벤트 발행 스레드가 블로킹되지 않습니다.
+ *   (SseEmitter는 비동기 서블릿 위에서 동작하므로 연결당 스레드를 점유하지 않습니다.)
+ * - 구독자 수가 한도에 도달하면 재연결 대기 시간(retry)만 보내고 연결을 닫아, 브라우저(EventSource)가 잠시 후 다시 시도하게 합니다.
+ *   (EventSource는 200이 아닌 응답(503 등)을 받으면 재연결하지 않으므로 상태 코드 대신 SSE retry 필드를 사용)
+ */
+@Slf4j
+@Component
+public class PostEventHub {
+
+    private static final String EVENT_COMMENT = "comment";
+    private static final String EVENT_RECOMMEND = "recommend";
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders;
+
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long busyRetryMillis;
+
+    public PostEventHub(@Value("${board.sse.timeout-ms:1800000}") long timeoutMillis,
+                        @Value("${board.sse.buffer-size:32}") int bufferSize,
+                        @Value("${board.sse.max-subscribers:10000}") int maxSubscribers,
+                        @Value("${board.sse.sender-threads:4}") int senderThreads,
+                        @Value("${board.sse.busy-retry-ms:5000}") long busyRetryMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.busyRetryMillis = busyRetryMillis;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "sse-sender-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 게시글 이벤트 구독을 시작합니다.
+     * @param postId 구독할 게시글 ID
+     * @return 클라이언트와 연결된 SseEmitter (최대 구독자 수를 초과하면 재연결 대기 시간만 보내고 닫히는 SseEmitter)
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return rejectBusy(postId);
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(postId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.computeIfAbsent(postId, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // 연결 종료/타임아웃/오류 시 정리
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        return emitter;
+    }
+
+    /**
+     * 한도 초과 시 재연결 대기 시간(retry)을 보내고 바로 닫습니다.
+     * 대기 시간은 busyRetryMillis ~ 2배 사이에서 무작위로 정해, 거절된 클라이언트가 한꺼번에 재연결하지 않도록 합니다.
+     */
+    private SseEmitter rejectBusy(Long postId) {
+        log.debug("SSE 구독자 수 한도 초과로 재연결 안내: postId={}", postId);
+        long retryMillis = busyRetryMillis + ThreadLocalRandom.current().nextLong(busyRetryMillis + 1);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        try {
+            // 핸들러 반환 전의 전송은 버퍼에 보관되었다가 응답이 시작될 때 기록됨
+            emitter.send(SseEmitter.event().reconnectTime(retryMillis).comment("busy"));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 새 댓글을 구독자에게 전달합니다. (커밋된 경우에만)
+     */
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        publish(event.postId(), SseEmitter.event()
+                .name(EVENT_COMMENT)
+                .id(String.valueOf(event.commentId()))
+                .data(new CommentMessage(event.commentId(), event.path(), event.anonymousId(),
+                        event.renderedContent(), event.createdAt()),
+                        MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * 변경된 추천 수를 구독자에게 전달합니다. (커밋된 경우에만)
+     */
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        publish(event.postId(), SseEmitter.event()
+                .name(EVENT_RECOMMEND)
+                .data(event.recommendationCount()));
+    }
+
+    /**
+     * 주기적으로 하트비트(주석 라인)를 보내 끊어진 연결을 감지하고 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                // 버퍼에 이미 보낼 데이터가 있으면 하트비트는 생략
+                if (subscriber.queue.isEmpty()) {
+                    enqueue(subscriber, ping);
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 구독자 수 (모니터링용)
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void publish(Long postId, SseEmitter.SseEventBuilder builder) {
+        Set<Subscriber> set = subscribers.get(postId);
+        if (set == null) {
+            return;
+        }
+        // SseEventBuilder.build()는 내부 상태를 변경하므로 한 번만 만들어 모든 구독자가 공유
+        Set<DataWithMediaType> event = builder.build();
+        for (Subscriber subscriber : set) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            // 버퍼가 가득 찬 느린 구독자는 끊고, 클라이언트(EventSource)가 재연결하도록 함
+            log.debug("SSE 버퍼 초과로 구독 종료: postId={}", subscriber.postId);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊어진 경우
+            close(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // drain 종료 직후 들어온 이벤트가 남아 있으면 다시 예약
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.queue.clear();
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // 이미 완료된 경우
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.postId, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * 구독자 1명 (게시글 ID, 연결, 전송 대기 버퍼)
+     */
+    private static final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * 클라이언트로 전송되는 댓글 데이터 (작성자 ID 등 민감 정보 제외)
+     * renderedContent는 서버에서 이스케이프/렌더링된 HTML이고, path는 목록 내 삽입 위치(답글 트리 순서)입니다.
+     */
+    public record CommentMessage(Long id, String path, Integer anonymousId, String renderedContent,
+                                 LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.board.service;
+
+import com.example.board.repository.PostRepository.PostSummary;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 게시글 목록을 배치 단위로 읽어오는 커서 (최신순, 키셋 페이지네이션)
+ *
+ * 템플릿(th:each)이 순회하는 동안 다음 배치를 필요할 때만 조회하므로,
+ * 전체 목록을 메모리에 올리지 않고 한 배치(batchSize)만 보관합니다.
+ * 각 배치를 조회하기 전에 beforeFetch를 호출하여 지금까지 렌더링된 HTML을 먼저 내보낼 수 있습니다.
+ * (한 번만 순회하는 용도이며 스레드 안전하지 않음)
+ */
+public class PostListCursor implements Iterable<PostSummary> {
+
+    private final PageLoader pageLoader;
+    private final int batchSize;
+    private final Runnable beforeFetch;
+    private Slice<PostSummary> firstBatch;
+
+    /**
+     * @param pageLoader 키셋 커서 다음 페이지 조회 (PostService.findSummaryPage)
+     * @param batchSize 한 번에 조회할 게시글 수
+     * @param beforeFetch 각 배치를 조회하기 전에 호출할 작업 (예: 응답 flush)
+     */
+    public PostListCursor(PageLoader pageLoader, int batchSize, Runnable beforeFetch) {
+        this.pageLoader = pageLoader;
+        this.batchSize = batchSize;
+        this.beforeFetch = beforeFetch;
+    }
+
+    /**
+     * 게시글이 없는지 확인합니다. (첫 배치를 조회하며, 순회 시 다시 조회하지 않음)
+     */
+    public boolean isEmpty() {
+        return first().isEmpty();
+    }
+
+    @Override
+    public Iterator<PostSummary> iterator() {
+        return new Iterator<>() {
+            private Slice<PostSummary> batch = first();
+            private Iterator<PostSummary> rows = batch.iterator();
+            private PostSummary last;
+
+            @Override
+            public boolean hasNext() {
+                if (rows.hasNext()) {
+                    return true;
+                }
+                if (!batch.hasNext() || last == null) {
+                    return false;
+                }
+                batch = fetch(last); // 다음 배치 (이전 배치는 GC 대상)
+                rows = batch.iterator();
+                return rows.hasNext();
+            }
+
+            @Override
+            public PostSummary next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = rows.next();
+                return last;
+            }
+        };
+    }
+
+    private Slice<PostSummary> first() {
+        if (firstBatch == null) {
+            beforeFetch.run();
+            firstBatch = pageLoader.load(null, null, batchSize);
+        }
+        return firstBatch;
+    }
+
+    private Slice<PostSummary> fetch(PostSummary cursor) {
+        beforeFetch.run();
+        return pageLoader.load(cursor.getCreatedAt(), cursor.getId(), batchSize);
+    }
+
+    /**
+     * 키셋 커서 다음의 게시글 요약 페이지 조회 (커서가 null이면 첫 페이지)
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        Slice<PostSummary> load(LocalDateTime cursorCreatedAt, Long cursorId, int size);
+    }
+
+}
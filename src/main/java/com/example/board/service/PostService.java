@@ -1,17 +1,35 @@
 package com.example.board.service;
 
 import com.example.board.model.Post;
+import com.example.board.model.PostContent;
 import com.example.board.model.User;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostContentRepository;
 import com.example.board.repository.PostRepository;
+import com.example.board.repository.PostRepository.PostDetailView;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.repository.RecommendationRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.service.event.PostCreatedEvent;
+import com.example.board.service.event.PostDeletedEvent;
+import com.example.board.service.event.PostUpdatedEvent;
+import com.example.board.service.event.PostViewedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,12 +38,38 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository; // 게시글 삭제 시 댓글 논리적 삭제
+    private final RecommendationRepository recommendationRepository; // 게시글 삭제 시 추천 기록 삭제
+    private final PostContentRepository postContentRepository; // 게시글 본문 (별도 테이블)
+    private final PostContentCodec postContentCodec; // 본문 압축/해제
+    private final ContentRenderer contentRenderer; // 본문 HTML 렌더링 (저장 시 1회)
+    private final ApplicationEventPublisher eventPublisher; // 조회 이벤트 발행 (고유 방문자, 저널 등)
+    private final SingleFlight<Long, Post> postDetailLoader; // 같은 게시글의 동시 상세 조회를 1번으로 합침
+    private final LatestPostsWindow latestPostsWindow; // 최신 게시글 요약 (목록 앞쪽 페이지)
+    private final ViewCountBuffer viewCountBuffer; // 상세 조회수 증가 (메모리에 모아 배치 반영)
+    private final PlatformTransactionManager transactionManager; // 상세 조회용 짧은 트랜잭션
+
+    @Value("${board.posts.list-batch-size:200}")
+    private int listBatchSize; // 목록 화면에서 한 번에 조회할 게시글 수
+
+    @Value("${board.mypage.page-size:100}")
+    private int myPagePageSize; // 마이페이지 작성글 한 페이지 크기
 
     public List<Post> findAll() {
         // TODO: 추후 Paging 또는 isDel=false 조건 추가
         return postRepository.findAllByOrderByCreatedAtDesc();
     }
 
+    /**
+     * 목록 화면용 게시글 요약을 최신순으로 배치 단위로 조회하는 커서를 반환합니다.
+     * (렌더링하면서 순회하므로 전체 목록을 메모리에 올리지 않음)
+     * @param beforeFetch 각 배치를 조회하기 전에 호출할 작업 (예: 이미 렌더링된 응답 flush)
+     * @return 게시글 요약 커서
+     */
+    public PostListCursor streamAll(Runnable beforeFetch) {
+        return new PostListCursor(this::findSummaryPage, listBatchSize, beforeFetch);
+    }
+
     /**
      * ID로 게시글 단일 조회 (조회수 증가 없음)
      * (update, delete 등 서비스 내부 로직에서 사용)
@@ -37,20 +81,157 @@ public class PostService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + id));
     }
 
+    /**
+     * ID로 게시글과 본문을 함께 조회 (조회수 증가 없음)
+     * (수정 폼 등 본문이 필요한 화면에서 사용)
+     * @param id 조회할 게시글 ID
+     * @return 본문(content)이 채워진 Post 객체
+     */
+    public Post findWithContent(Long id) {
+        Post post = findById(id);
+        post.setContent(loadContent(id));
+        return post;
+    }
+
+    /**
+     * 게시글 본문을 조회하여 압축을 해제합니다.
+     * @param postId 게시글 ID
+     * @return 본문 (본문 행이 없으면 빈 문자열)
+     */
+    private String loadContent(Long postId) {
+        return postContentRepository.findById(postId)
+                .map(postContentCodec::decode)
+                .orElse("");
+    }
+
+    /**
+     * 상세 화면용 렌더링된 본문 HTML을 조회합니다.
+     * 저장된 렌더러 버전이 현재 버전과 다르면 원문을 다시 렌더링하여 저장합니다. (쓰기 트랜잭션 안에서 호출)
+     * @param postId 게시글 ID
+     * @return 렌더링된 본문 HTML
+     */
+    private String loadRenderedContent(Long postId) {
+        Optional<PostContentRepository.RenderedContent> rendered = postContentRepository.findRenderedByPostId(postId);
+        if (rendered.isEmpty()) {
+            return "";
+        }
+        if (rendered.get().getRenderVersion() == ContentRenderer.VERSION) {
+            return rendered.get().getRenderedHtml(); // 일반적인 경우: 저장된 HTML 그대로 사용
+        }
+        // 렌더러가 변경된 경우: 원문으로 다시 렌더링 (더티 체킹으로 저장)
+        PostContent postContent = postContentRepository.findById(postId).orElseThrow();
+        applyRendered(postContent, postContentCodec.decode(postContent));
+        return postContent.getRenderedHtml();
+    }
+
+    /**
+     * 원문을 저장용 본문(압축 + 렌더링된 HTML)으로 변환합니다.
+     */
+    private PostContent buildContent(Long postId, String content) {
+        PostContent postContent = postContentCodec.encode(postId, content);
+        applyRendered(postContent, content);
+        return postContent;
+    }
+
+    private void applyRendered(PostContent postContent, String content) {
+        postContent.setRenderedHtml(contentRenderer.render(content));
+        postContent.setRenderVersion(ContentRenderer.VERSION);
+    }
+
     /**
      * ID로 게시글 단일 조회 (★조회수 증가 포함★)
      * (Controller에서 사용자에게 게시글을 보여줄 때 사용)
      * @param id 조회할 게시글 ID
+     * @param viewerKey 방문자 키 (로그인 사용자 ID 또는 비로그인 방문자 지문, 고유 방문자 집계용)
      * @return 조회된 Post 객체
      */
-    @Transactional // 쓰기 작업(조회수 증가)이 포함되므로 @Transactional 적용
-    public Post getPostDetail(Long id) {
-        Post post = findById(id); // 1. 내부 로직으로 게시글 조회
-        post.setViewCount(post.getViewCount() + 1); // 2. 조회수 증가 (더티 체킹)
-        // @Transactional이 종료될 때 변경 감지로 인해 UPDATE 쿼리가 실행됨
-        return post; // 3. 게시글 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 동시 조회를 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
+    public Post getPostDetail(Long id, String viewerKey) {
+        // 1. 게시글 + 렌더링된 본문 조회 (같은 게시글을 동시에 조회하면 1번만 조회하고 결과를 공유, 조회는 짧은 트랜잭션)
+        Post shared = postDetailLoader.load(id,
+                () -> new TransactionTemplate(transactionManager).execute(status -> loadDetail(id)));
+        // 2. 조회수 증가 (메모리에 모아 주기적으로 배치 UPDATE, 같은 행에 대한 UPDATE 경합 방지)
+        long pendingViews = viewCountBuffer.increment(id, shared.getCreatedAt());
+        eventPublisher.publishEvent(new PostViewedEvent(id, viewerKey)); // 3. 조회 이벤트 (고유 방문자, 저널 등 - 메모리 처리)
+        // 4. 공유 객체는 변경하지 않고, 요청별 복사본에 아직 반영되지 않은 조회수를 더해서 반환
+        Post post = copyForView(shared);
+        post.setViewCount(shared.getViewCount() + (int) pendingViews);
+        return post;
+    }
+
+    /**
+     * 상세 화면용 게시글(작성자 + 렌더링된 본문)을 조회합니다.
+     * 여러 요청이 결과를 공유하므로 영속성 컨텍스트와 분리된 복사본을 반환합니다.
+     */
+    private Post loadDetail(Long id) {
+        Post post = postRepository.findDetailById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + id));
+        Post detail = copyForView(post);
+        detail.setRenderedContent(loadRenderedContent(id));
+        return detail;
+    }
+
+    /**
+     * 화면 표시에 필요한 필드만 복사합니다. (댓글/추천 컬렉션 제외)
+     */
+    private static Post copyForView(Post source) {
+        Post copy = new Post();
+        copy.setId(source.getId());
+        copy.setUser(source.getUser());
+        copy.setTitle(source.getTitle());
+        copy.setRenderedContent(source.getRenderedContent());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setViewCount(source.getViewCount());
+        copy.setRecommendationCount(source.getRecommendationCount());
+        copy.setUniqueViewerCount(source.getUniqueViewerCount());
+        copy.setCommentCount(source.getCommentCount());
+        return copy;
+    }
+
+
+    /**
+     * 게시글 요약을 최신순으로 한 페이지 조회합니다. (목록 화면 / JSON API 목록용, 키셋 페이지네이션)
+     * 커서가 속한 달의 파티션부터 조회하므로 보통 월 파티션 1개만 읽습니다. (PartitionWindows)
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성 시각 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 게시글의 ID (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 게시글 요약 Slice
+     */
+    public Slice<PostSummary> findSummaryPage(LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        // 최신 N개 안의 페이지는 메모리 스냅샷에서 제공 (DB 조회 없음)
+        Slice<PostSummary> latest = latestPostsWindow.findPage(cursorCreatedAt, cursorId, size);
+        if (latest != null) {
+            return latest;
+        }
+        return PartitionWindows.newestFirstPage(cursorCreatedAt, cursorId, size, (from, to, afterAt, afterId, limit) ->
+                postRepository.findSummaryWindow(from, to, afterAt, afterId, PageRequest.of(0, limit)));
+    }
+
+    /**
+     * JSON API 상세 조회 (★조회수 증가 포함★, 엔티티 대신 프로젝션 반환)
+     * 상세 화면(getPostDetail)과 같이 조회수는 ViewCountBuffer에 모아 반영하므로 요청마다 UPDATE하지 않습니다.
+     * @param id 조회할 게시글 ID
+     * @param viewerKey 방문자 키 (고유 방문자 집계용)
+     * @return 아직 반영되지 않은 조회수까지 더한 게시글 상세 프로젝션
+     */
+    public PostDetailView getPostDetailView(Long id, String viewerKey) {
+        PostDetailView view = postRepository.findDetailViewById(id) // 1. 게시글 조회 (읽기 전용)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: " + id));
+        long pendingViews = viewCountBuffer.increment(id, view.getCreatedAt()); // 2. 조회수 증가 (메모리)
+        eventPublisher.publishEvent(new PostViewedEvent(id, viewerKey)); // 3. 조회 이벤트
+        return new CountedDetailView(view, pendingViews);
     }
 
+    /**
+     * 렌더링된 본문 HTML을 조회합니다. (렌더러 버전이 바뀐 경우 다시 렌더링하여 저장)
+     * @param id 게시글 ID
+     * @return 렌더링된 본문 HTML
+     */
+    @Transactional
+    public String getRenderedContent(Long id) {
+        return loadRenderedContent(id);
+    }
 
     /**
      * 인기글 5개를 조회합니다. (추천수 5이상, 추천수 내림차순)
@@ -96,7 +277,13 @@ public class PostService {
         post.setCreatedAt(LocalDateTime.now());
         // view_count와 recommend_count는 Post 엔티티에서 @ColumnDefault("0")으로 초기화됨
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+
+        // 본문은 별도 테이블에 (필요 시 압축하여) 저장
+        postContentRepository.save(buildContent(saved.getId(), post.getContent()));
+
+        eventPublisher.publishEvent(new PostCreatedEvent(saved.getId(), userId, saved.getTitle(), saved.getCreatedAt()));
+        return saved;
     }
 
     /**
@@ -120,6 +307,11 @@ public class PostService {
         post.setContent(postDetails.getContent());
         post.setUpdatedAt(LocalDateTime.now());
 
+        // 본문 테이블 갱신 (같은 게시글 ID로 덮어씀)
+        PostContent postContent = buildContent(id, postDetails.getContent());
+        postContentRepository.save(postContent);
+
+        eventPublisher.publishEvent(new PostUpdatedEvent(id, userId, post.getTitle())); // 감사 로그 등
         return post; // @Transactional에 의해 더티 체킹
     }
 
@@ -138,24 +330,98 @@ public class PostService {
             throw new AccessDeniedException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        postRepository.delete(post);
+        // 엔티티 삭제(@SQLDelete, cascade)는 id 조건만 있어 모든 월 파티션을 읽으므로 created_at 조건으로 직접 처리
+        // (이전 cascade와 같이 댓글은 논리적 삭제, 추천 기록은 삭제)
+        postRepository.softDelete(id, post.getCreatedAt());
+        commentRepository.softDeleteByPostId(id, PartitionWindows.childRowsSince(post.getCreatedAt()));
+        recommendationRepository.deleteByPostId(id);
+        eventPublisher.publishEvent(new PostDeletedEvent(id, userId)); // 감사 로그 등
     }
+
     /**
      * 메인 페이지용 최신 게시글 10개를 조회합니다.
-     * @return 최신 게시글 10개 목록
+     * 목록 첫 페이지와 같이 LatestPostsWindow 스냅샷에서 제공하므로 보통 DB를 조회하지 않습니다.
+     * @return 최신 게시글 요약 10개 목록
      */
-    public List<Post> findLatest10() {
-        return postRepository.findTop10ByOrderByCreatedAtDesc();
+    public List<PostSummary> findLatest10() {
+        return findSummaryPage(null, null, 10).getContent();
     }
     /**
-     * 특정 사용자가 작성한 게시글을 조회합니다.
+     * 특정 사용자가 작성한 게시글을 최신순으로 한 페이지 조회합니다. (키셋 페이지네이션, board.mypage.page-size개씩)
      * @param userId 사용자 ID
-     * @return 사용자가 작성한 게시글 목록
+     * @param cursorCreatedAt 이전 페이지 마지막 게시글의 작성 시각 (첫 페이지는 null)
+     * @param cursorId 이전 페이지 마지막 게시글의 ID (첫 페이지는 null)
+     * @return 사용자가 작성한 게시글 Slice
      */
-    public List<Post> findPostsByUserId(String userId) {
+    public Slice<Post> findPostsByUserId(String userId, LocalDateTime cursorCreatedAt, Long cursorId) {
         User user = userRepository.findByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-        return postRepository.findByUserOrderByCreatedAtDesc(user);
+        return PartitionWindows.newestFirstPage(cursorCreatedAt, cursorId, myPagePageSize, (from, to, afterAt, afterId, limit) ->
+                postRepository.findByUserWindow(user, from, to, afterAt, afterId, PageRequest.of(0, limit)));
     }
-}
 
+    /**
+     * 조회한 프로젝션 값에 아직 반영되지 않은 조회수를 더한 상세 응답 (JSON API용 복사본)
+     */
+    private static final class CountedDetailView implements PostDetailView {
+        private final Long id;
+        private final String title;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final int viewCount;
+        private final long uniqueViewerCount;
+        private final int recommendationCount;
+        private final int commentCount;
+
+        private CountedDetailView(PostDetailView source, long pendingViews) {
+            this.id = source.getId();
+            this.title = source.getTitle();
+            this.createdAt = source.getCreatedAt();
+            this.updatedAt = source.getUpdatedAt();
+            this.viewCount = source.getViewCount() + (int) pendingViews;
+            this.uniqueViewerCount = source.getUniqueViewerCount();
+            this.recommendationCount = source.getRecommendationCount();
+            this.commentCount = source.getCommentCount();
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        @Override
+        public int getViewCount() {
+            return viewCount;
+        }
+
+        @Override
+        public long getUniqueViewerCount() {
+            return uniqueViewerCount;
+        }
+
+        @Override
+        public int getRecommendationCount() {
+            return recommendationCount;
+        }
+
+        @Override
+        public int getCommentCount() {
+            return commentCount;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.board.service;
+
+import com.example.board.model.PostStat;
+import com.example.board.model.PostStat.Granularity;
+import com.example.board.repository.PostStatRepository;
+import com.example.board.service.event.PostViewedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 게시글별 시간 구간(분/시/일) 조회수·추천수 집계기
+ *
+ * - 조회/추천 시에는 메모리의 분 단위 구간만 갱신하며 DB에 쓰지 않습니다.
+ * - 주기적으로(board.stats.flush-ms) 분 구간을 분/시/일 구간으로 합산하여
+ *   tbl_board_stats에 한 번에(board.stats.flush-batch-size 행씩 트랜잭션, JDBC 배치) 더합니다.
+ * - 기간 조회는 저장된 구간 + 아직 저장되지 않은 메모리 구간(저장 중 / 저장 실패 후 재시도 대기 포함)을 합쳐서 응답합니다.
+ * - 분 구간은 board.stats.minute-retention-hours, 시 구간은 board.stats.hour-retention-days 동안 보관하고,
+ *   일 구간은 계속 보관합니다.
+ */
+@Slf4j
+@Component
+public class PostStatsRollup {
+
+    // 구간 집계에 증감분을 더합니다. (행이 없으면 생성, MySQL upsert)
+    private static final String ADD_COUNTS_SQL = "INSERT INTO tbl_board_stats " +
+            "(board_id, granularity, bucket_start, view_count, recommend_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), " +
+            "recommend_count = recommend_count + VALUES(recommend_count)";
+
+    private final PostStatRepository postStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int flushBatchSize;
+    private final long minuteRetentionHours;
+    private final long hourRetentionDays;
+
+    // 마지막 저장 이후 변경분 (게시글 ID -> 분 구간별 증가분)
+    private final Map<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+    // 저장 중이거나 저장에 실패하여 재시도를 기다리는 변경분 (저장이 끝나기 전의 조회에도 포함되도록 보관)
+    private volatile Unsaved unsaved = Unsaved.EMPTY;
+
+    public PostStatsRollup(PostStatRepository postStatRepository,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${board.stats.flush-batch-size:500}") int flushBatchSize,
+                           @Value("${board.stats.minute-retention-hours:48}") long minuteRetentionHours,
+                           @Value("${board.stats.hour-retention-days:90}") long hourRetentionDays) {
+        this.postStatRepository = postStatRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushBatchSize = flushBatchSize;
+        this.minuteRetentionHours = minuteRetentionHours;
+        this.hourRetentionDays = hourRetentionDays;
+    }
+
+    /**
+     * 게시글 상세 조회 이벤트를 집계합니다.
+     */
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        record(event.postId(), 1, 0);
+    }
+
+    /**
+     * 추천/추천 취소가 커밋되면 집계합니다.
+     */
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        record(event.postId(), 0, event.recommended() ? 1 : -1);
+    }
+
+    private void record(Long postId, long views, long recommends) {
+        LocalDateTime minute = Granularity.MINUTE.truncate(LocalDateTime.now());
+        // 저장(flush)을 위해 꺼내진 객체에는 더하지 않고 새 객체로 다시 시도
+        while (!pending.computeIfAbsent(postId, id -> new PendingCounts()).add(minute, views, recommends)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 게시글의 최근 기간 합계를 조회합니다. (시 구간 기준이므로 시작 시각이 속한 1시간 전체가 포함됩니다.)
+     * @param postId 게시글 ID
+     * @param window 기간 (예: 24시간, 7일)
+     * @return 기간 내 조회수 / 추천수 증감 합계
+     */
+    public WindowTotals totals(Long postId, Duration window) {
+        LocalDateTime to = LocalDateTime.now();
+        long views = 0;
+        long recommends = 0;
+        for (StatPoint point : series(postId, Granularity.HOUR, to.minus(window), to)) {
+            views += point.views();
+            recommends += point.recommends();
+        }
+        return new WindowTotals(views, recommends);
+    }
+
+    /**
+     * 게시글의 구간별 조회수 / 추천수 증감을 조회합니다.
+     * @param postId 게시글 ID
+     * @param granularity 구간 단위
+     * @param from 시작 시각 (구간 단위로 절삭)
+     * @param to 종료 시각 (포함하지 않음)
+     * @return 구간 시작 시각 순서의 목록 (값이 없는 구간은 생략)
+     */
+    public List<StatPoint> series(Long postId, Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        TreeMap<LocalDateTime, long[]> merged = new TreeMap<>();
+        for (PostStat stat : postStatRepository.findRange(postId, granularity, start, to)) {
+            merged.put(stat.getBucketStart(), new long[]{stat.getViewCount(), stat.getRecommendCount()});
+        }
+        // 아직 저장되지 않은 메모리 구간 (저장 중 / 재시도 대기 중인 것 포함)
+        Unsaved current = unsaved;
+        addPending(merged, current.minutes().get(postId), granularity, start, to);
+        addRows(merged, current.rows().get(postId), granularity, start, to);
+        addPending(merged, pending.get(postId), granularity, start, to);
+
+        List<StatPoint> points = new ArrayList<>(merged.size());
+        merged.forEach((bucket, counts) -> points.add(new StatPoint(bucket, counts[0], counts[1])));
+        return points;
+    }
+
+    private void addPending(TreeMap<LocalDateTime, long[]> merged, PendingCounts counts,
+                            Granularity granularity, LocalDateTime start, LocalDateTime to) {
+        if (counts == null) {
+            return;
+        }
+        counts.forEach((minute, delta) -> {
+            if (minute.isBefore(start) || !minute.isBefore(to)) {
+                return;
+            }
+            long[] target = merged.computeIfAbsent(granularity.truncate(minute), bucket -> new long[2]);
+            target[0] += delta[0];
+            target[1] += delta[1];
+        });
+    }
+
+    private void addRows(TreeMap<LocalDateTime, long[]> merged, Map<PostStat.Key, long[]> rows,
+                         Granularity granularity, LocalDateTime start, LocalDateTime to) {
+        if (rows == null) {
+            return;
+        }
+        rows.forEach((key, delta) -> {
+            LocalDateTime bucket = key.getBucketStart();
+            if (key.getGranularity() != granularity || bucket.isBefore(start) || !bucket.isBefore(to)) {
+                return;
+            }
+            long[] target = merged.computeIfAbsent(bucket, b -> new long[2]);
+            target[0] += delta[0];
+            target[1] += delta[1];
+        });
+    }
+
+    /**
+     * 변경분을 분/시/일 구간으로 합산하여 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.stats.flush-ms:60000}")
+    public synchronized void flush() {
+        Unsaved previous = unsaved;
+        Map<Long, PendingCounts> drained = new ConcurrentHashMap<>();
+        unsaved = new Unsaved(drained, previous.rows());
+        for (Long postId : new ArrayList<>(pending.keySet())) {
+            PendingCounts counts = pending.remove(postId);
+            if (counts != null) {
+                counts.seal();
+                drained.put(postId, counts);
+            }
+        }
+        if (drained.isEmpty() && previous.rows().isEmpty()) {
+            unsaved = Unsaved.EMPTY;
+            return;
+        }
+
+        // 같은 시/일 구간의 분 구간 증가분을 미리 합쳐서 행 수를 줄임 (지난 주기에 저장하지 못한 행 포함)
+        // 조회 중인 스레드가 읽는 배열은 바꾸지 않도록 새 배열로 합산
+        Map<Long, Map<PostStat.Key, long[]>> rows = new ConcurrentHashMap<>();
+        previous.rows().forEach((postId, postRows) -> rows.put(postId, new ConcurrentHashMap<>(postRows)));
+        drained.forEach((postId, counts) -> {
+            Map<PostStat.Key, long[]> postRows = rows.computeIfAbsent(postId, id -> new ConcurrentHashMap<>());
+            counts.forEach((minute, delta) -> {
+                for (Granularity granularity : Granularity.values()) {
+                    postRows.merge(new PostStat.Key(postId, granularity, granularity.truncate(minute)),
+                            new long[]{delta[0], delta[1]},
+                            (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]});
+                }
+            });
+        });
+        unsaved = new Unsaved(Map.of(), rows); // 분 구간 -> 합산된 행으로 한 번에 교체 (조회에 중복/누락 없음)
+
+        List<Map.Entry<PostStat.Key, long[]>> entries = new ArrayList<>();
+        rows.values().forEach(postRows -> entries.addAll(postRows.entrySet()));
+        int saved = 0;
+        try {
+            while (saved < entries.size()) {
+                List<Map.Entry<PostStat.Key, long[]>> batch =
+                        entries.subList(saved, Math.min(saved + flushBatchSize, entries.size()));
+                List<Object[]> args = new ArrayList<>(batch.size());
+                for (Map.Entry<PostStat.Key, long[]> entry : batch) {
+                    PostStat.Key key = entry.getKey();
+                    args.add(new Object[]{key.getPostId(), key.getGranularity().ordinal(),
+                            Timestamp.valueOf(key.getBucketStart()), entry.getValue()[0], entry.getValue()[1]});
+                }
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, args));
+                // 커밋된 행은 메모리에서 제거 (이후 조회는 DB 값 사용)
+                for (Map.Entry<PostStat.Key, long[]> entry : batch) {
+                    Map<PostStat.Key, long[]> postRows = rows.get(entry.getKey().getPostId());
+                    postRows.remove(entry.getKey());
+                    if (postRows.isEmpty()) {
+                        rows.remove(entry.getKey().getPostId());
+                    }
+                }
+                saved += batch.size();
+            }
+        } catch (RuntimeException e) {
+            // 저장하지 못한 행(구간 단위별로 이미 합산된 값)만 남겨 다음 주기에 재시도하므로 중복 합산되지 않음
+            log.warn("게시글 구간 집계 저장 실패: {}행 중 {}행 재시도 예정", entries.size(), entries.size() - saved, e);
+        }
+        if (rows.isEmpty()) {
+            unsaved = Unsaved.EMPTY;
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 분/시 구간을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.stats.cleanup-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            postStatRepository.deleteOlderThan(Granularity.MINUTE, now.minusHours(minuteRetentionHours));
+            postStatRepository.deleteOlderThan(Granularity.HOUR, now.minusDays(hourRetentionDays));
+        });
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 변경분
+     * @param minutes 저장을 위해 꺼낸 분 구간 (구간 단위별 행으로 합산하기 전)
+     * @param rows 합산했지만 아직 커밋되지 않은 행 (게시글 ID -> 행, 저장 실패 시 다음 주기까지 유지)
+     */
+    private record Unsaved(Map<Long, PendingCounts> minutes, Map<Long, Map<PostStat.Key, long[]>> rows) {
+
+        static final Unsaved EMPTY = new Unsaved(Map.of(), Map.of());
+    }
+
+    /**
+     * 구간 1개의 조회수 / 추천수 증감
+     */
+    public record StatPoint(LocalDateTime bucketStart, long views, long recommends) {
+    }
+
+    /**
+     * 기간 합계
+     */
+    public record WindowTotals(long views, long recommends) {
+    }
+
+    /**
+     * 게시글 1개의 저장 전 분 구간 증가분
+     * (저장을 위해 꺼낸 뒤 seal()하면 더 이상 더하지 않으므로, 꺼내는 도중의 증가분이 유실되지 않음)
+     */
+    private static final class PendingCounts {
+        private final TreeMap<LocalDateTime, long[]> minutes = new TreeMap<>();
+        private boolean sealed;
+
+        synchronized boolean add(LocalDateTime minute, long views, long recommends) {
+            if (sealed) {
+                return false;
+            }
+            long[] counts = minutes.computeIfAbsent(minute, m -> new long[2]);
+            counts[0] += views;
+            counts[1] += recommends;
+            return true;
+        }
+
+        synchronized void seal() {
+            sealed = true;
+        }
+
+        synchronized void forEach(BiConsumer<LocalDateTime, long[]> action) {
+            minutes.forEach(action);
+        }
+    }
+}
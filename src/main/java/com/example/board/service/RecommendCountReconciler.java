@@ -0,0 +1,281 @@
+package com.example.board.service;
+
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 추천 수(tbl_board.recommend_count)를 실제 추천 기록(tbl_recommend) 수와 맞추는 정합성 작업
+ *
+ * - recommend_count는 RecommendationService가 읽고-고쳐-쓰기로 바꾸므로 동시 추천 시 어긋날 수 있습니다.
+ * - 게시글 ID 범위를 board.reconcile.chunk-size 단위로 나누어 ForkJoinPool(board.reconcile.parallelism)에서 병렬로 처리합니다.
+ *   (조각마다 별도 트랜잭션: 게시글별 추천 기록 수를 GROUP BY로 세어 다른 게시글만 찾고, 있으면 UPDATE 한 번으로 보정)
+ * - 어긋난 게시글 수 / 차이 합계 / 최대 차이를 로그와 board.reconcile.recommend.* 지표로 남깁니다.
+ * - 여러 서버가 동시에 실행하지 않도록 MySQL 이름 잠금(GET_LOCK)을 사용합니다.
+ * - 서비스 커넥션 풀을 쓰지 않도록 작은 전용 풀(잠금 1개 + 병렬 조각 수)을 사용하며, 조각은 READ COMMITTED로 실행합니다.
+ *   (REPEATABLE READ에서는 보정 UPDATE가 읽는 tbl_recommend 범위에 공유 next-key 잠금을 걸어 그동안 추천/취소가 대기함.
+ *    READ COMMITTED의 잠금 없는 읽기는 binlog_format=ROW(MySQL 8 기본값)가 필요합니다.)
+ * - 보정한 게시글은 최신 게시글 목록(LatestPostsWindow)에 반영하고 다른 서버에도 무효화를 발행합니다.
+ *
+ * 조회수(view_count)는 원자적 UPDATE로만 증가하고 조회 기록 테이블이 없어 비교할 기준이 없으므로 대상이 아닙니다.
+ */
+@Slf4j
+@Component
+public class RecommendCountReconciler {
+
+    private static final String LOCK_NAME = "board_recommend_reconcile";
+    // 목록/다른 서버에 알릴 보정 게시글 수 상한 (최신 게시글 목록은 최근 게시글만 담으므로 ID가 큰 쪽만 유지)
+    private static final int MAX_PUSHED_POSTS = 1000;
+
+    // 조각(게시글 ID 범위)의 게시글별 실제 추천 기록 수 (tbl_recommend는 board_id 인덱스 범위만 읽음)
+    // 저장된 추천 수와 다른 게시글만 대상 (파라미터: 시작 ID, 끝 ID, 시작 ID, 끝 ID)
+    private static final String RECOUNT_JOIN = "LEFT JOIN (SELECT board_id, COUNT(*) AS cnt FROM tbl_recommend " +
+            "WHERE board_id BETWEEN ? AND ? GROUP BY board_id) r ON r.board_id = b.id ";
+    private static final String DRIFTED = "b.id BETWEEN ? AND ? AND b.recommend_count <> COALESCE(r.cnt, 0)";
+    private static final String FIND_DRIFTED = "SELECT b.id, b.recommend_count, COALESCE(r.cnt, 0) " +
+            "FROM tbl_board b " + RECOUNT_JOIN + "WHERE " + DRIFTED;
+    private static final String CORRECT_DRIFTED = "UPDATE tbl_board b " + RECOUNT_JOIN +
+            "SET b.recommend_count = COALESCE(r.cnt, 0) WHERE " + DRIFTED;
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LatestPostsWindow latestPostsWindow;
+    private final InvalidationBus invalidationBus;
+    private final boolean enabled;
+    private final long chunkSize;
+    private final int parallelism;
+
+    private final Counter drifted;
+    private final Counter corrected;
+    private final Timer duration;
+
+    public RecommendCountReconciler(DataSourceProperties dataSourceProperties,
+                                    LatestPostsWindow latestPostsWindow,
+                                    InvalidationBus invalidationBus,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${board.reconcile.enabled:true}") boolean enabled,
+                                    @Value("${board.reconcile.chunk-size:10000}") long chunkSize,
+                                    @Value("${board.reconcile.parallelism:4}") int parallelism) {
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        // 서비스 풀과 같은 접속 정보의 전용 풀 (첫 실행 때 연결, 쉬는 동안은 커넥션을 유지하지 않음)
+        this.dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("reconcile");
+        this.dataSource.setMaximumPoolSize(this.parallelism + 1); // 잠금 커넥션 + 조각 처리
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setIdleTimeout(TimeUnit.MINUTES.toMillis(1));
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.latestPostsWindow = latestPostsWindow;
+        this.invalidationBus = invalidationBus;
+        this.drifted = meterRegistry.counter("board.reconcile.recommend.drifted");
+        this.corrected = meterRegistry.counter("board.reconcile.recommend.corrected");
+        this.duration = meterRegistry.timer("board.reconcile.recommend.duration");
+    }
+
+    /**
+     * 전체 게시글의 추천 수 정합성 확인 / 보정 (주기적으로, 기본 하루 1번)
+     */
+    @Scheduled(fixedDelayString = "${board.reconcile.interval-ms:86400000}", initialDelayString = "${board.reconcile.initial-delay-ms:600000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // 잠금은 작업이 끝날 때까지 커넥션 하나로 유지 (조각 처리는 다른 커넥션 사용)
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate single = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = single.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+                if (locked == null || locked != 1) {
+                    return null; // 다른 서버가 실행 중
+                }
+                try {
+                    run();
+                } finally {
+                    single.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("추천 수 정합성 작업 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        dataSource.close();
+    }
+
+    private void run() {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM tbl_board");
+        if (range.get("min_id") == null) {
+            return; // 게시글 없음
+        }
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+
+        long started = System.nanoTime();
+        NavigableSet<Long> correctedIds = new ConcurrentSkipListSet<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Drift total;
+        try {
+            total = pool.invoke(new RangeTask(minId, maxId, correctedIds));
+        } finally {
+            pool.shutdown();
+        }
+        publishCorrected(correctedIds);
+        long elapsedNanos = System.nanoTime() - started;
+        duration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        drifted.increment(total.driftedPosts());
+        corrected.increment(total.corrected());
+
+        long elapsedMs = Math.max(1, elapsedNanos / 1_000_000);
+        log.info("추천 수 정합성: 게시글 ID {}~{}, 조각 {}개(실패 {}), 어긋난 게시글 {}개(보정 {}), 차이 합계 {}, 최대 차이 {}(게시글 {}), {}ms ({} ID/s)",
+                minId, maxId, total.chunks(), total.failedChunks(), total.driftedPosts(), total.corrected(),
+                total.absoluteDrift(), total.maxDrift(), total.maxDriftPostId(), elapsedMs,
+                (maxId - minId + 1) * 1000 / elapsedMs);
+    }
+
+    /**
+     * 보정한 게시글을 최신 게시글 목록에 반영하고 다른 서버에 알립니다.
+     */
+    private void publishCorrected(NavigableSet<Long> correctedIds) {
+        if (correctedIds.isEmpty()) {
+            return;
+        }
+        correctedIds.forEach(latestPostsWindow::refreshEntry);
+        try {
+            invalidationBus.publishAll(InvalidationRegions.LATEST_POSTS,
+                    correctedIds.stream().map(String::valueOf).toList());
+        } catch (DataAccessException e) {
+            // 다른 서버는 주기적 재적재(board.posts.latest.refresh-ms)로 반영됨
+            log.warn("추천 수 보정 무효화 발행 실패: {}개", correctedIds.size(), e);
+        }
+    }
+
+    /**
+     * 조각 1개 처리 (별도 트랜잭션, READ COMMITTED)
+     * @param correctedIds 보정한 게시글 ID를 모을 곳 (ID가 큰 MAX_PUSHED_POSTS개만 유지)
+     * @return 조각의 차이 통계
+     */
+    private Drift reconcileChunk(long fromId, long toId, NavigableSet<Long> correctedIds) {
+        return transactionTemplate.execute(status -> {
+            List<long[]> rows = jdbcTemplate.query(FIND_DRIFTED,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                    fromId, toId, fromId, toId);
+            if (rows.isEmpty()) {
+                return Drift.chunk(0, 0, 0, 0, null);
+            }
+            long absoluteDrift = 0;
+            long maxDrift = 0;
+            Long maxDriftPostId = null;
+            for (long[] row : rows) {
+                long drift = Math.abs(row[1] - row[2]);
+                absoluteDrift += drift;
+                if (drift > maxDrift) {
+                    maxDrift = drift;
+                    maxDriftPostId = row[0];
+                }
+            }
+            // 조회 이후 바뀐 값도 다시 세어 맞추도록 ID 목록이 아닌 같은 조건으로 한 번에 보정
+            int updated = jdbcTemplate.update(CORRECT_DRIFTED, fromId, toId, fromId, toId);
+            for (long[] row : rows) {
+                correctedIds.add(row[0]);
+                if (correctedIds.size() > MAX_PUSHED_POSTS) {
+                    correctedIds.pollFirst();
+                }
+            }
+            return Drift.chunk(rows.size(), updated, absoluteDrift, maxDrift, maxDriftPostId);
+        });
+    }
+
+    /**
+     * 게시글 ID 범위 [fromId, toId]를 chunkSize 이하가 될 때까지 반으로 나누어 처리
+     */
+    private class RangeTask extends RecursiveTask<Drift> {
+
+        private final long fromId;
+        private final long toId;
+        private final NavigableSet<Long> correctedIds;
+
+        RangeTask(long fromId, long toId, NavigableSet<Long> correctedIds) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.correctedIds = correctedIds;
+        }
+
+        @Override
+        protected Drift compute() {
+            if (toId - fromId < chunkSize) {
+                try {
+                    return reconcileChunk(fromId, toId, correctedIds);
+                } catch (DataAccessException | TransactionException e) {
+                    // 한 조각이 실패해도 나머지는 계속 (다음 주기에 다시 확인)
+                    log.warn("추천 수 정합성 조각 실패: 게시글 ID {}~{}", fromId, toId, e);
+                    return Drift.FAILED;
+                }
+            }
+            long middle = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(fromId, middle, correctedIds);
+            left.fork();
+            Drift right = new RangeTask(middle + 1, toId, correctedIds).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * 차이 통계 (조각별로 만들고 합침)
+     * @param chunks 처리한 조각 수
+     * @param failedChunks 실패한 조각 수
+     * @param driftedPosts 추천 수가 어긋난 게시글 수
+     * @param corrected 보정한 게시글 수
+     * @param absoluteDrift 차이(절댓값) 합계
+     * @param maxDrift 최대 차이
+     * @param maxDriftPostId 최대 차이 게시글 ID (없으면 null)
+     */
+    private record Drift(int chunks, int failedChunks, long driftedPosts, long corrected,
+                         long absoluteDrift, long maxDrift, Long maxDriftPostId) {
+
+        static final Drift FAILED = new Drift(1, 1, 0, 0, 0, 0, null);
+
+        static Drift chunk(long driftedPosts, long corrected, long absoluteDrift, long maxDrift, Long maxDriftPostId) {
+            return new Drift(1, 0, driftedPosts, corrected, absoluteDrift, maxDrift, maxDriftPostId);
+        }
+
+        Drift merge(Drift other) {
+            boolean otherMax = other.maxDrift > maxDrift;
+            return new Drift(chunks + other.chunks, failedChunks + other.failedChunks,
+                    driftedPosts + other.driftedPosts, corrected + other.corrected,
+                    absoluteDrift + other.absoluteDrift,
+                    otherMax ? other.maxDrift : maxDrift, otherMax ? other.maxDriftPostId : maxDriftPostId);
+        }
+    }
+}
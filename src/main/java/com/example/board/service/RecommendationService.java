@@ -6,7 +6,9 @@ import com.example.board.model.User;
 import com.example.board.repository.PostRepository;
 import com.example.board.repository.RecommendationRepository;
 import com.example.board.repository.UserRepository;
+import com.example.board.service.event.RecommendationToggledEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,11 @@ public class RecommendationService {
     private final RecommendationRepository recommendationRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher; // 실시간 갱신(SSE) 이벤트 발행
+    private final RecommenderIndex recommenderIndex; // 게시글별 추천자 비트맵
+
+    // 로그인 ID -> 사용자 PK (PK는 바뀌지 않으므로 캐시해도 안전)
+    private final LruCache<String, Long> userPkCache = new LruCache<>(100_000);
 
     @Transactional
     public boolean toggleRecommendation(Long postId, String userId) {
@@ -38,6 +45,7 @@ public class RecommendationService {
             // 3a. 추천 취소 (기록 삭제, 카운트 -1)
             recommendationRepository.delete(existingRec.get());
             post.setRecommendationCount(post.getRecommendationCount() - 1);
+            eventPublisher.publishEvent(new RecommendationToggledEvent(postId, userId, user.getId(), false, post.getRecommendationCount()));
             return false; // 추천 취소됨
         } else {
             // 3b. 추천 (기록 생성, 카운트 +1)
@@ -47,6 +55,7 @@ public class RecommendationService {
             newRec.setCreatedAt(LocalDateTime.now());
             recommendationRepository.save(newRec);
             post.setRecommendationCount(post.getRecommendationCount() + 1);
+            eventPublisher.publishEvent(new RecommendationToggledEvent(postId, userId, user.getId(), true, post.getRecommendationCount()));
             return true; // 추천됨
         }
     }
@@ -59,23 +68,19 @@ public class RecommendationService {
      * @return 추천했다면 true, 아니면 false
      */
     public boolean isRecommended(Long postId, String userId) {
-        // 1. 사용자 조회 (존재하지 않으면 false)
-        Optional<User> userOpt = userRepository.findByUserId(userId);
-        if (userOpt.isEmpty()) {
-            return false;
-        }
-
-        // 2. 게시글 조회 (존재하지 않으면 false)
-        Optional<Post> postOpt = postRepository.findById(postId);
-        if (postOpt.isEmpty()) {
-            return false;
+        // 1. 사용자 PK 조회 (캐시 우선, 존재하지 않으면 false)
+        Long userPk = userPkCache.get(userId);
+        if (userPk == null) {
+            Optional<User> userOpt = userRepository.findByUserId(userId);
+            if (userOpt.isEmpty()) {
+                return false;
+            }
+            userPk = userOpt.get().getId();
+            userPkCache.put(userId, userPk);
         }
 
-        // 3. 추천 기록 조회 (★ 메서드명/파라미터 순서 수정 ★)
-        Optional<Recommendation> existingRec = recommendationRepository.findByUserAndPost(userOpt.get(), postOpt.get());
-
-        // 4. 기록이 있으면(isPresent) true, 없으면 false 반환
-        return existingRec.isPresent();
+        // 2. 게시글별 추천자 비트맵에서 확인 (자주 보는 게시글은 DB 조회 없음)
+        return recommenderIndex.contains(postId, userPk);
     }
 }
 
@@ -0,0 +1,168 @@
+package com.example.board.service;
+
+import com.example.board.repository.RecommendationRepository;
+import com.example.board.service.event.RecommendationToggledEvent;
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글별 추천한 사용자 집합을 메모리에 보관하는 압축 비트맵(RoaringBitmap) 인덱스
+ *
+ * - "내가 이 글을 추천했는가?" 확인을 DB 조회 없이 비트맵 조회로 처리합니다.
+ * - 게시글 비트맵은 처음 조회될 때 tbl_recommend에서 읽어오며(지연 로딩),
+ *   추천/취소가 커밋되면 RecommendationToggledEvent로 갱신됩니다.
+ * - 보관하는 게시글 수는 board.recommend-index.max-posts로 제한하며, LRU로 제거합니다.
+ * - 여러 서버로 실행하면 추천 변경과 같은 트랜잭션에서 InvalidationBus로 무효화를 발행하고,
+ *   다른 서버는 해당 게시글 비트맵을 버립니다.
+ *
+ * 지연 로딩 중에 같은 게시글의 추천 변경이 커밋되면 로딩 결과가 오래된 값일 수 있으므로,
+ * 게시글별(스트라이프) 변경 카운터가 로딩 전후로 바뀌었으면 캐시에 넣지 않습니다.
+ */
+@Component
+public class RecommenderIndex {
+
+    private static final int STRIPES = 1024;
+
+    private final RecommendationRepository recommendationRepository;
+    private final InvalidationBus invalidationBus;
+    private final LruCache<Long, Entry> entries;
+    private final AtomicLongArray changeStamps = new AtomicLongArray(STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+
+    public RecommenderIndex(RecommendationRepository recommendationRepository,
+                            InvalidationBus invalidationBus,
+                            MeterRegistry meterRegistry,
+                            @Value("${board.recommend-index.max-posts:10000}") int maxPosts) {
+        this.recommendationRepository = recommendationRepository;
+        this.invalidationBus = invalidationBus;
+        this.entries = new LruCache<>(maxPosts);
+        this.hits = meterRegistry.counter("board.recommend.index", "result", "hit");
+        this.misses = meterRegistry.counter("board.recommend.index", "result", "miss");
+        meterRegistry.gauge("board.recommend.index.posts", entries, LruCache::size);
+        invalidationBus.subscribe(InvalidationRegions.RECOMMENDERS, postId -> evict(Long.valueOf(postId)));
+    }
+
+    /**
+     * 사용자가 게시글을 추천했는지 확인합니다.
+     * (캐시에 없는 게시글이면 tbl_recommend에서 해당 게시글의 추천자 목록을 읽어 비트맵을 만듭니다.)
+     * @param postId 게시글 ID
+     * @param userPk 사용자 PK (tbl_user.id)
+     * @return 추천했다면 true
+     */
+    public boolean contains(Long postId, long userPk) {
+        if (userPk > Integer.MAX_VALUE || userPk < 0) {
+            // 비트맵은 int 범위만 지원하므로 DB로 확인
+            return recommendationRepository.existsByPostIdAndUserId(postId, userPk);
+        }
+        Entry entry = entries.get(postId);
+        if (entry != null) {
+            hits.increment();
+            return entry.contains((int) userPk);
+        }
+        misses.increment();
+        return load(postId).contains((int) userPk);
+    }
+
+    /**
+     * 추천/추천 취소를 다른 서버에 알립니다. (커밋 직전, 추천 변경과 같은 트랜잭션으로 기록)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publishInvalidation(RecommendationToggledEvent event) {
+        invalidationBus.publish(InvalidationRegions.RECOMMENDERS, String.valueOf(event.postId()));
+    }
+
+    /**
+     * 추천/추천 취소가 커밋되면 비트맵에 반영합니다.
+     */
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        changeStamps.incrementAndGet(stripe(event.postId()));
+        Entry entry = entries.get(event.postId());
+        if (entry == null) {
+            return; // 캐시에 없으면 다음 조회 때 DB에서 로딩
+        }
+        if (event.userPk() > Integer.MAX_VALUE) {
+            entries.remove(event.postId());
+            return;
+        }
+        entry.set(event.userPk().intValue(), event.recommended());
+    }
+
+    /**
+     * 게시글 삭제 등으로 비트맵을 버립니다.
+     */
+    public void evict(Long postId) {
+        changeStamps.incrementAndGet(stripe(postId));
+        entries.remove(postId);
+    }
+
+    private Entry load(Long postId) {
+        long stamp = changeStamps.get(stripe(postId));
+        RoaringBitmap bitmap = new RoaringBitmap();
+        boolean cacheable = true;
+        for (Long userPk : recommendationRepository.findUserIdsByPostId(postId)) {
+            if (userPk > Integer.MAX_VALUE) {
+                cacheable = false;
+                continue;
+            }
+            bitmap.add(userPk.intValue());
+        }
+        bitmap.runOptimize();
+        Entry entry = new Entry(bitmap);
+        if (cacheable && changeStamps.get(stripe(postId)) == stamp) {
+            Entry existing = entries.putIfAbsent(postId, entry);
+            return existing != null ? existing : entry;
+        }
+        return entry;
+    }
+
+    private int stripe(Long postId) {
+        return (int) (postId & (STRIPES - 1));
+    }
+
+    /**
+     * 게시글 1개의 추천자 비트맵 (RoaringBitmap은 스레드 안전하지 않으므로 읽기/쓰기 락 사용)
+     */
+    private static final class Entry {
+        private final RoaringBitmap bitmap;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private Entry(RoaringBitmap bitmap) {
+            this.bitmap = bitmap;
+        }
+
+        boolean contains(int userPk) {
+            lock.readLock().lock();
+            try {
+                return bitmap.contains(userPk);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void set(int userPk, boolean recommended) {
+            lock.writeLock().lock();
+            try {
+                if (recommended) {
+                    bitmap.add(userPk);
+                } else {
+                    bitmap.remove(userPk);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 로더 (single-flight, 스레드 안전)
+ *
+ * - 같은 키로 진행 중인 조회가 없으면 호출한 스레드가 직접 조회하고(leader), 그 결과를 대기 중인 스레드와 공유합니다.
+ * - 진행 중인 조회가 있으면 그 결과를 최대 timeoutMillis 동안 기다립니다(follower).
+ *   조회가 실패하면 다시 조회하지 않고 같은 예외를 받습니다. (실패/지연이 DB로 몰리지 않도록)
+ * - 시간이 초과되면 대기 중인 스레드 중 하나만 새로 조회하고(fallback), 나머지는 그 결과를 기다립니다.
+ * - 호출하는 쪽은 트랜잭션 밖에서 호출해야 합니다. (대기하는 동안 DB 커넥션을 점유하지 않도록)
+ * - 결과는 캐시하지 않습니다. 조회가 끝나면 다음 호출은 다시 새로 조회합니다.
+ * - 결과 객체를 여러 스레드가 공유하므로, 호출한 쪽에서 결과를 변경하면 안 됩니다.
+ *
+ * 메트릭 (name 태그로 구분)
+ * - board.single-flight.calls (role = leader / follower / fallback)
+ * - board.single-flight.followers: 조회 1건에 합쳐진 대기 스레드 수 (키별 동시 요청 수)
+ * - board.single-flight.in-flight: 현재 조회 중인 키 수
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+    private final DistributionSummary followersPerFlight;
+
+    /**
+     * @param name 메트릭 name 태그
+     * @param timeoutMillis 진행 중인 조회를 기다리는 최대 시간 (ms)
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public SingleFlight(String name, long timeoutMillis, MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.leaders = meterRegistry.counter("board.single-flight.calls", "name", name, "role", "leader");
+        this.followers = meterRegistry.counter("board.single-flight.calls", "name", name, "role", "follower");
+        this.fallbacks = meterRegistry.counter("board.single-flight.calls", "name", name, "role", "fallback");
+        this.followersPerFlight = DistributionSummary.builder("board.single-flight.followers")
+                .tag("name", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("board.single-flight.in-flight", Tags.of("name", name),
+                inFlight, Map::size);
+    }
+
+    /**
+     * 키에 해당하는 값을 조회합니다. (같은 키의 동시 조회는 한 번만 실행)
+     * @param key 키
+     * @param loader 실제 조회 (leader 또는 fallback일 때만 실행)
+     * @return 조회 결과 (다른 스레드와 공유될 수 있음)
+     * @throws RuntimeException 진행 중이던 조회가 실패한 경우 그 예외
+     */
+    public V load(K key, Supplier<V> loader) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            leaders.increment();
+            return lead(key, flight, loader);
+        }
+
+        existing.followers.incrementAndGet();
+        followers.increment();
+        while (true) {
+            try {
+                return existing.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw propagate(e.getCause()); // 진행 중이던 조회의 예외를 그대로 전달
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("조회 결과를 기다리는 중 인터럽트되었습니다: " + key, e);
+            } catch (TimeoutException e) {
+                // 진행 중인 조회가 느린 경우: 대기 중인 스레드 중 하나만 새로 조회하고 나머지는 그 결과를 기다림
+                Flight<V> fallback = new Flight<>();
+                if (existing.successor.compareAndSet(null, fallback)) {
+                    inFlight.replace(key, existing, fallback); // 새로 들어오는 요청도 새 조회를 기다리도록
+                    fallbacks.increment();
+                    return lead(key, fallback, loader);
+                }
+                existing = existing.successor.get();
+            }
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            followersPerFlight.record(flight.followers.get());
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+        // 시간 초과 후 대신 실행한 조회 (대기 중인 스레드는 이쪽 결과를 기다림)
+        private final AtomicReference<Flight<V>> successor = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 첨부파일 썸네일 생성기 (전용 스레드 풀에서 비동기 처리)
+ *
+ * - 스레드 수와 대기열 크기를 제한하여(board.attachment.thumbnail-threads / -queue-size)
+ *   업로드가 몰려도 이미지 디코딩이 CPU와 메모리를 독점하지 않도록 합니다.
+ * - 대기열이 가득 차면 생성하지 않고 건너뜁니다. (썸네일 요청 시 원본으로 대체)
+ * - 해상도가 너무 큰 이미지(board.attachment.thumbnail-max-pixels 초과)는 디코딩하지 않습니다.
+ * - 같은 내용의 파일은 썸네일도 하나만 만듭니다. (내용 해시 기준)
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    private final AttachmentStorage storage;
+    private final ThreadPoolExecutor executor;
+    private final int maxSize;
+    private final long maxPixels;
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final Counter generated;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public ThumbnailGenerator(AttachmentStorage storage,
+                              MeterRegistry meterRegistry,
+                              @Value("${board.attachment.thumbnail-threads:2}") int threads,
+                              @Value("${board.attachment.thumbnail-queue-size:100}") int queueSize,
+                              @Value("${board.attachment.thumbnail-size:320}") int maxSize,
+                              @Value("${board.attachment.thumbnail-max-pixels:40000000}") long maxPixels) {
+        this.storage = storage;
+        this.maxSize = maxSize;
+        this.maxPixels = maxPixels;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread t = new Thread(r, "thumbnail-" + threadNo.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.generated = meterRegistry.counter("board.attachment.thumbnail", "result", "generated");
+        this.rejected = meterRegistry.counter("board.attachment.thumbnail", "result", "rejected");
+        this.failed = meterRegistry.counter("board.attachment.thumbnail", "result", "failed");
+        meterRegistry.gauge("board.attachment.thumbnail.queue", executor, e -> e.getQueue().size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 썸네일 생성을 요청합니다. (이미 있거나 생성 중이면 무시)
+     * @param sha256 원본 파일 해시
+     */
+    public void request(String sha256) {
+        if (storage.findThumbnail(sha256).isPresent() || !inProgress.add(sha256)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(sha256);
+                } finally {
+                    inProgress.remove(sha256);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(sha256);
+            rejected.increment();
+        }
+    }
+
+    private void generate(String sha256) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(storage.blobPath(sha256).toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return; // 지원하지 않는 형식
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return; // 디코딩 시 메모리를 과도하게 사용하는 이미지
+                }
+                // 썸네일 크기의 2배 정도로 건너뛰며 읽어 디코딩 비용을 줄임
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                write(sha256, scale(reader.read(0, param)));
+                generated.increment();
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            log.warn("썸네일 생성 실패: {}", sha256, e);
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(String sha256, BufferedImage image) throws IOException {
+        // 투명도가 있으면 PNG, 없으면 JPEG
+        String extension = image.getColorModel().hasAlpha() ? "png" : "jpg";
+        Path target = storage.thumbnailPath(sha256, extension);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(storage.tempDirectory(), "thumb-", "." + extension);
+        try {
+            ImageIO.write(image, extension.equals("png") ? "png" : "jpeg", temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
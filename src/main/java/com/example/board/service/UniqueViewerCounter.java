@@ -0,0 +1,111 @@
+package com.example.board.service;
+
+import com.example.board.model.PostViewerSketch;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.PostViewerSketchRepository;
+import com.example.board.service.event.PostViewedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글별 고유 방문자 수 집계기 (HyperLogLog)
+ *
+ * - 조회 시에는 메모리의 스케치만 갱신하며 DB에 쓰지 않습니다.
+ * - 주기적으로(board.unique-viewers.flush-ms) 변경된 스케치를 저장된 스케치와 병합하여
+ *   tbl_board_viewers에 저장하고, 추정값을 tbl_board.unique_viewer_count에 반영합니다.
+ *   (저장된 스케치는 행 잠금 후 병합하고, 압축 형식(희소 또는 6비트 밀집, 최대 3KB)으로 저장)
+ * - 메모리에는 마지막 저장 이후 조회된 게시글의 스케치(게시글당 4KB)만 보관합니다.
+ */
+@Slf4j
+@Component
+public class UniqueViewerCounter {
+
+    private final PostViewerSketchRepository sketchRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 마지막 저장 이후 변경분 (게시글 ID -> 스케치)
+    private final Map<Long, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    public UniqueViewerCounter(PostViewerSketchRepository sketchRepository,
+                               PostRepository postRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.sketchRepository = sketchRepository;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 게시글 상세 조회 이벤트를 기록합니다.
+     */
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        record(event.postId(), event.viewerKey());
+    }
+
+    /**
+     * 게시글 조회를 기록합니다.
+     * @param postId 게시글 ID
+     * @param viewerKey 방문자 키 (로그인 사용자 ID 또는 비로그인 방문자 지문)
+     */
+    public void record(Long postId, String viewerKey) {
+        long hash = HyperLogLog.hash(viewerKey);
+        // compute는 키 단위로 원자적이므로 저장(flush) 중 제거와 경합해도 유실되지 않음
+        pending.compute(postId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offerHash(hash);
+            return target;
+        });
+    }
+
+    /**
+     * 변경된 스케치를 저장된 스케치와 병합하여 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.unique-viewers.flush-ms:60000}")
+    public void flush() {
+        List<Long> postIds = new ArrayList<>(pending.keySet());
+        for (Long postId : postIds) {
+            HyperLogLog delta = pending.remove(postId);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(postId, delta));
+            } catch (RuntimeException e) {
+                // 저장 실패 시 다음 주기에 다시 시도하도록 되돌림
+                log.warn("고유 방문자 스케치 저장 실패: postId={}", postId, e);
+                pending.merge(postId, delta, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+            }
+        }
+    }
+
+    /**
+     * 변경분을 저장된 스케치에 병합합니다. (여러 서버가 같은 게시글을 동시에 저장해도 행 잠금으로 순서대로 병합)
+     */
+    private void save(Long postId, HyperLogLog delta) {
+        HyperLogLog merged;
+        if (sketchRepository.insertIfAbsent(postId, delta.toCompactBytes(), LocalDateTime.now()) == 1) {
+            merged = delta;
+        } else {
+            PostViewerSketch stored = sketchRepository.findForUpdate(postId).orElseThrow();
+            merged = HyperLogLog.fromBytes(stored.getRegisters());
+            merged.merge(delta);
+            stored.setRegisters(merged.toCompactBytes());
+            stored.setUpdatedAt(LocalDateTime.now());
+        }
+        postRepository.updateUniqueViewerCount(postId, merged.estimate());
+    }
+}
@@ -2,8 +2,11 @@ package com.example.board.service;
 
 import com.example.board.model.User;
 import com.example.board.repository.UserRepository;
+import com.example.board.service.event.PasswordChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,10 +20,11 @@ import org.springframework.security.authentication.DisabledException;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
@@ -76,6 +80,23 @@ public class UserService implements UserDetailsService {
                 Collections.emptyList() // 현재는 권한(Role)을 사용하지 않음
         );
     }
+    /**
+     * 로그인 성공 시 Spring Security가 호출하는 비밀번호 재해시 메서드
+     * (BCrypt 강도가 변경되었거나 "{bcrypt}" 접두어가 없는 기존 해시인 경우)
+     * @param userDetails 로그인한 사용자
+     * @param newPassword 새 설정으로 인코딩된 비밀번호
+     * @return 갱신된 UserDetails
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = findByUserId(userDetails.getUsername());
+        user.setPassword(newPassword); // 더티 체킹으로 저장
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
+
     /**
      * 사용자 ID로 사용자 정보를 조회합니다.
      * @param userId 사용자 ID
@@ -104,6 +125,9 @@ public class UserService implements UserDetailsService {
         // 새 비밀번호 암호화 후 저장
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+
+        // 기존 로그인 토큰 무효화 등 (무상태 로그인 모드)
+        eventPublisher.publishEvent(new PasswordChangedEvent(userId));
     }
 }
 
@@ -0,0 +1,105 @@
+package com.example.board.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 상세 조회수 증가를 메모리에 모아 주기적으로 한 번에 반영합니다.
+ *
+ * - 인기 게시글은 같은 행에 UPDATE가 몰려 행 잠금 대기가 길어지므로, 조회 시에는 메모리 카운트만 올립니다.
+ * - board.posts.view-flush-ms 마다 게시글별 증가분을 JDBC 배치 UPDATE 한 번으로 반영합니다.
+ *   (created_at을 조건에 포함하여 월 파티션 1개만 갱신, db/044)
+ * - 반영에 실패하면 증가분을 되돌려 다음 주기에 다시 반영합니다. (서버 종료 시에도 한 번 반영)
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE tbl_board SET view_count = view_count + ? WHERE id = ? AND created_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 게시글 ID -> 아직 반영하지 않은 증가분 (compute로만 변경하여 반영과 겹쳐도 유실 없음)
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 조회수를 1 증가시킵니다. (메모리)
+     * @param postId 게시글 ID
+     * @param createdAt 게시글 작성 시각 (파티션 키)
+     * @return 아직 반영하지 않은 증가분 (이번 조회 포함)
+     */
+    public long increment(Long postId, LocalDateTime createdAt) {
+        return pending.compute(postId, (id, current) ->
+                current == null ? new Pending(createdAt, 1) : current.plus(1)).count();
+    }
+
+    /**
+     * 주기적으로 모인 증가분을 DB에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.posts.view-flush-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Pending>> batch = new ArrayList<>(pending.size());
+        for (Long postId : pending.keySet()) {
+            Pending taken = pending.remove(postId);
+            if (taken != null) {
+                batch.add(Map.entry(postId, taken));
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INCREMENT_SQL, batch, batch.size(), (ps, entry) -> {
+                        ps.setLong(1, entry.getValue().count());
+                        ps.setLong(2, entry.getKey());
+                        ps.setTimestamp(3, Timestamp.valueOf(entry.getValue().createdAt()));
+                    }));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("조회수 반영 실패 ({}개 게시글, 다음 주기에 재시도)", batch.size(), e);
+            for (Map.Entry<Long, Pending> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), Pending::merge);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 게시글 1개의 반영 대기 증가분 (불변)
+     */
+    private record Pending(LocalDateTime createdAt, long count) {
+
+        Pending plus(long delta) {
+            return new Pending(createdAt, count + delta);
+        }
+
+        Pending merge(Pending other) {
+            return plus(other.count);
+        }
+    }
+}
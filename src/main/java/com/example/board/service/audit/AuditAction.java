@@ -0,0 +1,39 @@
+package com.example.board.service.audit;
+
+/**
+ * 감사 로그 기록 종류 (레코드에는 code 1바이트로 저장)
+ */
+public enum AuditAction {
+
+    LOGIN_SUCCESS(1),
+    LOGIN_FAILURE(2),
+    LOGOUT(3),
+    PASSWORD_CHANGE(4),
+    POST_UPDATE(10),
+    POST_DELETE(11),
+    COMMENT_DELETE(20),
+    RECOMMEND(30),
+    RECOMMEND_CANCEL(31);
+
+    private static final AuditAction[] BY_CODE = new AuditAction[128];
+
+    static {
+        for (AuditAction action : values()) {
+            BY_CODE[action.code] = action;
+        }
+    }
+
+    private final byte code;
+
+    AuditAction(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    static AuditAction of(byte code) {
+        return code >= 0 ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.board.service.audit;
+
+import com.example.board.service.event.CommentDeletedEvent;
+import com.example.board.service.event.PasswordChangedEvent;
+import com.example.board.service.event.PostDeletedEvent;
+import com.example.board.service.event.PostUpdatedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.authentication.event.LogoutSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 로그인/로그아웃(Spring Security 이벤트)과 게시판 변경 이벤트를 감사 로그에 남깁니다.
+ * 게시판 변경은 커밋된 경우에만 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEventListener {
+
+    private static final long NONE = -1;
+
+    private final AuditLog auditLog;
+
+    @EventListener
+    public void onLoginSuccess(AuthenticationSuccessEvent event) {
+        Authentication authentication = event.getAuthentication();
+        auditLog.record(AuditAction.LOGIN_SUCCESS, authentication.getName(), remoteAddress(authentication), NONE, NONE);
+    }
+
+    @EventListener
+    public void onLoginFailure(AbstractAuthenticationFailureEvent event) {
+        Authentication authentication = event.getAuthentication();
+        auditLog.record(AuditAction.LOGIN_FAILURE, authentication.getName(), remoteAddress(authentication), NONE, NONE);
+    }
+
+    @EventListener
+    public void onLogout(LogoutSuccessEvent event) {
+        auditLog.record(AuditAction.LOGOUT, event.getAuthentication().getName(), NONE, NONE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPasswordChanged(PasswordChangedEvent event) {
+        auditLog.record(AuditAction.PASSWORD_CHANGE, event.userId(), NONE, NONE);
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        auditLog.record(AuditAction.POST_UPDATE, event.userId(), event.postId(), NONE);
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        auditLog.record(AuditAction.POST_DELETE, event.userId(), event.postId(), NONE);
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        auditLog.record(AuditAction.COMMENT_DELETE, event.userId(), event.commentId(), event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        auditLog.record(event.recommended() ? AuditAction.RECOMMEND : AuditAction.RECOMMEND_CANCEL,
+                event.userId(), event.postId(), NONE);
+    }
+
+    /**
+     * 로그인 요청 IP (폼 로그인은 WebAuthenticationDetails에 담김)
+     */
+    private static String remoteAddress(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+    }
+}
@@ -0,0 +1,339 @@
+package com.example.board.service.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 접근/감사 로그 (로그인, 게시글 수정/삭제, 댓글 삭제, 추천/취소 등)
+ *
+ * 요청 스레드에서는 파일에 쓰지 않고, 미리 할당한 링 버퍼(AuditRing)에 고정 크기 레코드를 쓰고 바로 반환합니다.
+ * - 기록 스레드 1개가 링 버퍼를 순서대로 비우며, 한 번에 board.audit.batch-size 개씩 모아 파일에 씁니다.
+ *   디스크 동기화(force)는 board.audit.sync-ms 마다 합니다.
+ * - 파일: {board.audit.dir}/audit-yyyyMMdd-N.log (탭 구분 한 줄 1건: 시각(UTC) 종류 사용자 IP 대상ID 관련ID)
+ *   날짜가 바뀌거나 board.audit.max-file-size를 넘으면 새 파일로 넘어가고, board.audit.max-files 개만 보존합니다.
+ * - 링 버퍼가 가득 찼을 때 (board.audit.full-policy)
+ *   DROP: 바로 버림 / BLOCK: board.audit.block-timeout-ms 까지 빈 슬롯을 기다린 뒤 버림
+ *   버린 건수는 board.audit.dropped 카운터로 확인합니다.
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    public enum FullPolicy { DROP, BLOCK }
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".log";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AuditRing ring;
+    private final boolean enabled;
+    private final Path directory;
+    private final FullPolicy fullPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final long syncNanos;
+    private final Counter recorded;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    // 기록 스레드에서만 사용
+    private FileChannel channel;
+    private LocalDate fileDate;
+    private int fileIndex;
+    private long fileSize;
+
+    public AuditLog(@Value("${board.audit.enabled:true}") boolean enabled,
+                    @Value("${board.audit.dir:audit}") String directory,
+                    @Value("${board.audit.buffer-size:65536}") int bufferSize,
+                    @Value("${board.audit.full-policy:BLOCK}") FullPolicy fullPolicy,
+                    @Value("${board.audit.block-timeout-ms:50}") long blockTimeoutMillis,
+                    @Value("${board.audit.batch-size:512}") int batchSize,
+                    @Value("${board.audit.max-file-size:64MB}") DataSize maxFileSize,
+                    @Value("${board.audit.max-files:90}") int maxFiles,
+                    @Value("${board.audit.sync-ms:1000}") long syncMillis,
+                    MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.ring = new AuditRing(enabled ? bufferSize : 2);
+        this.fullPolicy = fullPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxFiles = Math.max(1, maxFiles);
+        this.syncNanos = TimeUnit.MILLISECONDS.toNanos(syncMillis);
+        this.recorded = meterRegistry.counter("board.audit.recorded");
+        this.dropped = meterRegistry.counter("board.audit.dropped");
+        meterRegistry.gauge("board.audit.backlog", ring, AuditRing::backlog);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.warn("감사 로그 디렉터리를 만들 수 없습니다: {}", directory, e);
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 남은 레코드를 모두 쓰고 기록 스레드를 종료합니다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        current.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 감사 레코드를 남깁니다. (IP는 현재 요청에서 읽음)
+     * @param action 종류
+     * @param actor 사용자 ID (로그인 실패는 입력한 ID)
+     * @param targetId 대상 ID (게시글/댓글, 없으면 -1)
+     * @param relatedId 관련 ID (댓글의 게시글 등, 없으면 -1)
+     */
+    public void record(AuditAction action, String actor, long targetId, long relatedId) {
+        record(action, actor, currentRemoteAddress(), targetId, relatedId);
+    }
+
+    /**
+     * 감사 레코드를 남깁니다.
+     * @param address 요청 IP (없으면 null)
+     */
+    public void record(AuditAction action, String actor, String address, long targetId, long relatedId) {
+        if (!running) {
+            return;
+        }
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ring.write(sequence, System.currentTimeMillis(), action, actor, address, targetId, relatedId);
+        recorded.increment();
+    }
+
+    /**
+     * 슬롯을 예약합니다. 가득 찼으면 정책에 따라 바로 포기하거나 잠깐 기다립니다.
+     */
+    private long claim() {
+        long sequence = ring.tryClaim();
+        if (sequence >= 0 || fullPolicy == FullPolicy.DROP) {
+            return sequence;
+        }
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        int spins = 0;
+        while (sequence < 0 && System.nanoTime() < deadline) {
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(10_000);
+            }
+            sequence = ring.tryClaim();
+        }
+        return sequence;
+    }
+
+    private static String currentRemoteAddress() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
+    /**
+     * 기록 스레드: 공개된 레코드를 순서대로 모아 파일에 씁니다.
+     */
+    private void drainLoop() {
+        StringBuilder lines = new StringBuilder(batchSize * 96);
+        long next = ring.readSequence();
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        while (true) {
+            int count = 0;
+            while (count < batchSize && ring.isPublished(next)) {
+                ring.appendLine(next, lines);
+                next++;
+                count++;
+            }
+            if (count > 0) {
+                ring.release(next); // 문자열로 옮겼으므로 슬롯 반납 후 파일 쓰기
+                writeLines(lines);
+                lines.setLength(0);
+                dirty = true;
+            }
+            long now = System.nanoTime();
+            if (dirty && now - lastSync >= syncNanos) {
+                sync();
+                dirty = false;
+                lastSync = now;
+            }
+            if (count == 0) {
+                // 종료 요청 후에는 남은 레코드가 없을 때 끝냄 (예약 후 아직 공개되지 않은 레코드는 버림)
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        sync();
+        closeFile();
+    }
+
+    private void writeLines(CharSequence lines) {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(lines.toString());
+        try {
+            rollIfNeeded(bytes.remaining());
+            while (bytes.hasRemaining()) {
+                fileSize += channel.write(bytes);
+            }
+        } catch (IOException e) {
+            log.warn("감사 로그 쓰기 실패", e);
+            closeFile(); // 다음 쓰기에서 새 파일로 다시 시도
+        }
+    }
+
+    /**
+     * 날짜가 바뀌었거나 크기를 넘으면 다음 파일을 엽니다.
+     */
+    private void rollIfNeeded(int length) throws IOException {
+        LocalDate today = LocalDate.now();
+        if (channel != null && today.equals(fileDate) && (fileSize == 0 || fileSize + length <= maxFileSize)) {
+            return;
+        }
+        if (!today.equals(fileDate)) {
+            fileDate = today;
+            fileIndex = Math.max(1, lastIndexOf(today)); // 재기동 시 같은 날짜의 마지막 파일에 이어 씀
+        } else if (channel != null) {
+            fileIndex++; // 크기 초과
+        }
+        closeFile();
+        openFile();
+        if (fileSize > 0 && fileSize + length > maxFileSize) {
+            // 이어 쓸 파일이 이미 가득 찬 경우
+            closeFile();
+            fileIndex++;
+            openFile();
+        }
+        deleteExpired();
+    }
+
+    private void openFile() throws IOException {
+        Path file = directory.resolve(FILE_PREFIX + fileDate.format(FILE_DATE) + "-" + fileIndex + FILE_SUFFIX);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private int lastIndexOf(LocalDate date) throws IOException {
+        String prefix = FILE_PREFIX + date.format(FILE_DATE) + "-";
+        int last = 0;
+        for (Path file : listFiles()) {
+            String name = file.getFileName().toString();
+            if (name.startsWith(prefix)) {
+                try {
+                    last = Math.max(last, Integer.parseInt(name.substring(prefix.length(), name.length() - FILE_SUFFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // 규칙에 맞지 않는 파일은 무시
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * 보존 개수를 넘은 오래된 파일을 삭제합니다. (이름순 = 날짜/번호순)
+     */
+    private void deleteExpired() throws IOException {
+        List<Path> files = listFiles();
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted((a, b) -> compareFiles(a.getFileName().toString(), b.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    /**
+     * 파일명 비교 (날짜 -> 번호 순, 번호는 숫자로 비교)
+     */
+    private static int compareFiles(String a, String b) {
+        int dateEnd = FILE_PREFIX.length() + 8;
+        int byDate = a.substring(0, dateEnd).compareTo(b.substring(0, dateEnd));
+        if (byDate != 0) {
+            return byDate;
+        }
+        int byLength = Integer.compare(a.length(), b.length()); // 번호 자릿수
+        return byLength != 0 ? byLength : a.compareTo(b);
+    }
+
+    private void sync() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            log.warn("감사 로그 동기화 실패", e);
+        }
+    }
+
+    private void closeFile() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 파일 닫기 실패", e);
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.board.service.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+/**
+ * 감사 로그 레코드용 고정 크기 링 버퍼 (다수 생산자 / 단일 소비자, 락 없음)
+ *
+ * - 기동 시 capacity * RECORD_SIZE 바이트를 한 번만 할당하고, 레코드는 슬롯에 고정 배치로 덮어씁니다.
+ * - 생산자: claim(CAS로 순번 예약) -> 슬롯에 쓰기 -> publish(슬롯에 순번 기록)
+ * - 소비자(AuditLog 기록 스레드 1개): isPublished로 순서대로 읽고 release로 슬롯을 반납합니다.
+ *
+ * 레코드 배치 (RECORD_SIZE = 128바이트)
+ *   0: 시각(epoch ms, long) / 8: 대상 ID(long, 없으면 -1) / 16: 관련 ID(long, 없으면 -1)
+ *   24: 종류(AuditAction.code) / 25: 사용자 ID 길이 / 26: IP 길이 / 27: 예약
+ *   28: IP (ASCII, 최대 46바이트) / 74: 사용자 ID (UTF-8, 최대 54바이트, 넘으면 잘림)
+ */
+final class AuditRing {
+
+    static final int RECORD_SIZE = 128;
+
+    private static final int TIME = 0;
+    private static final int TARGET = 8;
+    private static final int RELATED = 16;
+    private static final int ACTION = 24;
+    private static final int ACTOR_LENGTH = 25;
+    private static final int ADDRESS_LENGTH = 26;
+    private static final int ADDRESS = 28;
+    private static final int ADDRESS_MAX = 46;
+    private static final int ACTOR = ADDRESS + ADDRESS_MAX;
+    private static final int ACTOR_MAX = RECORD_SIZE - ACTOR;
+
+    private static final Pattern CONTROL = Pattern.compile("\\p{Cntrl}");
+
+    private final int capacity;
+    private final int mask;
+    private final ByteBuffer buffer;
+    // 슬롯별로 마지막에 공개된 순번 (소비자는 기대 순번과 같을 때만 읽음)
+    private final AtomicLongArray published;
+    // 다음에 예약할 순번
+    private final AtomicLong claimed = new AtomicLong();
+    // 소비자가 다음에 읽을 순번 (이보다 작은 순번의 슬롯은 재사용 가능)
+    private final AtomicLong readSequence = new AtomicLong();
+
+    AuditRing(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱
+        this.mask = capacity - 1;
+        this.buffer = ByteBuffer.allocateDirect(capacity * RECORD_SIZE);
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 슬롯 1개를 예약합니다.
+     * @return 예약한 순번 (가득 찼으면 -1)
+     */
+    long tryClaim() {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - readSequence.get() >= capacity) {
+                return -1;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * 예약한 슬롯에 레코드를 쓰고 소비자에게 공개합니다.
+     * (슬롯마다 쓰는 범위가 다르므로 절대 위치 쓰기만 사용하여 다른 생산자와 겹치지 않음)
+     */
+    void write(long sequence, long time, AuditAction action, String actor, String address,
+               long targetId, long relatedId) {
+        int offset = offset(sequence);
+        buffer.putLong(offset + TIME, time);
+        buffer.putLong(offset + TARGET, targetId);
+        buffer.putLong(offset + RELATED, relatedId);
+        buffer.put(offset + ACTION, action.code());
+        buffer.put(offset + ACTOR_LENGTH, (byte) putBytes(offset + ACTOR, actor, ACTOR_MAX, StandardCharsets.UTF_8));
+        buffer.put(offset + ADDRESS_LENGTH, (byte) putBytes(offset + ADDRESS, address, ADDRESS_MAX, StandardCharsets.US_ASCII));
+        published.lazySet((int) (sequence & mask), sequence);
+    }
+
+    boolean isPublished(long sequence) {
+        return published.get((int) (sequence & mask)) == sequence;
+    }
+
+    long readSequence() {
+        return readSequence.get();
+    }
+
+    long backlog() {
+        return claimed.get() - readSequence.get();
+    }
+
+    /**
+     * 소비자: 순번의 레코드를 읽어 한 줄로 붙입니다. (탭 구분)
+     */
+    void appendLine(long sequence, StringBuilder out) {
+        int offset = offset(sequence);
+        AuditAction action = AuditAction.of(buffer.get(offset + ACTION));
+        out.append(Instant.ofEpochMilli(buffer.getLong(offset + TIME))).append('\t')
+                .append(action != null ? action.name() : "UNKNOWN").append('\t')
+                .append(readString(offset + ACTOR, buffer.get(offset + ACTOR_LENGTH), StandardCharsets.UTF_8)).append('\t')
+                .append(readString(offset + ADDRESS, buffer.get(offset + ADDRESS_LENGTH), StandardCharsets.US_ASCII)).append('\t');
+        appendId(out, buffer.getLong(offset + TARGET)).append('\t');
+        appendId(out, buffer.getLong(offset + RELATED)).append('\n');
+    }
+
+    /**
+     * 소비자: 읽은 슬롯을 반납합니다. (nextSequence 전까지)
+     */
+    void release(long nextSequence) {
+        readSequence.lazySet(nextSequence);
+    }
+
+    private int offset(long sequence) {
+        return (int) (sequence & mask) * RECORD_SIZE;
+    }
+
+    private int putBytes(int index, String value, int max, Charset charset) {
+        if (value == null) {
+            return 0;
+        }
+        byte[] bytes = value.getBytes(charset);
+        int length = Math.min(bytes.length, max);
+        buffer.put(index, bytes, 0, length);
+        return length;
+    }
+
+    private String readString(int index, byte length, Charset charset) {
+        int size = length & 0xFF;
+        if (size == 0) {
+            return "-";
+        }
+        byte[] bytes = new byte[size];
+        buffer.get(index, bytes);
+        // 로그인 실패 ID 등 사용자 입력이 줄/칸을 깨지 않도록 제어 문자 치환
+        return CONTROL.matcher(new String(bytes, charset)).replaceAll("_");
+    }
+
+    private static StringBuilder appendId(StringBuilder out, long id) {
+        return id < 0 ? out.append('-') : out.append(id);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.board.service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글이 새로 작성되었을 때 발행되는 이벤트
+ * (CommentService.createComment 에서 발행하며, 트랜잭션 커밋 이후 구독자에게 전달됩니다.)
+ *
+ * @param postId 댓글이 달린 게시글 ID
+ * @param commentId 저장된 댓글 ID
+ * @param path 답글 트리 경로 (Comment.path, 표시 순서)
+ * @param anonymousId 익명 ID (0: 작성자, 1~: 익명 번호)
+ * @param content 댓글 내용
+ * @param renderedContent 표시용으로 렌더링된 댓글 HTML
+ * @param createdAt 작성 시각
+ * @param userId 댓글 작성자 ID (외부로 노출하지 않음)
+ * @param userPk 댓글 작성자 PK (tbl_user.id, 외부로 노출하지 않음)
+ * @param postAuthorPk 게시글 작성자 PK (알림 수신자, 외부로 노출하지 않음)
+ * @param postAuthorId 게시글 작성자 ID (알림 수신자, 외부로 노출하지 않음)
+ */
+public record CommentCreatedEvent(Long postId,
+                                  Long commentId,
+                                  String path,
+                                  Integer anonymousId,
+                                  String content,
+                                  String renderedContent,
+                                  LocalDateTime createdAt,
+                                  String userId,
+                                  Long userPk,
+                                  Long postAuthorPk,
+                                  String postAuthorId) {
+}
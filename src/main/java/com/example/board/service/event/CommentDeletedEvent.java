@@ -0,0 +1,13 @@
+package com.example.board.service.event;
+
+/**
+ * 댓글이 삭제되었을 때 발행되는 이벤트
+ * (CommentService.deleteComment 에서 발행합니다.)
+ *
+ * @param postId 댓글이 달린 게시글 ID
+ * @param commentId 삭제된 댓글 ID
+ * @param userId 삭제한 사용자 ID
+ * @param userPk 삭제한 사용자 PK (tbl_user.id)
+ */
+public record CommentDeletedEvent(Long postId, Long commentId, String userId, Long userPk) {
+}
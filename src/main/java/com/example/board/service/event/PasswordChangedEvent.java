@@ -0,0 +1,10 @@
+package com.example.board.service.event;
+
+/**
+ * 사용자가 비밀번호를 변경했을 때 발행되는 이벤트
+ * (UserService.changePassword 에서 발행하며, 기존 로그인 토큰 무효화 등에 사용됩니다.)
+ *
+ * @param userId 비밀번호를 변경한 사용자 ID
+ */
+public record PasswordChangedEvent(String userId) {
+}
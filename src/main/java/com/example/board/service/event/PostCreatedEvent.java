@@ -0,0 +1,15 @@
+package com.example.board.service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글이 작성되었을 때 발행되는 이벤트
+ * (PostService.save 에서 발행합니다.)
+ *
+ * @param postId 작성된 게시글 ID
+ * @param userId 작성한 사용자 ID
+ * @param title 제목
+ * @param createdAt 작성 시각
+ */
+public record PostCreatedEvent(Long postId, String userId, String title, LocalDateTime createdAt) {
+}
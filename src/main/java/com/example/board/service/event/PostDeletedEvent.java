@@ -0,0 +1,11 @@
+package com.example.board.service.event;
+
+/**
+ * 게시글이 삭제되었을 때 발행되는 이벤트
+ * (PostService.delete 에서 발행합니다.)
+ *
+ * @param postId 삭제된 게시글 ID
+ * @param userId 삭제한 사용자 ID
+ */
+public record PostDeletedEvent(Long postId, String userId) {
+}
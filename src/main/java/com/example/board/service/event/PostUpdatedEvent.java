@@ -0,0 +1,12 @@
+package com.example.board.service.event;
+
+/**
+ * 게시글이 수정되었을 때 발행되는 이벤트
+ * (PostService.update 에서 발행합니다.)
+ *
+ * @param postId 수정된 게시글 ID
+ * @param userId 수정한 사용자 ID
+ * @param title 수정된 제목
+ */
+public record PostUpdatedEvent(Long postId, String userId, String title) {
+}
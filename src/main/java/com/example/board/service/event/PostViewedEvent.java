@@ -0,0 +1,11 @@
+package com.example.board.service.event;
+
+/**
+ * 게시글 상세 조회 시 발행되는 이벤트
+ * (PostService.getPostDetail 에서 발행하며, 고유 방문자 집계 / 이벤트 저널 등에서 사용합니다.)
+ *
+ * @param postId 게시글 ID
+ * @param viewerKey 방문자 키 (로그인 사용자는 "u:" + ID, 비로그인은 "a:" + IP/User-Agent)
+ */
+public record PostViewedEvent(Long postId, String viewerKey) {
+}
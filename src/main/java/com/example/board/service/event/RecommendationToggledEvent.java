@@ -0,0 +1,18 @@
+package com.example.board.service.event;
+
+/**
+ * 게시글 추천/추천 취소 시 발행되는 이벤트
+ * (RecommendationService.toggleRecommendation 에서 발행합니다.)
+ *
+ * @param postId 게시글 ID
+ * @param userId 추천(취소)한 사용자 ID
+ * @param userPk 추천(취소)한 사용자 PK (tbl_user.id)
+ * @param recommended true: 추천, false: 추천 취소
+ * @param recommendationCount 변경 후 총 추천 수
+ */
+public record RecommendationToggledEvent(Long postId,
+                                         String userId,
+                                         Long userPk,
+                                         boolean recommended,
+                                         int recommendationCount) {
+}
@@ -0,0 +1,38 @@
+package com.example.board.service.invalidation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버(인스턴스) 사이의 메모리 캐시 무효화 통로
+ *
+ * - 데이터를 바꾼 서버는 자기 캐시를 직접 갱신하고(기존 이벤트 리스너), 다른 서버에는 이 통로로
+ *   "region의 key가 바뀌었다"만 알립니다. 받은 서버는 해당 항목을 캐시에서 버립니다. (다음 조회 때 DB에서 로딩)
+ * - 무효화는 여러 번 전달될 수 있으므로(at-least-once) 구독자는 같은 키를 여러 번 받아도 안전해야 합니다.
+ * - 자기 서버가 발행한 무효화는 자기 구독자에게 전달하지 않습니다.
+ */
+public interface InvalidationBus {
+
+    /**
+     * 캐시 항목 무효화를 발행합니다.
+     * 트랜잭션 안에서 호출하면 같은 트랜잭션으로 기록되어, 커밋된 경우에만 전달됩니다.
+     * @param region 캐시 구분 (InvalidationRegions)
+     * @param key 캐시 키
+     */
+    default void publish(String region, String key) {
+        publishAll(region, List.of(key));
+    }
+
+    /**
+     * 여러 캐시 항목의 무효화를 한 번에 발행합니다.
+     */
+    void publishAll(String region, Collection<String> keys);
+
+    /**
+     * 다른 서버가 발행한 무효화를 구독합니다.
+     * @param region 캐시 구분
+     * @param listener 무효화된 캐시 키 처리기 (폴링 스레드에서 호출)
+     */
+    void subscribe(String region, Consumer<String> listener);
+}
@@ -0,0 +1,19 @@
+package com.example.board.service.invalidation;
+
+/**
+ * 캐시 무효화 구분 (InvalidationBus의 region)
+ */
+public final class InvalidationRegions {
+
+    // 게시글별 추천자 비트맵 (RecommenderIndex, key: 게시글 ID)
+    public static final String RECOMMENDERS = "recommenders";
+    // 사용자별 읽지 않은 알림 수 (NotificationService, key: 로그인 사용자 ID)
+    public static final String UNREAD_NOTIFICATIONS = "unread-notifications";
+    // 최신 게시글 목록 스냅샷 (LatestPostsWindow, key: 게시글 ID)
+    public static final String LATEST_POSTS = "latest-posts";
+    // 무상태 로그인 토큰 폐기 (SignedTokenService, key: "폐기시각(ms):userId")
+    public static final String REVOKED_TOKENS = "revoked-tokens";
+
+    private InvalidationRegions() {
+    }
+}
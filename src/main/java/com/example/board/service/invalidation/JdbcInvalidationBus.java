@@ -0,0 +1,267 @@
+package com.example.board.service.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DB 변경 기록 테이블(tbl_cache_changelog)을 이용한 무효화 통로 (board.invalidation.bus=jdbc, 별도 메시지 브로커 없음)
+ *
+ * - 발행: 무효화를 호출한 트랜잭션 안에서 변경 기록 행을 INSERT 합니다. (여러 키는 JDBC 배치 1번)
+ *   데이터 변경과 함께 커밋되거나 함께 롤백되므로, 커밋된 변경의 무효화는 유실되지 않습니다. (at-least-once)
+ * - 수신: 각 서버가 board.invalidation.poll-ms 마다 마지막으로 처리한 행 이후를 읽고,
+ *   같은 (region, key)는 한 번만 구독자에게 전달합니다. (배치)
+ * - 버전: 변경 기록 행 ID가 무효화 버전입니다. 처리한 ID는 다시 전달하지 않습니다.
+ *   AUTO_INCREMENT ID는 커밋 순서와 다를 수 있으므로, 중간에 빈 ID가 있으면 그 ID의 트랜잭션이 커밋되기를
+ *   board.invalidation.gap-timeout-ms 동안 기다린 뒤(그 사이 뒤의 행은 먼저 전달) cursor를 넘깁니다.
+ *   넘긴 ID는 board.invalidation.late-window-ms 동안 폴링마다 다시 확인하여, 늦게 커밋된 행도 전달합니다.
+ *   (그 안에 나타나지 않으면 롤백된 것으로 봄)
+ * - 기동 시 변경 기록 테이블이 없으면(db/045 미적용) 기동을 중단합니다.
+ * - 변경 기록은 board.invalidation.retention-ms 이후 삭제합니다. 새로 시작한 서버는 캐시가 비어 있으므로
+ *   오래된 기록은 읽지 않지만, 기동 시점에 커밋 전인 기록(마지막 ID보다 앞의 빈 ID)을 놓치지 않도록
+ *   late-window 이전에 기록된 마지막 ID부터 시작합니다. (그 이후의 기록은 빈 캐시에 전달되므로 영향 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.invalidation.bus", havingValue = "jdbc")
+public class JdbcInvalidationBus implements InvalidationBus {
+
+    // 한 번에 다시 확인하는 넘긴 ID 수 (IN 목록 크기)
+    private static final int LATE_CHECK_BATCH = 500;
+    // 다시 확인할 넘긴 ID 최대 수 (넘치면 오래된 ID부터 포기)
+    private static final int MAX_SKIPPED = 10_000;
+
+    private static final String SELECT_SQL = "SELECT id, region, cache_key, origin, created_at FROM tbl_cache_changelog ";
+    private static final RowMapper<Change> CHANGE_MAPPER = (rs, rowNum) -> new Change(rs.getLong(1), rs.getString(2),
+            rs.getString(3), rs.getString(4), rs.getTimestamp(5).toLocalDateTime());
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_cache_changelog (region, cache_key, origin, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int pollBatchSize;
+    private final long gapTimeoutMillis;
+    private final long retentionMillis;
+    private final long lateWindowMillis;
+
+    // 이 서버의 식별자 (자기가 발행한 무효화는 전달하지 않음)
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    // 폴링 상태 (폴링 스레드에서만 사용)
+    private long cursor = -1; // 이 ID 이하는 모두 처리함 (-1: 아직 시작 전)
+    private final TreeSet<Long> deliveredAhead = new TreeSet<>(); // cursor 이후에 이미 처리한 ID
+    private final TreeMap<Long, Long> skipped = new TreeMap<>(); // 커밋을 기다리다 넘긴 ID -> 넘긴 시각 (ms)
+    private long stuckCursor = -1;
+    private long stuckSince;
+    private boolean failing;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Timer lagTimer;
+
+    public JdbcInvalidationBus(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${board.invalidation.poll-batch-size:1000}") int pollBatchSize,
+                               @Value("${board.invalidation.gap-timeout-ms:10000}") long gapTimeoutMillis,
+                               @Value("${board.invalidation.retention-ms:3600000}") long retentionMillis,
+                               @Value("${board.invalidation.late-window-ms:600000}") long lateWindowMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollBatchSize = pollBatchSize;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionMillis = retentionMillis;
+        this.lateWindowMillis = lateWindowMillis;
+        this.publishedCounter = meterRegistry.counter("board.invalidation.published");
+        this.receivedCounter = meterRegistry.counter("board.invalidation.received");
+        // 발행(변경 기록 시각)부터 다른 서버에서 전달될 때까지의 지연
+        this.lagTimer = Timer.builder("board.invalidation.lag").register(meterRegistry);
+    }
+
+    /**
+     * 변경 기록 테이블이 없으면 모든 쓰기 트랜잭션(무효화 발행)이 실패하므로 기동 시 확인합니다.
+     */
+    @PostConstruct
+    void verifyTable() {
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_cache_changelog WHERE 1 = 0", Long.class);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("board.invalidation.bus=jdbc 이지만 tbl_cache_changelog 테이블을 사용할 수 없습니다. "
+                    + "db/045-cache-changelog.sql을 적용하거나 서버 1대로 실행하면 board.invalidation.bus=local로 설정하세요.", e);
+        }
+    }
+
+    @Override
+    public void publishAll(String region, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (String key : new LinkedHashSet<>(keys)) {
+            rows.add(new Object[]{region, key, nodeId, now});
+        }
+        // 현재 트랜잭션(JpaTransactionManager가 노출한 커넥션)에 참여
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        publishedCounter.increment(rows.size());
+    }
+
+    @Override
+    public void subscribe(String region, Consumer<String> listener) {
+        listeners.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 다른 서버가 발행한 무효화를 읽어 구독자에게 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.invalidation.poll-ms:500}")
+    public synchronized void poll() {
+        try {
+            if (cursor < 0) {
+                Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(Duration.ofMillis(lateWindowMillis)));
+                cursor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tbl_cache_changelog " +
+                        "WHERE created_at < ?", Long.class, since);
+                return;
+            }
+            List<Change> changes = jdbcTemplate.query(SELECT_SQL + "WHERE id > ? ORDER BY id LIMIT ?",
+                    CHANGE_MAPPER, cursor, pollBatchSize);
+            List<Change> late = findLateChanges();
+            failing = false;
+
+            // 한 번의 폴링에서 같은 (region, key)는 한 번만 전달
+            Set<Target> targets = new LinkedHashSet<>();
+            LocalDateTime now = LocalDateTime.now();
+            for (Change change : late) {
+                skipped.remove(change.id());
+                collect(change, targets, now);
+            }
+            for (Change change : changes) {
+                if (deliveredAhead.add(change.id())) {
+                    collect(change, targets, now);
+                }
+            }
+            targets.forEach(this::deliver);
+            receivedCounter.increment(targets.size());
+            advanceCursor();
+        } catch (DataAccessException e) {
+            if (!failing) {
+                log.warn("캐시 무효화 변경 기록 조회 실패", e);
+                failing = true;
+            }
+        }
+    }
+
+    private void collect(Change change, Set<Target> targets, LocalDateTime now) {
+        if (nodeId.equals(change.origin())) {
+            return; // 자기가 발행한 무효화
+        }
+        targets.add(new Target(change.region(), change.key()));
+        lagTimer.record(Duration.between(change.createdAt(), now));
+    }
+
+    /**
+     * 커밋을 기다리다 넘긴 ID 중 이제 커밋된 행을 조회합니다. (late-window가 지난 ID는 롤백된 것으로 보고 제외)
+     */
+    private List<Change> findLateChanges() {
+        if (skipped.isEmpty()) {
+            return List.of();
+        }
+        long expiredBefore = System.currentTimeMillis() - lateWindowMillis;
+        skipped.values().removeIf(skippedAt -> skippedAt < expiredBefore);
+        List<Long> ids = new ArrayList<>(skipped.keySet());
+        List<Change> late = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LATE_CHECK_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + LATE_CHECK_BATCH, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            late.addAll(jdbcTemplate.query(SELECT_SQL + "WHERE id IN (" + placeholders + ")", CHANGE_MAPPER, batch.toArray()));
+        }
+        return late;
+    }
+
+    /**
+     * 보존 기간이 지난 변경 기록을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${board.invalidation.cleanup-ms:600000}")
+    public void cleanup() {
+        try {
+            Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+            jdbcTemplate.update("DELETE FROM tbl_cache_changelog WHERE created_at < ? LIMIT 10000", before);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 변경 기록 정리 실패", e);
+        }
+    }
+
+    private void deliver(Target target) {
+        for (Consumer<String> listener : listeners.getOrDefault(target.region(), List.of())) {
+            try {
+                listener.accept(target.key());
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 처리 실패: {} {}", target.region(), target.key(), e);
+            }
+        }
+    }
+
+    /**
+     * 연속으로 처리한 ID까지 cursor를 옮깁니다.
+     * 빈 ID(커밋 전이거나 롤백된 트랜잭션)가 gap-timeout 넘게 채워지지 않으면 건너뛰고,
+     * 건너뛴 ID는 늦게 커밋될 수 있으므로 skipped에 남겨 다시 확인합니다.
+     */
+    private void advanceCursor() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            while (!deliveredAhead.isEmpty() && deliveredAhead.first() == cursor + 1) {
+                cursor = deliveredAhead.pollFirst();
+            }
+            if (deliveredAhead.isEmpty()) {
+                return;
+            }
+            if (stuckCursor != cursor) {
+                stuckCursor = cursor;
+                stuckSince = now;
+                return;
+            }
+            if (now - stuckSince < gapTimeoutMillis) {
+                return;
+            }
+            // 빈 구간이 아주 길면(오래된 기록이 정리된 뒤 시작한 경우 등) 마지막 MAX_SKIPPED개만 다시 확인
+            for (long id = Math.max(cursor + 1, deliveredAhead.first() - MAX_SKIPPED); id < deliveredAhead.first(); id++) {
+                skipped.put(id, now);
+            }
+            while (skipped.size() > MAX_SKIPPED) {
+                log.warn("커밋을 기다리는 캐시 무효화 변경 기록이 너무 많아 확인을 포기합니다: {}", skipped.pollFirstEntry().getKey());
+            }
+            cursor = deliveredAhead.first() - 1;
+        }
+    }
+
+    private record Change(long id, String region, String key, String origin, LocalDateTime createdAt) {
+    }
+
+    private record Target(String region, String key) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.board.service.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * 단일 서버용 무효화 통로 (board.invalidation.bus=local, 기본값)
+ * 다른 서버가 없으므로 아무것도 기록/전달하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.invalidation.bus", havingValue = "local", matchIfMissing = true)
+public class LocalInvalidationBus implements InvalidationBus {
+
+    @Override
+    public void publishAll(String region, Collection<String> keys) {
+    }
+
+    @Override
+    public void subscribe(String region, Consumer<String> listener) {
+    }
+}
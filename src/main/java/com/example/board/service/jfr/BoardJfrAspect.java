@@ -0,0 +1,53 @@
+package com.example.board.service.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시판 서비스 메서드의 JFR 이벤트 기록 (게시글 상세 / 추천 / 댓글 작성)
+ *
+ * 트랜잭션 advisor(@EnableTransactionManagement 기본 순서 LOWEST_PRECEDENCE)보다 바깥에서 실행되도록
+ * 높은 우선순위로 등록합니다. 커밋 시점에 flush 되는 INSERT/UPDATE와 커밋 시간까지 구간에 포함됩니다.
+ * (HIGHEST_PRECEDENCE + 1 인 ExposeInvocationInterceptor보다는 안쪽이어야 인자 바인딩이 동작함)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BoardJfrAspect {
+
+    @Around("execution(* com.example.board.service.PostService.getPostDetail(..)) && args(postId, ..)")
+    public Object postDetail(ProceedingJoinPoint joinPoint, Long postId) throws Throwable {
+        PostDetailJfrEvent event = new PostDetailJfrEvent(postId);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Around("execution(* com.example.board.service.RecommendationService.toggleRecommendation(..)) && args(postId, ..)")
+    public Object recommendation(ProceedingJoinPoint joinPoint, Long postId) throws Throwable {
+        RecommendationJfrEvent event = new RecommendationJfrEvent(postId);
+        try {
+            Object recommended = joinPoint.proceed();
+            event.setRecommended(Boolean.TRUE.equals(recommended));
+            return recommended;
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Around("execution(* com.example.board.service.CommentService.createComment(..)) && args(postId, parentId, ..)")
+    public Object commentCreate(ProceedingJoinPoint joinPoint, Long postId, Long parentId) throws Throwable {
+        CommentCreateJfrEvent event = new CommentCreateJfrEvent(postId, parentId != null);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.finish();
+        }
+    }
+}
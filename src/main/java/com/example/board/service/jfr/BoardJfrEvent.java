@@ -0,0 +1,45 @@
+package com.example.board.service.jfr;
+
+import com.example.board.service.sql.SqlStatementCounter;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시판 JFR 이벤트 공통 필드 (게시글 ID, 구간에서 실행된 SQL 수)
+ *
+ * 사용법: 구간 시작에서 생성(시작 시각과 SQL 수 기록)하고, 끝에서 finish()를 호출합니다.
+ * (서비스 메서드는 BoardJfrAspect가 트랜잭션 바깥에서, 화면 렌더링은 JfrRenderInterceptor가 기록)
+ * JFR이 꺼져 있거나 이벤트가 비활성이면 commit()은 아무 일도 하지 않습니다. (시간은 JFR이 자체 측정)
+ */
+@Category({"Board"})
+@StackTrace(false)
+abstract class BoardJfrEvent extends Event {
+
+    @Label("Post ID")
+    long postId;
+
+    @Label("Query Count")
+    int queryCount;
+
+    // 기록하지 않는 필드 (transient)
+    private transient long queriesAtStart;
+
+    BoardJfrEvent(long postId) {
+        this.postId = postId;
+        this.queriesAtStart = SqlStatementCounter.current();
+        begin();
+    }
+
+    /**
+     * 구간을 끝내고 이벤트를 기록합니다. (예외로 끝난 구간도 기록)
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            queryCount = (int) (SqlStatementCounter.current() - queriesAtStart);
+            commit();
+        }
+    }
+}
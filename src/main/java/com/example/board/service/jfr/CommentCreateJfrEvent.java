@@ -0,0 +1,22 @@
+package com.example.board.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 댓글 작성 (CommentService.createComment)
+ */
+@Name("board.CommentCreate")
+@Label("Comment Create")
+@Description("댓글 / 답글 작성")
+public class CommentCreateJfrEvent extends BoardJfrEvent {
+
+    @Label("Reply")
+    boolean reply;
+
+    public CommentCreateJfrEvent(long postId, boolean reply) {
+        super(postId);
+        this.reply = reply;
+    }
+}
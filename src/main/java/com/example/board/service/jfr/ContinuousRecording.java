@@ -0,0 +1,105 @@
+package com.example.board.service.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 상시 JFR(Java Flight Recorder) 기록
+ *
+ * - 기동 시 JDK "default" 설정(오버헤드 약 1% 이하)으로 디스크 기록을 시작합니다.
+ *   최근 board.jfr.max-age-minutes 분 / board.jfr.max-size 만큼만 JFR 저장소에 남고 오래된 청크는 삭제됩니다.
+ * - 게시판 이벤트(board.*)는 임계값 없이 모두 기록됩니다.
+ * - 관리자가 요청하면 최근 N분을 board.jfr.dump-dir 에 .jfr 파일로 저장합니다. (JDK Mission Control로 분석)
+ *   (JFR 저장소는 청크 단위로 나뉘므로 N분보다 조금 더 앞선 기록이 포함될 수 있습니다.)
+ * - JFR을 사용할 수 없는 JVM이거나 board.jfr.enabled=false면 기록하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ContinuousRecording {
+
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("'board-'yyyyMMdd-HHmmss'.jfr'");
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+
+    private volatile Recording recording;
+
+    public ContinuousRecording(@Value("${board.jfr.enabled:true}") boolean enabled,
+                               @Value("${board.jfr.max-age-minutes:30}") long maxAgeMinutes,
+                               @Value("${board.jfr.max-size:250MB}") DataSize maxSize,
+                               @Value("${board.jfr.dump-dir:jfr}") String dumpDirectory) {
+        this.enabled = enabled;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSize = maxSize;
+        this.dumpDirectory = Path.of(dumpDirectory);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration("default"));
+            started.setName("board-continuous");
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSize.toBytes());
+            started.start();
+            recording = started;
+            log.info("JFR 상시 기록 시작 (최근 {}분, 최대 {})", maxAge.toMinutes(), maxSize);
+        } catch (IOException | ParseException | RuntimeException e) {
+            log.warn("JFR 상시 기록을 시작할 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        Recording current = recording;
+        recording = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 최근 기록을 파일로 저장합니다.
+     * @param minutes 저장할 기간 (분, 상시 기록 보존 기간 이내)
+     * @return 저장한 파일 경로
+     */
+    public Path dump(long minutes) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("JFR 상시 기록이 실행 중이 아닙니다.");
+        }
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve(LocalDateTime.now().format(FILE_NAME)).toAbsolutePath();
+        // 스냅샷(현재까지의 기록 복사본)에서 최근 N분만 남기고 저장
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+            snapshot.setMaxAge(Duration.ofMinutes(Math.max(1, Math.min(minutes, maxAge.toMinutes()))));
+            snapshot.dump(file);
+        }
+        log.info("JFR 기록 저장: 최근 {}분 -> {}", minutes, file);
+        return file;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.board.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 게시글 상세 조회 (PostService.getPostDetail)
+ */
+@Name("board.PostDetail")
+@Label("Post Detail")
+@Description("게시글 상세 조회 (조회수 증가 포함)")
+public class PostDetailJfrEvent extends BoardJfrEvent {
+
+    public PostDetailJfrEvent(long postId) {
+        super(postId);
+    }
+}
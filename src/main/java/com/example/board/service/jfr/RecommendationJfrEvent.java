@@ -0,0 +1,25 @@
+package com.example.board.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 추천 / 추천 취소 (RecommendationService.toggleRecommendation)
+ */
+@Name("board.Recommendation")
+@Label("Recommendation Toggle")
+@Description("게시글 추천 / 추천 취소")
+public class RecommendationJfrEvent extends BoardJfrEvent {
+
+    @Label("Recommended")
+    boolean recommended;
+
+    public RecommendationJfrEvent(long postId) {
+        super(postId);
+    }
+
+    public void setRecommended(boolean recommended) {
+        this.recommended = recommended;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.board.service.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Thymeleaf 화면 렌더링 (JfrRenderInterceptor, 컨트롤러 처리 후 ~ 응답 완료)
+ */
+@Name("board.TemplateRender")
+@Label("Template Render")
+@Description("Thymeleaf 템플릿 렌더링 (게시글 화면이면 게시글 ID 포함)")
+public class TemplateRenderJfrEvent extends BoardJfrEvent {
+
+    @Label("View")
+    String view;
+
+    public TemplateRenderJfrEvent(long postId, String view) {
+        super(postId);
+        this.view = view;
+    }
+}
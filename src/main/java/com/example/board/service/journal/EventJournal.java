@@ -0,0 +1,230 @@
+package com.example.board.service.journal;
+
+import com.example.board.service.HyperLogLog;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.event.CommentDeletedEvent;
+import com.example.board.service.event.PostViewedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 행동(상세 조회, 추천/취소, 댓글 작성/삭제) 이벤트 저널
+ *
+ * 분석용 기록을 요청 경로에서 DB에 쓰지 않고, 메모리 매핑된 세그먼트 파일에 고정 크기(32바이트) 레코드로 추가합니다.
+ * - 요청 스레드는 위치 예약(AtomicLong) 후 매핑된 메모리에 직접 쓰므로 락과 시스템 콜이 없습니다.
+ * - 세그먼트가 가득 차면 위치 예약이 정확히 세그먼트 끝에 걸린 스레드 하나가 다음 세그먼트를 만들고(롤링),
+ *   나머지 스레드는 교체될 때까지 잠깐 대기합니다.
+ * - 디스크 동기화(force)와 보존 개수(board.journal.retention-segments)를 넘은 오래된 세그먼트 삭제는
+ *   주기 작업(board.journal.flush-ms)에서 처리합니다.
+ * - 기동할 때마다 새 세그먼트에서 시작하며, 비정상 종료로 일부만 기록된 레코드는 EventJournalReader가 건너뜁니다.
+ * - 저널 기록에 실패해도 요청은 실패시키지 않습니다. (board.journal.dropped 카운터로 확인)
+ *
+ * 세그먼트 파일명: {디렉터리}/{세그먼트 번호 20자리}.seg
+ */
+@Slf4j
+@Component
+public class EventJournal {
+
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int retentionSegments;
+    private final boolean enabled;
+    private final Counter appended;
+    private final Counter dropped;
+
+    private final AtomicReference<JournalSegment> current = new AtomicReference<>();
+    // 롤링으로 닫힌 뒤 아직 force 하지 않은 세그먼트
+    private final Queue<JournalSegment> sealed = new ConcurrentLinkedQueue<>();
+    private volatile long lastIndex = -1;
+
+    public EventJournal(@Value("${board.journal.dir:journal}") String directory,
+                        @Value("${board.journal.segment-size-mb:64}") int segmentSizeMb,
+                        @Value("${board.journal.retention-segments:48}") int retentionSegments,
+                        @Value("${board.journal.enabled:true}") boolean enabled,
+                        MeterRegistry meterRegistry) {
+        this.directory = Path.of(directory);
+        // 세그먼트 크기는 레코드 크기의 배수 (int 범위의 매핑만 사용)
+        long bytes = Math.min((long) segmentSizeMb << 20, Integer.MAX_VALUE);
+        this.segmentSize = (int) (bytes - bytes % JournalRecord.SIZE);
+        this.retentionSegments = Math.max(1, retentionSegments); // 기록 중인 세그먼트는 항상 보존
+        this.enabled = enabled;
+        this.appended = meterRegistry.counter("board.journal.appended");
+        this.dropped = meterRegistry.counter("board.journal.dropped");
+    }
+
+    @PostConstruct
+    void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            for (Path segment : new EventJournalReader(directory).segments()) {
+                lastIndex = Math.max(lastIndex, indexOf(segment));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이벤트 저널 디렉터리를 열 수 없습니다: {}", directory, e);
+            return;
+        }
+        current.set(createNext());
+    }
+
+    @PreDestroy
+    void close() {
+        forceSealed();
+        JournalSegment segment = current.getAndSet(null);
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    /**
+     * 상세 조회를 기록합니다. (방문자 키는 해시값으로만 기록)
+     */
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        append(JournalRecord.TYPE_VIEW, JournalRecord.FLAG_HASHED_ACTOR,
+                event.postId(), HyperLogLog.hash(event.viewerKey()));
+    }
+
+    /**
+     * 추천/추천 취소가 커밋되면 기록합니다.
+     */
+    @TransactionalEventListener
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        append(event.recommended() ? JournalRecord.TYPE_RECOMMEND : JournalRecord.TYPE_UNRECOMMEND,
+                (short) 0, event.postId(), event.userPk());
+    }
+
+    /**
+     * 댓글 작성이 커밋되면 기록합니다.
+     */
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        append(JournalRecord.TYPE_COMMENT_CREATE, (short) 0, event.postId(), event.userPk());
+    }
+
+    /**
+     * 댓글 삭제가 커밋되면 기록합니다.
+     */
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        append(JournalRecord.TYPE_COMMENT_DELETE, (short) 0, event.postId(), event.userPk());
+    }
+
+    /**
+     * 레코드 1건을 추가합니다. (락 없음, 요청 스레드에서 호출)
+     * @param type 이벤트 종류 (JournalRecord.TYPE_*)
+     * @param flags 플래그 (JournalRecord.FLAG_*)
+     * @param postId 게시글 ID
+     * @param actor 행위자 (사용자 PK 또는 방문자 키 해시)
+     */
+    public void append(short type, short flags, long postId, long actor) {
+        long timestamp = System.currentTimeMillis();
+        while (true) {
+            JournalSegment segment = current.get();
+            if (segment == null) {
+                dropped.increment(); // 비활성화 또는 세그먼트 생성 실패
+                return;
+            }
+            long offset = segment.reserve();
+            if (offset + JournalRecord.SIZE <= segment.capacity()) {
+                segment.write((int) offset, type, flags, timestamp, postId, actor);
+                appended.increment();
+                return;
+            }
+            if (offset == segment.capacity()) {
+                roll(segment); // 세그먼트 끝을 처음 넘은 스레드만 롤링
+            } else {
+                while (current.get() == segment) {
+                    Thread.onSpinWait(); // 다른 스레드의 롤링 대기
+                }
+            }
+        }
+    }
+
+    private void roll(JournalSegment full) {
+        sealed.add(full);
+        current.set(createNext()); // 실패 시 null (이후 기록은 주기 작업에서 다시 열 때까지 버림)
+    }
+
+    private JournalSegment createNext() {
+        long index = lastIndex + 1;
+        Path path = directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+        try {
+            JournalSegment segment = JournalSegment.create(path, index, segmentSize);
+            lastIndex = index;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            log.warn("이벤트 저널 세그먼트를 만들 수 없습니다: {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크 동기화, 세그먼트 재생성, 보존 개수 초과 세그먼트 삭제
+     */
+    @Scheduled(fixedDelayString = "${board.journal.flush-ms:1000}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        forceSealed();
+        JournalSegment segment = current.get();
+        if (segment != null) {
+            segment.force();
+        } else if (Files.isDirectory(directory)) {
+            current.compareAndSet(null, createNext());
+        }
+        deleteExpired();
+    }
+
+    private void forceSealed() {
+        JournalSegment segment;
+        while ((segment = sealed.poll()) != null) {
+            segment.force();
+        }
+    }
+
+    private void deleteExpired() {
+        List<Path> segments = new EventJournalReader(directory).segments();
+        for (int i = 0; i < segments.size() - retentionSegments; i++) {
+            try {
+                Files.deleteIfExists(segments.get(i)); // 매핑 중인 파일도 삭제 가능 (매핑 해제 시 공간 반환)
+            } catch (IOException e) {
+                log.warn("이벤트 저널 세그먼트 삭제 실패: {}", segments.get(i), e);
+            }
+        }
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 저널 디렉터리 (오프라인 처리 시 EventJournalReader에 전달)
+     */
+    public Path directory() {
+        return directory;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.board.service.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 이벤트 저널 순차 판독기 (오프라인 분석용)
+ *
+ * 저널 디렉터리의 세그먼트를 번호 순서로 읽어 커밋된 레코드만 전달합니다.
+ * - 커밋 표시가 0인 슬롯(미기록 또는 기록 도중 종료)은 건너뜁니다.
+ * - 커밋 표시와 CRC가 맞지 않는 레코드(일부만 디스크에 기록된 경우)는 손상으로 세고 건너뜁니다.
+ * - 여러 스레드가 동시에 기록하므로 한 세그먼트 안에서도 중간에 빈 슬롯이 있을 수 있어,
+ *   빈 슬롯을 만나도 세그먼트 끝까지 계속 읽습니다.
+ *
+ * 사용 예)
+ * <pre>
+ * EventJournalReader reader = new EventJournalReader(Path.of("journal"));
+ * reader.forEach(record -> ...);
+ * </pre>
+ */
+public class EventJournalReader {
+
+    private static final int READ_BUFFER_SIZE = 1 << 20; // 1MB (레코드 크기의 배수)
+
+    private final Path directory;
+    private long corrupted;
+
+    public EventJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 저널 디렉터리의 세그먼트 파일을 번호 순서로 반환합니다.
+     */
+    public List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(EventJournal.SEGMENT_SUFFIX))
+                    .sorted() // 파일명이 0으로 채운 세그먼트 번호이므로 이름순 = 기록순
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 세그먼트의 커밋된 레코드를 기록 순서대로 전달합니다.
+     * @param consumer 레코드 처리기
+     * @return 전달한 레코드 수
+     */
+    public long forEach(Consumer<JournalRecord> consumer) {
+        long count = 0;
+        for (Path segment : segments()) {
+            count += read(segment, consumer);
+        }
+        return count;
+    }
+
+    /**
+     * 세그먼트 1개의 커밋된 레코드를 전달합니다.
+     * @param segment 세그먼트 파일
+     * @param consumer 레코드 처리기
+     * @return 전달한 레코드 수
+     */
+    public long read(Path segment, Consumer<JournalRecord> consumer) {
+        long count = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= JournalRecord.SIZE) {
+                    int offset = buffer.position();
+                    JournalRecord record = decode(buffer, offset, crc);
+                    if (record != null) {
+                        consumer.accept(record);
+                        count++;
+                    }
+                    buffer.position(offset + JournalRecord.SIZE);
+                }
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    continue;
+                }
+                // 파일 끝의 레코드 크기 미만 조각 (잘린 파일) 은 버림
+                if (channel.position() >= channel.size()) {
+                    break;
+                }
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    /**
+     * CRC가 맞지 않아 건너뛴 레코드 수
+     */
+    public long corruptedCount() {
+        return corrupted;
+    }
+
+    private JournalRecord decode(ByteBuffer buffer, int offset, CRC32 crc) {
+        int mark = buffer.getInt(offset + JournalRecord.OFFSET_COMMIT);
+        if (mark == 0) {
+            return null; // 기록되지 않은 슬롯
+        }
+        crc.reset();
+        crc.update(buffer.slice(offset + JournalRecord.OFFSET_TYPE, JournalRecord.BODY_LENGTH));
+        if (JournalRecord.commitMark((int) crc.getValue()) != mark) {
+            corrupted++;
+            return null;
+        }
+        return new JournalRecord(
+                buffer.getShort(offset + JournalRecord.OFFSET_TYPE),
+                buffer.getShort(offset + JournalRecord.OFFSET_FLAGS),
+                buffer.getLong(offset + JournalRecord.OFFSET_TIMESTAMP),
+                buffer.getLong(offset + JournalRecord.OFFSET_POST_ID),
+                buffer.getLong(offset + JournalRecord.OFFSET_ACTOR));
+    }
+}
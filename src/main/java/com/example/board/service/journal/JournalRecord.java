@@ -0,0 +1,54 @@
+package com.example.board.service.journal;
+
+/**
+ * 이벤트 저널 레코드 1건 (고정 크기 32바이트)
+ *
+ * <pre>
+ * offset  size  내용
+ *      0     4  커밋 표시 (본문 CRC32 | 1, 0이면 아직 기록되지 않은 슬롯)
+ *      4     2  이벤트 종류 (TYPE_*)
+ *      6     2  플래그 (FLAG_*)
+ *      8     8  발생 시각 (epoch millis)
+ *     16     8  게시글 ID
+ *     24     8  행위자 (사용자 PK, 또는 FLAG_HASHED_ACTOR일 때 방문자 키 해시)
+ * </pre>
+ * 레코드 크기가 페이지 크기(4KB)의 약수이므로 레코드가 페이지 경계에 걸치지 않습니다.
+ *
+ * @param type 이벤트 종류
+ * @param flags 플래그
+ * @param timestamp 발생 시각 (epoch millis)
+ * @param postId 게시글 ID
+ * @param actor 행위자
+ */
+public record JournalRecord(short type, short flags, long timestamp, long postId, long actor) {
+
+    public static final int SIZE = 32;
+
+    public static final short TYPE_VIEW = 1;
+    public static final short TYPE_RECOMMEND = 2;
+    public static final short TYPE_UNRECOMMEND = 3;
+    public static final short TYPE_COMMENT_CREATE = 4;
+    public static final short TYPE_COMMENT_DELETE = 5;
+
+    /** actor가 사용자 PK가 아니라 방문자 키의 해시값 */
+    public static final short FLAG_HASHED_ACTOR = 1;
+
+    static final int OFFSET_COMMIT = 0;
+    static final int OFFSET_TYPE = 4;
+    static final int OFFSET_FLAGS = 6;
+    static final int OFFSET_TIMESTAMP = 8;
+    static final int OFFSET_POST_ID = 16;
+    static final int OFFSET_ACTOR = 24;
+    static final int BODY_LENGTH = SIZE - OFFSET_TYPE;
+
+    /**
+     * 커밋 표시값 (0은 "기록 안 됨"을 뜻하므로 최하위 비트를 항상 1로 둡니다.)
+     */
+    static int commitMark(int crc) {
+        return crc | 1;
+    }
+
+    public boolean isHashedActor() {
+        return (flags & FLAG_HASHED_ACTOR) != 0;
+    }
+}
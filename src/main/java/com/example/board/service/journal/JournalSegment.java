@@ -0,0 +1,102 @@
+package com.example.board.service.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑된 저널 세그먼트 파일 1개 (쓰기용)
+ *
+ * - 기록 위치는 AtomicLong의 getAndAdd로 예약하므로 여러 요청 스레드가 락 없이 동시에 기록합니다.
+ * - 레코드 본문을 먼저 쓰고 마지막에 커밋 표시(CRC)를 release 쓰기로 기록하므로,
+ *   비정상 종료로 일부만 기록된 레코드는 읽을 때 커밋 표시가 없거나 CRC가 맞지 않아 건너뜁니다.
+ */
+final class JournalSegment {
+
+    private static final VarHandle INT_VIEW =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long index;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong reserved = new AtomicLong();
+
+    private JournalSegment(long index, Path path, MappedByteBuffer buffer, int capacity) {
+        this.index = index;
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 새 세그먼트 파일을 만들고 매핑합니다. (파일은 0으로 채워진 sparse 파일로 생성)
+     */
+    static JournalSegment create(Path path, long index, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new JournalSegment(index, path, buffer, capacity);
+        }
+    }
+
+    /**
+     * 레코드 1건을 기록할 위치를 예약합니다.
+     * @return 기록 위치 (capacity 이상이면 세그먼트가 가득 찬 것)
+     */
+    long reserve() {
+        return reserved.getAndAdd(JournalRecord.SIZE);
+    }
+
+    /**
+     * 예약한 위치에 레코드를 기록합니다.
+     * (절대 위치 put만 사용하므로 버퍼의 position을 공유하지 않습니다.)
+     */
+    void write(int offset, short type, short flags, long timestamp, long postId, long actor) {
+        buffer.putShort(offset + JournalRecord.OFFSET_TYPE, type);
+        buffer.putShort(offset + JournalRecord.OFFSET_FLAGS, flags);
+        buffer.putLong(offset + JournalRecord.OFFSET_TIMESTAMP, timestamp);
+        buffer.putLong(offset + JournalRecord.OFFSET_POST_ID, postId);
+        buffer.putLong(offset + JournalRecord.OFFSET_ACTOR, actor);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + JournalRecord.OFFSET_TYPE, JournalRecord.BODY_LENGTH));
+        // 본문이 모두 보인 뒤에 커밋 표시가 보이도록 release 쓰기
+        INT_VIEW.setRelease(buffer, offset + JournalRecord.OFFSET_COMMIT,
+                JournalRecord.commitMark((int) crc.getValue()));
+    }
+
+    /**
+     * 변경된 페이지를 디스크에 기록합니다.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    long index() {
+        return index;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 현재까지 예약된 바이트 수 (capacity를 넘지 않음)
+     */
+    long used() {
+        return Math.min(reserved.get(), capacity);
+    }
+}
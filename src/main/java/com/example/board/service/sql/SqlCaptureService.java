@@ -0,0 +1,293 @@
+package com.example.board.service.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행된 SQL 수집 서비스 (SqlCaptureDataSource가 모든 문장 실행 시간을 전달)
+ *
+ * - SQL 지문별로 실행 횟수 / 전체 시간 / 최대 시간 / 한 요청 안에서의 최대 반복 횟수를 집계합니다.
+ *   (한 요청에서 같은 지문이 수십 번 반복되면 N+1 조회)
+ * - board.sql.slow-threshold-ms 이상 걸린 문장은 "board.sql.slow" 로거로 남깁니다.
+ * - 요청 단위로 문장 수와 시간을 모으고, 문장이 많거나 같은 지문이 많이 반복된 요청은 경고 로그를 남깁니다.
+ * - 관리자가 요청하면 전체 시간 상위 지문의 가장 느렸던 실행(바인딩 값 포함)으로 EXPLAIN을 실행해 보관합니다.
+ *   (바인딩 값은 EXPLAIN 용으로만 메모리에 보관하며 화면/로그에 표시하지 않습니다.)
+ */
+@Slf4j
+@Service
+public class SqlCaptureService {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("board.sql.slow");
+    // 지문 수가 최대치를 넘으면 나머지는 하나로 집계
+    private static final String OVERFLOW = "(기타)";
+
+    private final ObjectProvider<JdbcTemplate> jdbcTemplateProvider;
+    private final long slowThresholdNanos;
+    private final int maxFingerprints;
+    private final int requestWarnStatements;
+    private final int repeatWarnCount;
+
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestCapture> currentRequest = new ThreadLocal<>();
+    // EXPLAIN 실행 중에는 수집하지 않음
+    private final ThreadLocal<Boolean> suppressed = new ThreadLocal<>();
+
+    private final Counter statementCounter;
+    private final Counter slowCounter;
+    private final DistributionSummary requestStatements;
+
+    // JdbcTemplate(DataSource)은 이 서비스를 사용하는 DataSource가 만들어진 뒤에 필요하므로 지연 조회
+    public SqlCaptureService(ObjectProvider<JdbcTemplate> jdbcTemplateProvider,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.sql.slow-threshold-ms:200}") long slowThresholdMillis,
+                             @Value("${board.sql.max-fingerprints:2000}") int maxFingerprints,
+                             @Value("${board.sql.request-warn-statements:50}") int requestWarnStatements,
+                             @Value("${board.sql.repeat-warn-count:20}") int repeatWarnCount) {
+        this.jdbcTemplateProvider = jdbcTemplateProvider;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.maxFingerprints = maxFingerprints;
+        this.requestWarnStatements = requestWarnStatements;
+        this.repeatWarnCount = repeatWarnCount;
+        this.statementCounter = meterRegistry.counter("board.sql.statements");
+        this.slowCounter = meterRegistry.counter("board.sql.slow");
+        this.requestStatements = DistributionSummary.builder("board.sql.request.statements")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("board.sql.fingerprints", stats, Map::size);
+    }
+
+    /**
+     * 현재 스레드에서 HTTP 요청 단위 수집을 시작합니다. (SqlCaptureFilter)
+     * @param description 로그에 남길 요청 설명 (예: "GET /posts/1")
+     */
+    public void beginRequest(String description) {
+        currentRequest.set(new RequestCapture(description));
+    }
+
+    /**
+     * 요청 단위 수집을 끝내고, 문장이 많거나 같은 지문이 많이 반복된 요청은 경고 로그를 남깁니다.
+     */
+    public void endRequest() {
+        RequestCapture request = currentRequest.get();
+        currentRequest.remove();
+        if (request == null || request.statements == 0) {
+            return;
+        }
+        requestStatements.record(request.statements);
+        Map.Entry<String, Integer> mostRepeated = request.mostRepeated();
+        if (request.statements >= requestWarnStatements || mostRepeated.getValue() >= repeatWarnCount) {
+            log.warn("SQL이 많은 요청: {} - {}개, {}ms, 최다 반복 {}회: {}",
+                    request.description, request.statements, TimeUnit.NANOSECONDS.toMillis(request.totalNanos),
+                    mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+
+    /**
+     * 실행된 SQL 문장 1개를 기록합니다.
+     * @param sql 실행한 SQL (바인딩 전)
+     * @param params PreparedStatement 바인딩 값 (1번부터, Statement면 null) - 필요한 경우에만 복사
+     * @param nanos 실행 시간
+     */
+    public void record(String sql, List<Object> params, long nanos) {
+        if (sql == null || suppressed.get() != null) {
+            return;
+        }
+        SqlStatementCounter.increment();
+        statementCounter.increment();
+        String fingerprint = SqlFingerprint.of(sql);
+        Stat stat = stats.get(fingerprint);
+        if (stat == null) {
+            String key = stats.size() < maxFingerprints ? fingerprint : OVERFLOW;
+            stat = stats.computeIfAbsent(key, Stat::new);
+        }
+        stat.record(sql, params, nanos);
+
+        RequestCapture request = currentRequest.get();
+        if (request != null) {
+            stat.updateMaxPerRequest(request.record(fingerprint, nanos));
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowCounter.increment();
+            slowLog.warn("{}ms [{}] {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    request != null ? request.description : "-", sql);
+        }
+    }
+
+    /**
+     * 전체 시간 기준 상위 지문 목록
+     */
+    public List<StatView> top(int limit) {
+        return stats.values().stream()
+                .sorted(Comparator.comparingLong(Stat::totalNanos).reversed())
+                .limit(limit)
+                .map(Stat::view)
+                .toList();
+    }
+
+    /**
+     * 전체 시간 기준 상위 지문의 가장 느렸던 실행으로 EXPLAIN을 실행합니다. (SELECT만)
+     * @return EXPLAIN을 실행한 지문 수
+     */
+    public int explainTop(int limit) {
+        JdbcTemplate jdbcTemplate = jdbcTemplateProvider.getObject();
+        List<Stat> targets = stats.values().stream()
+                .sorted(Comparator.comparingLong(Stat::totalNanos).reversed())
+                .limit(limit)
+                .toList();
+        int explained = 0;
+        suppressed.set(Boolean.TRUE);
+        try {
+            for (Stat stat : targets) {
+                Sample sample = stat.sample;
+                if (sample == null || !isSelect(sample.sql())) {
+                    continue;
+                }
+                try {
+                    stat.explain = jdbcTemplate.query("EXPLAIN " + sample.sql(), rs -> {
+                        ResultSetMetaData meta = rs.getMetaData();
+                        List<String> columns = new ArrayList<>();
+                        for (int i = 1; i <= meta.getColumnCount(); i++) {
+                            columns.add(meta.getColumnLabel(i));
+                        }
+                        List<List<String>> rows = new ArrayList<>();
+                        while (rs.next()) {
+                            List<String> row = new ArrayList<>();
+                            for (int i = 1; i <= columns.size(); i++) {
+                                row.add(rs.getString(i));
+                            }
+                            rows.add(row);
+                        }
+                        return new Explain(columns, rows, null, LocalDateTime.now());
+                    }, sample.params());
+                } catch (DataAccessException e) {
+                    stat.explain = new Explain(List.of(), List.of(), e.getMostSpecificCause().getMessage(), LocalDateTime.now());
+                }
+                explained++;
+            }
+        } finally {
+            suppressed.remove();
+        }
+        return explained;
+    }
+
+    /**
+     * 집계를 초기화합니다.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    private static boolean isSelect(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("with");
+    }
+
+    /**
+     * 지문 1개의 집계 (여러 스레드에서 동시에 갱신)
+     */
+    private static final class Stat {
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong maxPerRequest = new AtomicLong();
+        private volatile Sample sample; // 가장 느렸던 실행 (EXPLAIN 용)
+        private volatile Explain explain;
+
+        private Stat(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void record(String sql, List<Object> params, long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            long previous = maxNanos.getAndAccumulate(nanos, Math::max);
+            if (nanos > previous) {
+                sample = new Sample(sql, params != null ? params.toArray() : new Object[0]);
+            }
+        }
+
+        void updateMaxPerRequest(int repeats) {
+            maxPerRequest.accumulateAndGet(repeats, Math::max);
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        StatView view() {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new StatView(fingerprint, executions,
+                    TimeUnit.NANOSECONDS.toMillis(total),
+                    executions > 0 ? total / executions / 1_000_000.0 : 0,
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+                    maxPerRequest.get(),
+                    explain);
+        }
+    }
+
+    /**
+     * 요청 1개의 수집 상태 (요청 스레드에서만 사용)
+     */
+    private static final class RequestCapture {
+        private final String description;
+        private final Map<String, Integer> repeats = new HashMap<>();
+        private int statements;
+        private long totalNanos;
+
+        private RequestCapture(String description) {
+            this.description = description;
+        }
+
+        int record(String fingerprint, long nanos) {
+            statements++;
+            totalNanos += nanos;
+            return repeats.merge(fingerprint, 1, Integer::sum);
+        }
+
+        Map.Entry<String, Integer> mostRepeated() {
+            return repeats.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElseThrow();
+        }
+    }
+
+    private record Sample(String sql, Object[] params) {
+    }
+
+    /**
+     * EXPLAIN 결과 (실패 시 error에 사유)
+     */
+    public record Explain(List<String> columns, List<List<String>> rows, String error, LocalDateTime explainedAt) {
+    }
+
+    /**
+     * 관리자 화면 표시용 지문 집계
+     */
+    public record StatView(String fingerprint, long count, long totalMillis, double avgMillis, long maxMillis,
+                           long maxPerRequest, Explain explain) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.board.service.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 지문(fingerprint): 값(문자열/숫자 리터럴, IN 목록 길이)과 공백 차이를 지운 SQL
+ * 값만 다른 같은 모양의 쿼리를 하나로 모아 집계하기 위해 사용합니다.
+ *
+ * 예) select * from tbl_board where id in (?, ?, ?) and title = 'a'
+ *     -> select * from tbl_board where id in (?+) and title = ?
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Hibernate가 만드는 SQL 문자열은 종류가 한정되어 있으므로 변환 결과를 캐시 (개수 제한)
+    private static final int CACHE_SIZE = 4096;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (CACHE.size() < CACHE_SIZE) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private static String normalize(String sql) {
+        String result = STRING.matcher(sql).replaceAll("?");
+        result = NUMBER.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("in (?+)");
+        return WHITESPACE.matcher(result).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.board.service.sql;
+
+/**
+ * 스레드별 누적 SQL 실행 횟수 (SqlCaptureService가 증가)
+ * 구간 전후 값의 차이로 그 구간에서 실행된 문장 수를 구합니다. (JFR 이벤트의 queryCount)
+ * SQL 수집이 꺼져 있으면(board.sql.capture.enabled=false) 항상 0입니다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private SqlStatementCounter() {
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
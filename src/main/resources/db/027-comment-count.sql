@@ -0,0 +1,11 @@
+-- 게시글 댓글 수(비정규화) 컬럼과 댓글 키셋 페이지네이션용 인덱스 (MySQL)
+-- 이후의 증감은 CommentService가 원자적 UPDATE로 처리합니다. (PostRepository.addCommentCount)
+
+ALTER TABLE tbl_board ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+
+-- 기존 게시글의 댓글 수 채우기 (논리적 삭제된 댓글 제외)
+-- 적용 중에 작성/삭제된 댓글은 반영되지 않을 수 있으므로 쓰기를 멈춘 상태에서 실행하세요.
+UPDATE tbl_board b
+SET b.comment_count = (SELECT COUNT(*) FROM tbl_comment c WHERE c.board_id = b.id AND c.is_del = FALSE);
+
+CREATE INDEX idx_comment_board_del_created ON tbl_comment (board_id, is_del, created_at, id);
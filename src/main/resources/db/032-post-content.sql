@@ -0,0 +1,17 @@
+-- 게시글 본문 분리 마이그레이션 (MySQL)
+-- tbl_board.content -> tbl_board_content.body (기존 본문은 압축하지 않은 상태(codec = 0)로 이전)
+-- 이후 수정되는 게시글부터 크기에 따라 압축 저장됩니다.
+
+CREATE TABLE IF NOT EXISTS tbl_board_content (
+    board_id        BIGINT   NOT NULL PRIMARY KEY,
+    codec           TINYINT  NOT NULL,
+    original_length INT      NOT NULL,
+    body            LONGBLOB NOT NULL
+);
+
+INSERT INTO tbl_board_content (board_id, codec, original_length, body)
+SELECT b.id, 0, LENGTH(b.content), CAST(b.content AS BINARY)
+FROM tbl_board b
+WHERE NOT EXISTS (SELECT 1 FROM tbl_board_content c WHERE c.board_id = b.id);
+
+ALTER TABLE tbl_board DROP COLUMN content;
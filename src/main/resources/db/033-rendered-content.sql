@@ -0,0 +1,10 @@
+-- 렌더링된 본문 저장 컬럼 추가 (MySQL)
+-- render_version = 0 인 행은 조회 시 현재 렌더러(ContentRenderer.VERSION)로 다시 렌더링되어 저장됩니다.
+
+ALTER TABLE tbl_board_content
+    ADD COLUMN rendered_html  LONGTEXT NULL,
+    ADD COLUMN render_version INT      NOT NULL DEFAULT 0;
+
+ALTER TABLE tbl_comment
+    ADD COLUMN rendered_content TEXT NULL,
+    ADD COLUMN render_version   INT  DEFAULT 0;
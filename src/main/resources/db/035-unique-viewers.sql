@@ -0,0 +1,12 @@
+-- 고유 방문자 수(HyperLogLog) 저장 (MySQL)
+
+CREATE TABLE IF NOT EXISTS tbl_board_viewers (
+    board_id   BIGINT          NOT NULL PRIMARY KEY,
+    registers  VARBINARY(4096) NOT NULL,
+    updated_at DATETIME(6)     NULL
+);
+
+ALTER TABLE tbl_board ADD COLUMN unique_viewer_count BIGINT DEFAULT 0;
+
+-- registers 는 HyperLogLog.toCompactBytes 형식 (희소: 1 + 3 x 레지스터 수, 밀집: 3073바이트)
+-- 이전 형식(4096바이트)으로 저장된 행도 읽을 수 있고, 다음 병합 때 압축 형식으로 다시 저장됩니다.
@@ -0,0 +1,12 @@
+-- 게시글별 시간 구간(분/시/일) 조회수·추천수 집계 (MySQL)
+-- granularity: 0 = 분, 1 = 시, 2 = 일
+
+CREATE TABLE IF NOT EXISTS tbl_board_stats (
+    board_id        BIGINT      NOT NULL,
+    granularity     TINYINT     NOT NULL,
+    bucket_start    DATETIME(6) NOT NULL,
+    view_count      BIGINT      NOT NULL DEFAULT 0,
+    recommend_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (board_id, granularity, bucket_start),
+    KEY idx_board_stats_granularity_bucket (granularity, bucket_start) -- 보존 기간 정리용
+);
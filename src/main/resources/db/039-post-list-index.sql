@@ -0,0 +1,3 @@
+-- 게시글 목록 키셋 페이지네이션(최신순)용 인덱스 (MySQL)
+
+CREATE INDEX idx_board_del_created ON tbl_board (is_del, created_at, id);
@@ -0,0 +1,17 @@
+-- 게시글 첨부파일 (MySQL)
+-- 파일 내용은 board.attachment.dir/blobs/ 아래에 SHA-256 이름으로 저장됩니다.
+
+CREATE TABLE IF NOT EXISTS tbl_attachment (
+    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    board_id      BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    original_name VARCHAR(255) NOT NULL,
+    content_type  VARCHAR(100) NOT NULL,
+    size          BIGINT       NOT NULL,
+    sha256        CHAR(64)     NOT NULL,
+    created_at    DATETIME(6)  NULL,
+    is_del        BIT(1)       DEFAULT 0,
+    KEY idx_attachment_board (board_id, is_del),
+    CONSTRAINT fk_attachment_board FOREIGN KEY (board_id) REFERENCES tbl_board (id),
+    CONSTRAINT fk_attachment_user FOREIGN KEY (user_id) REFERENCES tbl_user (id)
+);
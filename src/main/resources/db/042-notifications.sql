@@ -0,0 +1,15 @@
+-- 내 게시글 새 댓글 알림 (MySQL)
+-- 수신자 + 게시글당 1행, 읽지 않은 동안 달린 댓글 수를 comment_count에 누적합니다.
+
+CREATE TABLE IF NOT EXISTS tbl_notification (
+    id            BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    recipient_id  BIGINT      NOT NULL,
+    board_id      BIGINT      NOT NULL,
+    comment_count BIGINT      NOT NULL DEFAULT 0,
+    is_read       BIT(1)      NOT NULL DEFAULT 0,
+    updated_at    DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_notification_recipient_board (recipient_id, board_id), -- upsert 기준
+    KEY idx_notification_recipient_read (recipient_id, is_read, updated_at),
+    CONSTRAINT fk_notification_recipient FOREIGN KEY (recipient_id) REFERENCES tbl_user (id),
+    CONSTRAINT fk_notification_board FOREIGN KEY (board_id) REFERENCES tbl_board (id)
+);
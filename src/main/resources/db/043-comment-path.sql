@@ -0,0 +1,13 @@
+-- 댓글 답글 트리 (materialized path, MySQL)
+-- path = 부모 댓글의 path + 자기 ID(36진수 8자리, 0 채움). 최상위 댓글은 자기 ID 한 단계.
+-- ORDER BY path 가 곧 표시 순서이고, 하위 트리는 path 범위 [path, path + '~') 하나로 조회됩니다.
+
+ALTER TABLE tbl_comment
+    ADD COLUMN path VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL DEFAULT '';
+
+-- 기존 댓글은 모두 최상위 댓글 (ID 순서 = 작성 순서)
+UPDATE tbl_comment SET path = LPAD(LOWER(CONV(id, 10, 36)), 8, '0') WHERE path = '';
+
+ALTER TABLE tbl_comment
+    ADD INDEX idx_comment_board_del_path (board_id, is_del, path),
+    DROP INDEX idx_comment_board_del_created;
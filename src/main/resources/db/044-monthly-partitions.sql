@@ -0,0 +1,118 @@
+-- tbl_board / tbl_comment 월 단위 RANGE 파티션 (MySQL 8)
+-- 파티션 키: created_at (RANGE COLUMNS), 월 파티션 이름: pYYYYMM, 마지막은 MAXVALUE 파티션 pmax
+-- 이후의 월 파티션 추가 / 오래된 파티션 분리는 PartitionMaintenance가 주기적으로 처리합니다.
+--
+-- MySQL 파티션 제약
+--  * 파티션 테이블은 외래 키를 가질 수도, 다른 테이블에서 참조될 수도 없음 -> 관련 외래 키 삭제
+--    (참조 무결성은 애플리케이션의 soft delete로 유지, 외래 키가 만든 인덱스는 그대로 남음)
+--  * 모든 PRIMARY/UNIQUE 키에 파티션 키가 포함되어야 함 -> PK (id, created_at)
+--    (JPA 매핑의 @Id는 그대로 id, AUTO_INCREMENT라 id만으로도 유일함)
+--
+-- id만으로 찾는 문장의 비용
+--  * PK가 (id, created_at)이므로 WHERE id = ? 는 가지치기되지 않고 모든 월 파티션의 PK 인덱스를 한 번씩 확인함
+--    (파티션 수만큼 인덱스 탐색, 36개월이면 36번). 해당하는 문장:
+--      findById / 상세 조회 (JPA @Id 조회),
+--      댓글 삭제 시 댓글 수 감소(게시글 작성 시각이 캐시에 없을 때 조회), 추천 시 recommend_count 갱신(더티 체킹),
+--      게시글 수정(더티 체킹), 고유 방문자 수 갱신, RecommendCountReconciler의 b.id BETWEEN (조각마다)
+--  * 작성 시각을 아는 쓰기는 created_at 조건을 함께 사용하여 파티션 1개만 읽음:
+--      ViewCountBuffer(상세 화면 / JSON API 조회수), 댓글 작성 시 댓글 수 증가, 게시글 / 댓글 삭제(softDelete, @SQLDelete 대신),
+--      게시글 삭제 시 댓글 일괄 삭제(created_at >= 게시글 작성 시각 - 1일), 댓글 재렌더링
+--  * 오래된 파티션 분리 시 그 게시글의 하위 행(댓글, 추천, 알림, 첨부, 본문, 통계, 방문자 스케치)은
+--    {하위 테이블}_of_{파티션} 보관 테이블로 함께 옮겨짐 (PartitionMaintenance)
+
+-- 1. tbl_board / tbl_comment 와 관련된 외래 키 삭제 (이름이 자동 생성된 키 포함)
+DROP PROCEDURE IF EXISTS board_drop_partition_fks;
+DELIMITER //
+CREATE PROCEDURE board_drop_partition_fks()
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE fk_table VARCHAR(64);
+    DECLARE fk_name VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+        WHERE CONSTRAINT_SCHEMA = DATABASE()
+          AND (TABLE_NAME IN ('tbl_board', 'tbl_comment') OR REFERENCED_TABLE_NAME IN ('tbl_board', 'tbl_comment'));
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO fk_table, fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @drop_fk = CONCAT('ALTER TABLE `', fk_table, '` DROP FOREIGN KEY `', fk_name, '`');
+        PREPARE stmt FROM @drop_fk;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fks;
+END //
+DELIMITER ;
+CALL board_drop_partition_fks();
+DROP PROCEDURE board_drop_partition_fks;
+
+-- 2. created_at NOT NULL (파티션 키), 비어 있는 값 보정
+--    댓글은 게시글보다 먼저 작성될 수 없으므로 게시글 작성 시각으로 채움 (댓글 조회 시 파티션 하한과 일치)
+UPDATE tbl_board SET created_at = COALESCE(updated_at, '1970-01-01') WHERE created_at IS NULL;
+UPDATE tbl_comment c JOIN tbl_board b ON b.id = c.board_id SET c.created_at = b.created_at WHERE c.created_at IS NULL;
+
+ALTER TABLE tbl_board
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at),
+    ADD INDEX idx_board_user_created (user_id, is_del, created_at);
+
+ALTER TABLE tbl_comment
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at),
+    ADD INDEX idx_comment_user_created (user_id, is_del, created_at);
+
+-- 3. 파티션 적용: 기존 데이터의 첫 달(최대 36개월 전)부터 현재 달까지 월 파티션 + pmax
+--    pmax를 비워 두어야 PartitionMaintenance가 미래 달 파티션을 만들 때 행 복사 없이 바로 나눌 수 있음
+--    (36개월보다 오래된 행은 p_old, created_at을 1970-01-01로 채운 행 포함)
+DROP PROCEDURE IF EXISTS board_partition_monthly;
+DELIMITER //
+CREATE PROCEDURE board_partition_monthly(IN tbl VARCHAR(64))
+BEGIN
+    DECLARE last_month DATE DEFAULT DATE_FORMAT(CURDATE(), '%Y-%m-01');
+    DECLARE first_month DATE;
+    DECLARE cur_month DATE;
+    DECLARE definitions TEXT DEFAULT '';
+    SET @min_created = NULL;
+    SET @find_min = CONCAT('SELECT MIN(created_at) INTO @min_created FROM `', tbl, '`');
+    PREPARE stmt FROM @find_min;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+    SET first_month = GREATEST(DATE_FORMAT(LEAST(COALESCE(@min_created, last_month), last_month), '%Y-%m-01'),
+                               DATE_SUB(last_month, INTERVAL 36 MONTH));
+    SET definitions = CONCAT('PARTITION p_old VALUES LESS THAN (''', first_month, '''), ');
+    SET cur_month = first_month;
+    WHILE cur_month <= last_month DO
+        SET definitions = CONCAT(definitions, 'PARTITION p', DATE_FORMAT(cur_month, '%Y%m'),
+                                 ' VALUES LESS THAN (''', DATE_ADD(cur_month, INTERVAL 1 MONTH), '''), ');
+        SET cur_month = DATE_ADD(cur_month, INTERVAL 1 MONTH);
+    END WHILE;
+    SET @partition_sql = CONCAT('ALTER TABLE `', tbl, '` PARTITION BY RANGE COLUMNS (created_at) (',
+                                definitions, 'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @partition_sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+DELIMITER ;
+CALL board_partition_monthly('tbl_board');
+CALL board_partition_monthly('tbl_comment');
+DROP PROCEDURE board_partition_monthly;
+
+-- 4. 파티션 가지치기 확인 (EXPLAIN의 partitions 컬럼에 해당 월 파티션만 나와야 함)
+-- 최신 목록 (PostService.findSummaryPage 첫 구간)
+-- EXPLAIN SELECT id, title, created_at FROM tbl_board
+--     WHERE is_del = false AND created_at >= '2025-06-01' AND created_at < '9999-12-31'
+--     ORDER BY created_at DESC, id DESC LIMIT 201;
+-- 사용자별 작성글 (PostService.findPostsByUserId 첫 구간)
+-- EXPLAIN SELECT * FROM tbl_board
+--     WHERE is_del = false AND user_id = 1 AND created_at >= '2025-06-01' AND created_at < '9999-12-31'
+--     ORDER BY created_at DESC, id DESC LIMIT 100;
+-- 게시글의 댓글 (게시글 작성 시각 - 1일 이후의 파티션만)
+-- EXPLAIN SELECT * FROM tbl_comment
+--     WHERE is_del = false AND board_id = 1 AND created_at >= '2025-05-14'
+--     ORDER BY path LIMIT 51;
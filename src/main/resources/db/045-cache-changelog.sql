@@ -0,0 +1,12 @@
+-- 서버 간 캐시 무효화 변경 기록 (MySQL, JdbcInvalidationBus: board.invalidation.bus=jdbc 일 때 필요)
+-- 데이터를 바꾼 트랜잭션에서 1행씩 기록하고, 각 서버가 id 순으로 폴링합니다.
+-- board.invalidation.retention-ms 가 지난 행은 주기적으로 삭제됩니다.
+
+CREATE TABLE IF NOT EXISTS tbl_cache_changelog (
+    id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    region     VARCHAR(50)  NOT NULL,
+    cache_key  VARCHAR(255) NOT NULL,
+    origin     VARCHAR(64)  NOT NULL, -- 발행한 서버 ID (자기 무효화 제외용)
+    created_at DATETIME(6)  NOT NULL,
+    KEY idx_cache_changelog_created (created_at) -- 오래된 행 삭제
+);
@@ -0,0 +1,131 @@
+package com.example.board.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void burstBeyondQueueFailsFastAndHashesStayBounded() throws Exception {
+        BlockingEncoder delegate = new BlockingEncoder();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, 2, 4, 10_000, meterRegistry);
+
+        // 로그인 폭주: 스레드 2개 + 대기열 4개를 넘는 요청
+        ExecutorService logins = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Boolean>> accepted = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                accepted.add(logins.submit(() -> encoder.matches("pw", "hash")));
+            }
+            delegate.running.await(5, TimeUnit.SECONDS);
+            while (delegate.started.get() + meterRegistry.get("board.password.hash.queue").gauge().value() < 6) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.matches("pw", "hash"))
+                    .isInstanceOf(AuthenticationServiceException.class);
+
+            delegate.release.countDown();
+            for (Future<Boolean> future : accepted) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(delegate.maxConcurrent.get()).isEqualTo(2);
+        } finally {
+            logins.shutdownNow();
+        }
+    }
+
+    @Test
+    void slowHashTimesOut() {
+        BlockingEncoder delegate = new BlockingEncoder();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, 50, new SimpleMeterRegistry());
+        try {
+            assertThatThrownBy(() -> encoder.encode("pw"))
+                    .isInstanceOf(AuthenticationServiceException.class);
+        } finally {
+            delegate.release.countDown();
+        }
+    }
+
+    @Test
+    void legacyAndWeakerHashesAreUpgraded() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        encoder = new BoundedPasswordEncoder(delegating, 1, 4, 10_000, new SimpleMeterRegistry());
+
+        String legacy = new BCryptPasswordEncoder(5).encode("pw"); // 접두어 없는 기존 해시
+        assertThat(encoder.matches("pw", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+
+        String current = encoder.encode("pw");
+        assertThat(current).startsWith("{bcrypt}");
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+    }
+
+    /**
+     * 해제될 때까지 해시 연산을 붙잡아 두고 동시 실행 수를 기록하는 인코더
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch running = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hold();
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hold();
+            return true;
+        }
+
+        private void hold() {
+            started.incrementAndGet();
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            running.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
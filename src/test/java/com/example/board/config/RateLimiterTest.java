@@ -0,0 +1,59 @@
+package com.example.board.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private RateLimiter.Rule recommend;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 추천: 사용자/IP당 3회 / 60초
+        rateLimiter = new RateLimiter(meterRegistry, "10/60", "30/60", "3/60", "5/600", "20/600", 1_000);
+        recommend = rateLimiter.findRule("POST", "/posts/1/recommend");
+    }
+
+    @Test
+    void rejectsAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.2")).isZero();
+    }
+
+    @Test
+    void userRejectionDoesNotSpendSharedIpTokens() {
+        // alice가 다른 IP에서 자기 한도를 모두 쓴 뒤
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.9", "user:alice")).isZero();
+        }
+        // 공유 IP(NAT 등)에서 계속 시도하면 사용자 기준으로 거부되고
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.1", "user:alice")).isPositive();
+        }
+        // 그 IP의 토큰은 되돌려져 같은 IP의 다른 사용자는 한도를 모두 사용
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.1", "user:bob")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(recommend, "ip:10.0.0.1", "user:carol")).isPositive();
+    }
+
+    @Test
+    void countsEachRequestOnce() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire(recommend, "ip:10.0.0.1", "user:alice");
+        }
+        assertThat(meterRegistry.counter("board.ratelimit.requests", "rule", "recommend", "outcome", "allowed").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter("board.ratelimit.requests", "rule", "recommend", "outcome", "rejected").count())
+                .isEqualTo(2);
+    }
+}
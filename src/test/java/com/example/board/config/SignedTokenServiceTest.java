@@ -0,0 +1,111 @@
+package com.example.board.config;
+
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.LocalInvalidationBus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SignedTokenServiceTest {
+
+    private static final String SECRET = "test-secret-0123456789abcdef";
+
+    @Test
+    void statelessModeRequiresSecret() {
+        assertThatThrownBy(() -> new SignedTokenService(new LocalInvalidationBus(), true, "", 1800, 900))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("board.security.stateless.secret");
+    }
+
+    @Test
+    void tokenIssuedByOneNodeVerifiesOnAnother() {
+        // 같은 비밀키를 쓰는 서버 2대
+        SignedTokenService nodeA = new SignedTokenService(new LocalInvalidationBus(), true, SECRET, 1800, 900);
+        SignedTokenService nodeB = new SignedTokenService(new LocalInvalidationBus(), true, SECRET, 1800, 900);
+
+        SignedTokenService.Token token = nodeB.verify(nodeA.issue("alice"));
+        assertThat(token).isNotNull();
+        assertThat(token.userId()).isEqualTo("alice");
+        assertThat(nodeB.needsRefresh(token)).isFalse();
+
+        SignedTokenService otherKey = new SignedTokenService(new LocalInvalidationBus(), true, SECRET + "x", 1800, 900);
+        assertThat(otherKey.verify(nodeA.issue("alice"))).isNull();
+    }
+
+    @Test
+    void rejectsTamperedExpiredAndRevokedTokens() throws Exception {
+        SignedTokenService service = new SignedTokenService(new LocalInvalidationBus(), true, SECRET, 1800, 900);
+        String token = service.issue("alice");
+        String forged = service.issue("mallory");
+        assertThat(service.verify(forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'))))
+                .isNull();
+        assertThat(service.verify("not-a-token")).isNull();
+
+        SignedTokenService shortLived = new SignedTokenService(new LocalInvalidationBus(), true, SECRET, 0, 0);
+        assertThat(shortLived.verify(shortLived.issue("alice"))).isNull();
+
+        Thread.sleep(2); // 발급 시각 이후의 폐기
+        service.revoke("alice");
+        assertThat(service.verify(token)).isNull();
+        Thread.sleep(2);
+        assertThat(service.verify(service.issue("alice"))).isNotNull(); // 폐기 이후 발급된 토큰은 유효
+    }
+
+    @Test
+    void revocationReachesOtherNodes() throws Exception {
+        // 같은 비밀키를 쓰는 서버 2대가 무효화 통로를 공유
+        SharedBus network = new SharedBus();
+        SignedTokenService nodeA = new SignedTokenService(network.node(), true, SECRET, 1800, 900);
+        SignedTokenService nodeB = new SignedTokenService(network.node(), true, SECRET, 1800, 900);
+
+        String token = nodeA.issue("alice");
+        assertThat(nodeB.verify(token)).isNotNull();
+
+        Thread.sleep(2); // 발급 시각 이후의 폐기
+        nodeA.revoke("alice");
+
+        assertThat(nodeA.verify(token)).isNull();
+        assertThat(nodeB.verify(token)).isNull();
+        Thread.sleep(2);
+        assertThat(nodeB.verify(nodeB.issue("alice"))).isNotNull(); // 폐기 이후 발급된 토큰은 유효
+    }
+
+    /**
+     * 발행한 서버를 제외한 모든 서버에 바로 전달하는 무효화 통로
+     */
+    private static class SharedBus {
+
+        private final List<Node> nodes = new ArrayList<>();
+
+        InvalidationBus node() {
+            Node node = new Node();
+            nodes.add(node);
+            return node;
+        }
+
+        private class Node implements InvalidationBus {
+
+            private final List<Consumer<String>> listeners = new ArrayList<>();
+
+            @Override
+            public void publishAll(String region, Collection<String> keys) {
+                for (Node other : nodes) {
+                    if (other != this) {
+                        keys.forEach(key -> other.listeners.forEach(listener -> listener.accept(key)));
+                    }
+                }
+            }
+
+            @Override
+            public void subscribe(String region, Consumer<String> listener) {
+                listeners.add(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.board.config;
+
+import com.example.board.service.sql.SqlCaptureService;
+import com.example.board.service.sql.SqlStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * SQL 수집 프록시의 집계 결과를 H2에서 확인합니다. (문장당 추가 비용은 src/jmh 의 SqlCaptureDataSourceBenchmark)
+ */
+class SqlCaptureDataSourceTest {
+
+    private SingleConnectionDataSource target;
+    private SqlCaptureService captureService;
+    private SqlCaptureDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        target = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", true);
+        new JdbcTemplate(target).execute("CREATE TABLE tbl_board (id BIGINT PRIMARY KEY, title VARCHAR(100))");
+        new JdbcTemplate(target).update("INSERT INTO tbl_board VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("jdbcTemplate", new JdbcTemplate(target));
+        // 느린 문장 / 경고 기준은 측정에 영향이 없도록 크게
+        captureService = new SqlCaptureService(beans.getBeanProvider(JdbcTemplate.class), new SimpleMeterRegistry(),
+                60_000, 2000, 1_000_000, 1_000_000);
+        beans.addBean("sqlCaptureService", captureService);
+        dataSource = new SqlCaptureDataSource(target, beans.getBeanProvider(SqlCaptureService.class));
+    }
+
+    @Test
+    void aggregatesStatementsByFingerprint() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long before = SqlStatementCounter.current();
+        captureService.beginRequest("GET /posts");
+        for (long id = 1; id <= 3; id++) {
+            jdbc.queryForObject("SELECT title FROM tbl_board WHERE id = ?", String.class, id);
+        }
+        jdbc.queryForObject("SELECT COUNT(*) FROM tbl_board WHERE id IN (1, 2)", Long.class);
+        jdbc.queryForObject("SELECT COUNT(*) FROM tbl_board WHERE id IN (1, 2, 3)", Long.class);
+        captureService.endRequest();
+
+        assertThat(SqlStatementCounter.current() - before).isEqualTo(5);
+        assertThat(captureService.top(10))
+                .extracting(SqlCaptureService.StatView::fingerprint, SqlCaptureService.StatView::count,
+                        SqlCaptureService.StatView::maxPerRequest)
+                .containsExactlyInAnyOrder(
+                        tuple("SELECT title FROM tbl_board WHERE id = ?", 3L, 3L),
+                        tuple("SELECT COUNT(*) FROM tbl_board WHERE id in (?+)", 2L, 2L));
+
+        assertThat(captureService.explainTop(1)).isEqualTo(1);
+        assertThat(captureService.top(1).get(0).explain().error()).isNull();
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.board.controller;
+
+import com.example.board.model.Comment;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.CommentRepository.CommentView;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.UserRepository;
+import com.example.board.service.CommentService;
+import com.example.board.service.ContentRenderer;
+import com.example.board.service.PostService;
+import com.example.board.service.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class PostApiControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    private final List<CommentView> comments = new ArrayList<>();
+    private CommentRepository commentRepository;
+    private PostService postService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        for (long id = 1; id <= 120; id++) {
+            comments.add(new View(id, (int) (id % 7), "댓글 " + id, START.plusSeconds(id)));
+        }
+        commentRepository = mock(CommentRepository.class);
+        when(commentRepository.findCommentViews(eq(1L), any(), any()))
+                .thenAnswer(invocation -> batch(0, invocation.getArgument(2)));
+        when(commentRepository.findCommentViewsAfter(eq(1L), any(), any(), any())).thenAnswer(invocation -> {
+            String afterPath = invocation.getArgument(2);
+            int from = 0;
+            while (from < comments.size() && comments.get(from).getPath().compareTo(afterPath) <= 0) {
+                from++;
+            }
+            return batch(from, invocation.getArgument(3));
+        });
+
+        CommentService commentService = new CommentService(commentRepository, mock(PostRepository.class),
+                mock(UserRepository.class), mock(ApplicationEventPublisher.class), new ContentRenderer(),
+                mock(PlatformTransactionManager.class), mock(SingleFlight.class));
+        ReflectionTestUtils.setField(commentService, "commentPageSize", 50);
+        postService = mock(PostService.class);
+
+        PostApiController controller = new PostApiController(postService, commentService,
+                Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(controller, "maxPageSize", 100);
+        ReflectionTestUtils.setField(controller, "maxComments", 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()))
+                .build();
+    }
+
+    @Test
+    void streamsCommentsInBatchesAndReturnsNextCursor() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/posts/1/comments").param("limit", "100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(100))
+                .andExpect(jsonPath("$.comments[0].id").value(1))
+                .andExpect(jsonPath("$.comments[0].content").value("<p>댓글 1</p>"))
+                .andExpect(jsonPath("$.comments[99].id").value(100))
+                .andExpect(jsonPath("$.comments[0].depth").value(0))
+                .andExpect(jsonPath("$.nextCursor").value(Comment.childPath("", 100)))
+                .andExpect(content().string(not(containsString("user")))); // 작성자 정보 없음
+
+        // 50개씩 두 번 + 다음 댓글 존재 확인 1번
+        verify(commentRepository, times(1)).findCommentViews(eq(1L), any(), any());
+        verify(commentRepository, times(2)).findCommentViewsAfter(eq(1L), any(), any(), any());
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/posts/1/comments")
+                        .param("cursor", Comment.childPath("", 100)))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(jsonPath("$.comments.length()").value(20))
+                .andExpect(jsonPath("$.comments[0].id").value(101))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void missingPostIsNotFoundBeforeStreaming() throws Exception {
+        when(postService.findById(9L)).thenThrow(new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: 9"));
+
+        mockMvc.perform(get("/api/v1/posts/9/comments"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("해당 ID의 게시글을 찾을 수 없습니다: 9"));
+    }
+
+    private List<CommentView> batch(int from, Pageable pageable) {
+        return new ArrayList<>(comments.subList(from, Math.min(comments.size(), from + pageable.getPageSize())));
+    }
+
+    private record View(Long id, Integer anonymousId, String content, LocalDateTime createdAt) implements CommentView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Integer getAnonymousId() {
+            return anonymousId;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public String getRenderedContent() {
+            return "<p>" + content + "</p>";
+        }
+
+        @Override
+        public int getRenderVersion() {
+            return ContentRenderer.VERSION;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getPath() {
+            return Comment.childPath("", id);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.board.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentTest {
+
+    @Test
+    void pathOrderPutsRepliesUnderTheirParentInCreationOrder() {
+        // ID는 작성 순서: 1, 2 댓글 -> 3, 10 은 1의 답글 -> 36 은 3의 답글 -> 9 는 2의 답글
+        String one = Comment.childPath("", 1);
+        String two = Comment.childPath("", 2);
+        String three = Comment.childPath(one, 3);
+        String ten = Comment.childPath(one, 10);
+        String thirtySix = Comment.childPath(three, 36);
+        String nine = Comment.childPath(two, 9);
+
+        List<String> paths = new ArrayList<>(List.of(nine, thirtySix, two, ten, one, three));
+        paths.sort(null); // ascii_bin 정렬과 같은 문자열 비교
+
+        assertThat(paths).containsExactly(one, three, thirtySix, ten, two, nine);
+        assertThat(Comment.childPath("", 35)).isLessThan(Comment.childPath("", 36)); // "z" < "10" 이 되지 않도록 고정 폭
+    }
+
+    @Test
+    void depthIsDerivedFromPathAndCappedByColumnLength() {
+        Comment comment = new Comment();
+        assertThat(comment.getDepth()).isZero();
+
+        String path = "";
+        for (int depth = 0; depth <= Comment.MAX_DEPTH; depth++) {
+            path = Comment.childPath(path, depth + 1);
+            comment.setPath(path);
+            assertThat(comment.getDepth()).isEqualTo(depth);
+        }
+        assertThat(Comment.MAX_DEPTH).isEqualTo(30);
+        assertThat(path.length()).isLessThanOrEqualTo(255); // 최대 깊이의 경로도 컬럼에 들어감
+        assertThat(path.length() + Comment.PATH_SEGMENT_LENGTH).isGreaterThan(255);
+    }
+
+    @Test
+    void subtreeRangeCoversDescendantsOnly() {
+        String root = Comment.childPath("", 5);
+        String child = Comment.childPath(root, 6);
+        String deepest = Comment.childPath(Comment.childPath(child, 7), Long.parseLong("zzzzzzzz", 36));
+        String nextSibling = Comment.childPath("", 8);
+        String upper = Comment.subtreeUpperBound(root);
+
+        assertThat(List.of(root, child, deepest)).allSatisfy(path ->
+                assertThat(path).isGreaterThanOrEqualTo(root).isLessThan(upper));
+        assertThat(nextSibling).isGreaterThanOrEqualTo(upper);
+        assertThat(Comment.childPath("", 4)).isLessThan(root);
+    }
+
+    @Test
+    void idBeyondSegmentWidthIsRejected() {
+        assertThatThrownBy(() -> Comment.childPath("", Long.parseLong("zzzzzzzz", 36) + 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void parentPathDropsLastSegment() {
+        String one = Comment.childPath("", 1);
+        String three = Comment.childPath(one, 3);
+
+        assertThat(Comment.parentPath(three)).isEqualTo(one);
+        assertThat(Comment.parentPath(one)).isEmpty();
+        assertThat(Comment.parentPath("")).isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.board.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/027-comment-count.sql 의 댓글 수 채우기를 H2(MySQL 모드)에서 확인합니다.
+ */
+class CommentCountMigrationTest {
+
+    @Test
+    void backfillsCountOfLiveComments() {
+        SingleConnectionDataSource dataSource =
+                new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE tbl_board (id BIGINT PRIMARY KEY, title VARCHAR(100))");
+        jdbc.execute("CREATE TABLE tbl_comment (id BIGINT PRIMARY KEY, board_id BIGINT NOT NULL, " +
+                "is_del BOOLEAN DEFAULT FALSE, created_at DATETIME(6))");
+        jdbc.update("INSERT INTO tbl_board (id, title) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        // 1: 댓글 2개 + 삭제 1개, 2: 삭제된 댓글만, 3: 댓글 없음
+        jdbc.update("INSERT INTO tbl_comment (id, board_id, is_del, created_at) VALUES " +
+                "(1, 1, FALSE, NOW()), (2, 1, FALSE, NOW()), (3, 1, TRUE, NOW()), (4, 2, TRUE, NOW())");
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/027-comment-count.sql")).execute(dataSource);
+
+        assertThat(jdbc.queryForList("SELECT comment_count FROM tbl_board ORDER BY id", Integer.class))
+                .containsExactly(2, 0, 0);
+        jdbc.update("INSERT INTO tbl_board (id, title) VALUES (4, 'd')");
+        assertThat(jdbc.queryForObject("SELECT comment_count FROM tbl_board WHERE id = 4", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttachmentStorageTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AttachmentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storage = new AttachmentStorage(directory.toString(), meterRegistry);
+    }
+
+    @Test
+    void storesBlobUnderItsContentHash() throws Exception {
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        AttachmentStorage.StoredBlob blob = storage.store(new MockMultipartFile("file", "a.txt", "text/plain", content));
+
+        assertThat(blob.sha256()).isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+        assertThat(blob.size()).isEqualTo(content.length);
+        assertThat(storage.blobPath(blob.sha256()))
+                .isEqualTo(directory.resolve("blobs/2c/" + blob.sha256()))
+                .hasBinaryContent(content);
+    }
+
+    @Test
+    void sameContentIsStoredOnceAndTempFilesAreRemoved() throws Exception {
+        byte[] content = new byte[256 * 1024]; // 해시 버퍼(64KB)보다 큰 파일
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        AttachmentStorage.StoredBlob first = storage.store(new MockMultipartFile("file", "a.bin", null, content));
+        AttachmentStorage.StoredBlob second = storage.store(new MockMultipartFile("file", "b.bin", null, content));
+
+        assertThat(second).isEqualTo(first);
+        try (Stream<Path> files = Files.walk(directory.resolve("blobs"))) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+        try (Stream<Path> files = Files.list(storage.tempDirectory())) {
+            assertThat(files.count()).isZero();
+        }
+        assertThat(meterRegistry.get("board.attachment.stored").tag("result", "new").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.attachment.stored").tag("result", "duplicate").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.board.service;
+
+import com.example.board.model.Comment;
+import com.example.board.model.Post;
+import com.example.board.model.User;
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentServiceTest {
+
+    private CommentRepository commentRepository;
+    private CommentService service;
+    private Post post;
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        commentRepository = mock(CommentRepository.class);
+        PostRepository postRepository = mock(PostRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+
+        User author = new User();
+        author.setId(1L);
+        author.setUserId("author");
+        User replier = new User();
+        replier.setId(2L);
+        replier.setUserId("replier");
+        post = new Post();
+        post.setId(10L);
+        post.setUser(author);
+
+        when(userRepository.findByUserId("replier")).thenReturn(Optional.of(replier));
+        when(postRepository.findById(10L)).thenReturn(Optional.of(post));
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+            comment.setId(ids.incrementAndGet()); // IDENTITY
+            return comment;
+        });
+
+        service = new CommentService(commentRepository, postRepository, userRepository,
+                mock(ApplicationEventPublisher.class), new ContentRenderer(), mock(PlatformTransactionManager.class),
+                mock(SingleFlight.class));
+        ReflectionTestUtils.setField(service, "commentPageSize", 50);
+    }
+
+    @Test
+    void replyPathExtendsParentPath() {
+        Comment parent = comment(7L, Comment.childPath("", 7));
+
+        Comment reply = service.createComment(10L, 7L, "답글", "replier");
+
+        assertThat(reply.getPath()).isEqualTo(parent.getPath() + Comment.childPath("", reply.getId()));
+        assertThat(reply.getDepth()).isEqualTo(1);
+        assertThat(service.createComment(10L, null, "댓글", "replier").getDepth()).isZero();
+    }
+
+    @Test
+    void replyBeyondMaxDepthIsRejected() {
+        String path = "";
+        for (int depth = 0; depth <= Comment.MAX_DEPTH; depth++) {
+            path = Comment.childPath(path, depth + 1);
+        }
+        comment(31L, path); // 깊이 30 (MAX_DEPTH)
+        comment(30L, path.substring(0, path.length() - Comment.PATH_SEGMENT_LENGTH)); // 깊이 29
+
+        assertThatThrownBy(() -> service.createComment(10L, 31L, "답글", "replier"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.createComment(10L, 30L, "답글", "replier").getDepth()).isEqualTo(Comment.MAX_DEPTH);
+    }
+
+    @Test
+    void parentFromAnotherPostIsRejected() {
+        Post other = new Post();
+        other.setId(11L);
+        Comment parent = comment(7L, Comment.childPath("", 7));
+        parent.setPost(other);
+
+        assertThatThrownBy(() -> service.createComment(10L, 7L, "답글", "replier"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void repliesUnderDeletedCommentsCountDeletedAncestors() {
+        // 1 ─ 2(삭제) ─ 3, 4          5(삭제) ─ 6(삭제) ─ 7       8(이전 페이지) ─ 9
+        String one = Comment.childPath("", 1);
+        String two = Comment.childPath(one, 2);
+        String five = Comment.childPath("", 5);
+        String six = Comment.childPath(five, 6);
+        String eight = Comment.childPath("", 8);
+        Comment c1 = pageComment(1L, one);
+        Comment c3 = pageComment(3L, Comment.childPath(two, 3));
+        Comment c4 = pageComment(4L, Comment.childPath(two, 4));
+        Comment c7 = pageComment(7L, Comment.childPath(six, 7));
+        Comment c9 = pageComment(9L, Comment.childPath(eight, 9));
+        when(commentRepository.findCommentPageAfter(eq(10L), any(), eq("0"), any()))
+                .thenReturn(new SliceImpl<>(List.of(c1, c3, c4, c7, c9)));
+        when(commentRepository.findLivePaths(eq(10L), any(), any())).thenReturn(List.of(eight));
+
+        service.findCommentPage(10L, "0");
+
+        assertThat(c1.getDeletedAncestors()).isZero();
+        assertThat(c3.getDeletedAncestors()).isEqualTo(1); // 2 자리 표시
+        assertThat(c4.getDeletedAncestors()).isZero(); // 같은 페이지에서 2는 이미 표시됨
+        assertThat(c7.getDeletedAncestors()).isEqualTo(2); // 5, 6 자리 표시
+        assertThat(c9.getDeletedAncestors()).isZero(); // 부모가 이전 페이지에 있음
+        verify(commentRepository).findLivePaths(eq(10L), any(), eq(Set.of(two, five, six, eight)));
+    }
+
+    @Test
+    void pageWithParentsPresentDoesNotQuery() {
+        String one = Comment.childPath("", 1);
+        Comment c1 = pageComment(1L, one);
+        Comment c2 = pageComment(2L, Comment.childPath(one, 2));
+        when(commentRepository.findCommentPageAfter(eq(10L), any(), eq("0"), any()))
+                .thenReturn(new SliceImpl<>(List.of(c1, c2)));
+
+        service.findCommentPage(10L, "0");
+
+        assertThat(c2.getDeletedAncestors()).isZero();
+        verify(commentRepository, never()).findLivePaths(any(), any(), any());
+    }
+
+    private Comment pageComment(Long id, String path) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setPath(path);
+        comment.setRenderVersion(ContentRenderer.VERSION);
+        return comment;
+    }
+
+    private Comment comment(Long id, String path) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setPost(post);
+        comment.setPath(path);
+        when(commentRepository.findById(id)).thenReturn(Optional.of(comment));
+        return comment;
+    }
+}
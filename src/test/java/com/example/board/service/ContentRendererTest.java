@@ -0,0 +1,31 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentRendererTest {
+
+    private final ContentRenderer renderer = new ContentRenderer();
+
+    @Test
+    void escapesMarkupAndKeepsLineBreaks() {
+        assertThat(renderer.render("<script>alert('x')</script>\r\n둘째 줄\n셋째 & 줄"))
+                .isEqualTo("&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;<br>\n둘째 줄<br>\n셋째 &amp; 줄");
+        assertThat(renderer.render(null)).isEmpty();
+    }
+
+    @Test
+    void linksUrlsWithoutTrailingPunctuation() {
+        assertThat(renderer.render("참고: https://example.com/a?b=1&c=2."))
+                .isEqualTo("참고: <a href=\"https://example.com/a?b=1&amp;c=2\" target=\"_blank\" "
+                        + "rel=\"nofollow noopener noreferrer\">https://example.com/a?b=1&amp;c=2</a>.");
+    }
+
+    @Test
+    void quotesCannotBreakOutOfTheLink() {
+        String html = renderer.render("http://example.com/\"onmouseover=\"alert(1)");
+        assertThat(html).startsWith("<a href=\"http://example.com/\" ");
+        assertThat(html).doesNotContain("\"onmouseover").contains("&quot;onmouseover=&quot;alert(1)");
+    }
+}
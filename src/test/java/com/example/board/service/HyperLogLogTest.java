@@ -0,0 +1,73 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimateStaysWithinThreeStandardErrors() {
+        for (int viewers : new int[]{10, 1_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < viewers; i++) {
+                sketch.offer("user-" + i);
+                sketch.offer("user-" + i); // 같은 방문자의 새로고침
+            }
+            assertThat((double) sketch.estimate()).as("방문자 %d명", viewers)
+                    .isCloseTo(viewers, within(Math.max(1, viewers * 0.05)));
+        }
+    }
+
+    @Test
+    void compactBytesRoundTripSparseAndDense() {
+        HyperLogLog small = sketchOf(100);
+        byte[] sparse = small.toCompactBytes();
+        assertThat(sparse.length).isLessThan(400); // 희소: 0이 아닌 레지스터만
+        assertThat(HyperLogLog.fromBytes(sparse).estimate()).isEqualTo(small.estimate());
+
+        HyperLogLog large = sketchOf(200_000);
+        byte[] dense = large.toCompactBytes();
+        assertThat(dense).hasSize(1 + HyperLogLog.REGISTER_COUNT * 6 / 8); // 6비트 밀집
+        HyperLogLog restored = HyperLogLog.fromBytes(dense);
+        assertThat(restored.estimate()).isEqualTo(large.estimate());
+        assertThat(restored.toCompactBytes()).isEqualTo(dense);
+    }
+
+    @Test
+    void readsLegacyRegisterArray() {
+        // 이전 형식: 레지스터 배열 그대로 (1바이트씩 4096바이트)
+        byte[] legacy = new byte[HyperLogLog.REGISTER_COUNT];
+        HyperLogLog sketch = new HyperLogLog(legacy);
+        for (int i = 0; i < 5_000; i++) {
+            sketch.offer("user-" + i);
+        }
+        assertThat(HyperLogLog.fromBytes(legacy).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{9, 1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mergeEqualsUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            String key = "viewer-" + i;
+            (i % 2 == 0 ? left : right).offer(key);
+            union.offer(key);
+        }
+        left.merge(right);
+        assertThat(left.estimate()).isEqualTo(union.estimate());
+    }
+
+    private static HyperLogLog sketchOf(int viewers) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < viewers; i++) {
+            sketch.offer("user-" + i);
+        }
+        return sketch;
+    }
+}
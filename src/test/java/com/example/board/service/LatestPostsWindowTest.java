@@ -0,0 +1,237 @@
+package com.example.board.service;
+
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.service.LatestPostsWindow.Entry;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.event.CommentDeletedEvent;
+import com.example.board.service.event.PostCreatedEvent;
+import com.example.board.service.event.PostDeletedEvent;
+import com.example.board.service.event.PostUpdatedEvent;
+import com.example.board.service.event.RecommendationToggledEvent;
+import com.example.board.service.invalidation.LocalInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * 최신 게시글 목록 스냅샷이 DB(메모리 가짜 저장소)와 같은 페이지를 돌려주는지 확인합니다.
+ */
+class LatestPostsWindowTest {
+
+    private static final int CAPACITY = 20;
+    private static final int PAGE_SIZE = 7;
+    private static final Comparator<Entry> NEWEST_FIRST =
+            Comparator.comparing(Entry::getCreatedAt).thenComparing(Entry::getId).reversed();
+
+    // 가짜 tbl_board (게시글 ID -> 요약)
+    private final Map<Long, Entry> table = new ConcurrentHashMap<>();
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile CountDownLatch loadGate;
+    private LatestPostsWindow window;
+    private LocalDateTime clock = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        when(postRepository.findSummaryWindow(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            CountDownLatch gate = loadGate;
+            if (gate != null) {
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            return findSummaryWindow(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4));
+        });
+        when(postRepository.findSummaryById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable((PostSummary) table.get(invocation.<Long>getArgument(0))));
+        window = new LatestPostsWindow(postRepository, new LocalInvalidationBus(), meterRegistry, CAPACITY);
+        for (int i = 0; i < 50; i++) {
+            insertRow();
+        }
+    }
+
+    @Test
+    void pagesMatchDatabaseAfterRandomChanges() {
+        Random random = new Random(42);
+        assertPagesMatchDatabase();
+        for (int step = 0; step < 2000; step++) {
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    Entry created = insertRow();
+                    window.onPostCreated(new PostCreatedEvent(created.getId(), "writer", created.getTitle(), created.getCreatedAt()));
+                }
+                case 1 -> randomRow(random).ifPresent(row -> {
+                    String title = "수정-" + random.nextInt(1000);
+                    table.put(row.getId(), row.withTitle(title));
+                    window.onPostUpdated(new PostUpdatedEvent(row.getId(), "writer", title));
+                });
+                case 2 -> randomRow(random).ifPresent(row -> {
+                    table.remove(row.getId());
+                    window.onPostDeleted(new PostDeletedEvent(row.getId(), "writer"));
+                });
+                case 3 -> randomRow(random).ifPresent(row -> {
+                    table.put(row.getId(), row.withCommentCount(row.getCommentCount() + 1));
+                    window.onCommentCreated(commentCreated(row.getId()));
+                });
+                case 4 -> randomRow(random).filter(row -> row.getCommentCount() > 0).ifPresent(row -> {
+                    table.put(row.getId(), row.withCommentCount(row.getCommentCount() - 1));
+                    window.onCommentDeleted(new CommentDeletedEvent(row.getId(), 1L, "reader", 2L));
+                });
+                default -> randomRow(random).ifPresent(row -> {
+                    int count = random.nextInt(100);
+                    table.put(row.getId(), row.withRecommendationCount(count));
+                    window.onRecommendationToggled(new RecommendationToggledEvent(row.getId(), "reader", 2L, true, count));
+                });
+            }
+            assertPagesMatchDatabase();
+        }
+        assertThat(meterRegistry.counter("board.posts.latest", "result", "hit").count()).isPositive();
+    }
+
+    @Test
+    void changesCommittedDuringLoadAreReapplied() throws Exception {
+        Entry target = latestRows().get(0);
+        loadGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Slice<PostSummary>> loading = executor.submit(() -> window.findPage(null, null, PAGE_SIZE));
+            awaitLoadStarted();
+
+            // 적재 중에 들어온 조회는 기다리지 않고 DB로
+            assertThat(window.findPage(null, null, PAGE_SIZE)).isNull();
+            // 적재 중에 커밋된 변경 (적재 쿼리는 이미 이전 값을 읽은 것으로 간주)
+            window.onRecommendationToggled(new RecommendationToggledEvent(target.getId(), "reader", 2L, true, 77));
+            loadGate.countDown();
+
+            assertThat(loading.get(10, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            loadGate = null;
+            executor.shutdownNow();
+        }
+        Slice<PostSummary> page = window.findPage(null, null, PAGE_SIZE);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(target.getId());
+        assertThat(page.getContent().get(0).getRecommendationCount()).isEqualTo(77);
+    }
+
+    @Test
+    void remoteChangesPatchSingleEntry() {
+        assertPagesMatchDatabase();
+        long windowQueries = windowQueries();
+
+        // 다른 서버에서 작성 / 수정 / 삭제 (InvalidationBus로 게시글 ID만 전달됨)
+        Entry created = insertRow();
+        window.refreshEntry(created.getId());
+        Entry edited = latestRows().get(3).withTitle("다른 서버에서 수정");
+        table.put(edited.getId(), edited);
+        window.refreshEntry(edited.getId());
+        Entry deleted = latestRows().get(5);
+        table.remove(deleted.getId());
+        window.refreshEntry(deleted.getId());
+
+        assertPagesMatchDatabase();
+        // 전체 재적재 없이 항목만 갱신 (목록 쿼리는 첫 적재 때만 실행)
+        assertThat(windowQueries()).isEqualTo(windowQueries);
+    }
+
+    /**
+     * 스냅샷이 제공하는 페이지를 커서로 따라가며 DB 결과와 비교합니다. (스냅샷 범위를 벗어나면 중단)
+     */
+    private void assertPagesMatchDatabase() {
+        List<Entry> expected = latestRows();
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        int offset = 0;
+        while (true) {
+            Slice<PostSummary> page = window.findPage(cursorAt, cursorId, PAGE_SIZE);
+            if (page == null) {
+                return; // DB 조회 범위
+            }
+            List<Entry> expectedPage = expected.subList(offset, Math.min(offset + PAGE_SIZE, expected.size()));
+            assertThat(page.getContent()).containsExactlyElementsOf(expectedPage);
+            assertThat(page.hasNext()).isEqualTo(offset + PAGE_SIZE < expected.size());
+            if (!page.hasNext()) {
+                return;
+            }
+            PostSummary last = page.getContent().get(page.getNumberOfElements() - 1);
+            cursorAt = last.getCreatedAt();
+            cursorId = last.getId();
+            offset += PAGE_SIZE;
+        }
+    }
+
+    private List<PostSummary> findSummaryWindow(LocalDateTime from, LocalDateTime to,
+                                                LocalDateTime createdAt, Long id, Pageable pageable) {
+        return latestRows().stream()
+                .filter(row -> !row.getCreatedAt().isBefore(from) && row.getCreatedAt().isBefore(to))
+                .filter(row -> row.getCreatedAt().isBefore(createdAt)
+                        || (row.getCreatedAt().isEqual(createdAt) && row.getId() < id))
+                .limit(pageable.getPageSize())
+                .map(PostSummary.class::cast)
+                .toList();
+    }
+
+    private List<Entry> latestRows() {
+        List<Entry> rows = new ArrayList<>(table.values());
+        rows.sort(NEWEST_FIRST);
+        return rows;
+    }
+
+    private Entry insertRow() {
+        clock = clock.plusMinutes(nextId % 3 == 0 ? 0 : 7); // 같은 작성 시각도 섞음 (ID로 정렬)
+        Entry row = new Entry(nextId, "제목-" + nextId, clock, 0, 0);
+        table.put(nextId++, row);
+        return row;
+    }
+
+    private Optional<Entry> randomRow(Random random) {
+        List<Entry> rows = latestRows();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        // 대부분 스냅샷 안의 최신 게시글을 고름
+        return Optional.of(rows.get(random.nextInt(Math.min(rows.size(), CAPACITY + 5))));
+    }
+
+    private static CommentCreatedEvent commentCreated(Long postId) {
+        return new CommentCreatedEvent(postId, 1L, "0001", 1, "댓글", "<p>댓글</p>", LocalDateTime.now(),
+                "reader", 2L, 3L, "writer");
+    }
+
+    private void awaitLoadStarted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (windowQueries() == 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private long windowQueries() {
+        return mockingDetails(postRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findSummaryWindow"))
+                .count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    void staysWithinCapacityAndReportsEvictions() {
+        AtomicInteger evicted = new AtomicInteger();
+        LruCache<Integer, String> cache = new LruCache<>(100, (key, value) -> evicted.incrementAndGet());
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "v" + i);
+        }
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(evicted.get()).isEqualTo(900);
+        assertThat(cache.putIfAbsent(999, "other")).isEqualTo("v999");
+    }
+
+    @Test
+    void recentlyUsedEntriesSurviveEviction() {
+        LruCache<Integer, Integer> cache = new LruCache<>(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, i);
+        }
+        for (int hot = 0; hot < 100; hot++) {
+            cache.get(hot);
+        }
+        for (int i = 1_000; i < 1_500; i++) {
+            cache.put(i, i); // 절반을 밀어냄
+        }
+        int hotLeft = 0;
+        for (int hot = 0; hot < 100; hot++) {
+            if (cache.get(hot) != null) {
+                hotLeft++;
+            }
+        }
+        // 사용 표시가 켜진 항목은 한 번 더 기회를 받으므로 모두 남음
+        assertThat(hotLeft).isEqualTo(100);
+    }
+
+    @Test
+    void concurrentReadersSeeCachedValues() throws Exception {
+        // 성능 측정은 src/jmh 의 LruCacheBenchmark
+        int threads = 8;
+        int keys = 10_000;
+        LruCache<Integer, Integer> cache = new LruCache<>(keys);
+        for (int i = 0; i < keys; i++) {
+            cache.put(i, i);
+        }
+        long expected = 0;
+        for (int i = 0; i < 100_000; i++) {
+            expected += i % 64;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> readers = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                readers.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int i = 0; i < 100_000; i++) {
+                        Integer value = cache.get(i % 64); // 소수의 인기 키에 몰림 (인기 게시글)
+                        sum += value; // 가득 차지 않았으므로 밀려난 항목 없음
+                    }
+                    return sum;
+                }));
+            }
+            for (Future<Long> reader : readers) {
+                assertThat(reader.get(60, TimeUnit.SECONDS)).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.size()).isEqualTo(keys);
+    }
+}
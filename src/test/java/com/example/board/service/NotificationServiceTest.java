@@ -0,0 +1,232 @@
+package com.example.board.service;
+
+import com.example.board.repository.NotificationRepository;
+import com.example.board.service.event.CommentCreatedEvent;
+import com.example.board.service.invalidation.LocalInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 새 댓글 알림의 메모리 합치기(coalescing)와 일괄 저장을 확인합니다.
+ * (upsert는 H2(MySQL 모드)에서 실제로 실행, 읽지 않은 알림 수 조회 저장소는 mock)
+ */
+class NotificationServiceTest {
+
+    private static final int AUTHORS = 10;
+
+    private NotificationRepository repository;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private SimpleMeterRegistry registry;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NotificationRepository.class);
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", true);
+        jdbc = spy(new JdbcTemplate(dataSource));
+        jdbc.execute("CREATE TABLE tbl_notification (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "recipient_id BIGINT NOT NULL, board_id BIGINT NOT NULL, comment_count BIGINT NOT NULL DEFAULT 0, " +
+                "is_read BOOLEAN NOT NULL DEFAULT FALSE, updated_at DATETIME(6) NOT NULL, " +
+                "CONSTRAINT uk_notification_recipient_board UNIQUE (recipient_id, board_id))");
+        registry = new SimpleMeterRegistry();
+        service = newService(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void hotPostCommentsCoalesceIntoOneRowPerFlush() throws Exception {
+        int writers = 8;
+        int perWriter = 25_000;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        long elapsedNanos;
+        try {
+            // 댓글이 계속 들어오는 동안 주기적으로 저장 (합치기와 저장의 경합)
+            Future<?> flusher = executor.submit(() -> {
+                await(go);
+                while (writing.get()) {
+                    service.flush();
+                    sleep(5);
+                }
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                long commenter = 1000 + writer;
+                futures.add(executor.submit(() -> {
+                    await(go);
+                    for (int i = 0; i < perWriter; i++) {
+                        long author = i % AUTHORS; // 작성자별 인기 게시글 1개에 댓글이 몰림
+                        service.onCommentCreated(event(author, 100 + author, commenter));
+                    }
+                }));
+            }
+            long started = System.nanoTime();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            elapsedNanos = System.nanoTime() - started;
+            writing.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        service.flush();
+
+        long total = (long) writers * perWriter;
+        double written = registry.counter("board.notification.written").count();
+        System.out.printf("notification enqueue: %.0f ns/comment, %d comments -> %.0f upserts%n",
+                (double) elapsedNanos / total, total, written);
+        // 저장 중에 들어온 댓글도 빠짐없이 (다음 저장에서) 반영
+        assertThat(jdbc.queryForObject("SELECT SUM(comment_count) FROM tbl_notification", Long.class)).isEqualTo(total);
+        assertThat(stored()).hasSize(AUTHORS);
+        // 댓글 1건당 1행이 아니라 저장 주기당 (수신자, 게시글)별 1행
+        assertThat(written).isLessThan(total / 100);
+        assertThat(registry.counter("board.notification.enqueued").count()).isEqualTo(total);
+    }
+
+    @Test
+    void ownCommentsAreNotNotified() {
+        service.onCommentCreated(event(1, 101, 1));
+        service.flush();
+
+        verify(jdbc, times(0)).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        assertThat(stored()).isEmpty();
+    }
+
+    @Test
+    void failedBatchIsRetriedWithoutDoubleCounting() {
+        service = newService(2);
+        for (long author = 0; author < 6; author++) {
+            service.onCommentCreated(event(author, 100 + author, 999));
+            service.onCommentCreated(event(author, 100 + author, 998));
+        }
+        // 두 번째 배치 저장 중 실패 (첫 배치는 커밋됨)
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new CannotAcquireLockException("deadlock");
+            }
+            return invocation.callRealMethod();
+        }).when(jdbc).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        service.flush();
+        assertThat(stored()).hasSize(2);
+
+        service.onCommentCreated(event(5, 105, 997)); // 재시도 대기 중인 대상에 새 댓글
+        service.flush();
+
+        Map<List<Long>, Long> stored = stored();
+        assertThat(stored).hasSize(6);
+        for (long author = 0; author < 6; author++) {
+            assertThat(stored.get(List.of(author, 100 + author))).isEqualTo(author == 5 ? 3 : 2);
+        }
+    }
+
+    @Test
+    void readNotificationRestartsCount() {
+        service.onCommentCreated(event(1, 101, 2));
+        service.onCommentCreated(event(1, 101, 3));
+        service.flush();
+        service.onCommentCreated(event(1, 101, 4));
+        service.flush();
+        assertThat(stored()).containsEntry(List.of(1L, 101L), 3L);
+
+        jdbc.update("UPDATE tbl_notification SET is_read = TRUE");
+        service.onCommentCreated(event(1, 101, 5));
+        service.flush();
+
+        assertThat(stored()).containsEntry(List.of(1L, 101L), 1L);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM tbl_notification WHERE is_read = FALSE", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unreadCountIsCachedUntilNotificationsAreStored() {
+        when(repository.countUnreadByUserId("user-1")).thenReturn(3L, 4L);
+
+        assertThat(service.unreadCount("user-1")).isEqualTo(3);
+        assertThat(service.unreadCount("user-1")).isEqualTo(3);
+        verify(repository, times(1)).countUnreadByUserId("user-1");
+
+        service.onCommentCreated(event(1, 101, 2));
+        service.flush();
+        assertThat(service.unreadCount("user-1")).isEqualTo(4);
+        verify(repository, times(2)).countUnreadByUserId(eq("user-1"));
+    }
+
+    private NotificationService newService(int flushBatchSize) {
+        return new NotificationService(repository, jdbc, new DataSourceTransactionManager(dataSource),
+                new LocalInvalidationBus(), registry, flushBatchSize, 1000, 60_000);
+    }
+
+    /**
+     * 저장된 알림: (수신자 PK, 게시글 ID) -> 새 댓글 수
+     */
+    private Map<List<Long>, Long> stored() {
+        Map<List<Long>, Long> rows = new HashMap<>();
+        jdbc.query("SELECT recipient_id, board_id, comment_count FROM tbl_notification", rs -> {
+            rows.put(List.of(rs.getLong(1), rs.getLong(2)), rs.getLong(3));
+        });
+        return rows;
+    }
+
+    private static CommentCreatedEvent event(long authorPk, long postId, long commenterPk) {
+        return new CommentCreatedEvent(postId, 1L, "00000001", 0, "댓글", "댓글", LocalDateTime.now(),
+                "user-" + commenterPk, commenterPk, authorPk, "user-" + authorPk);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월 파티션(db/044) 가지치기와 오래된 파티션 분리를 실제 MySQL 8에서 확인합니다.
+ *
+ * BOARD_TEST_MYSQL_URL(예: jdbc:mysql://localhost:3306/board_test), BOARD_TEST_MYSQL_USER, BOARD_TEST_MYSQL_PASSWORD
+ * 환경 변수가 있을 때만 실행합니다. 테스트용 스키마의 tbl_board / tbl_comment / tbl_recommend 와 보관 테이블을
+ * 지우고 다시 만드므로 반드시 비어 있는 테스트 전용 스키마를 지정하세요.
+ */
+@EnabledIfEnvironmentVariable(named = "BOARD_TEST_MYSQL_URL", matches = ".+")
+class PartitionPruningTest {
+
+    private static final String MONTHS = "PARTITION p202501 VALUES LESS THAN ('2025-02-01'), " +
+            "PARTITION p202502 VALUES LESS THAN ('2025-03-01'), " +
+            "PARTITION p202503 VALUES LESS THAN ('2025-04-01'), " +
+            "PARTITION p202504 VALUES LESS THAN ('2025-05-01'), " +
+            "PARTITION p202505 VALUES LESS THAN ('2025-06-01'), " +
+            "PARTITION p202506 VALUES LESS THAN ('2025-07-01'), " +
+            "PARTITION pmax VALUES LESS THAN (MAXVALUE)";
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(System.getenv("BOARD_TEST_MYSQL_URL"),
+                System.getenv("BOARD_TEST_MYSQL_USER"), System.getenv("BOARD_TEST_MYSQL_PASSWORD"), true);
+        jdbc = new JdbcTemplate(dataSource);
+        List<String> tables = jdbc.queryForList("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND (TABLE_NAME IN ('tbl_board', 'tbl_comment', 'tbl_recommend') " +
+                "OR TABLE_NAME LIKE 'tbl\\_board\\_p%' OR TABLE_NAME LIKE 'tbl\\_comment\\_%p%' " +
+                "OR TABLE_NAME LIKE 'tbl\\_recommend\\_of\\_p%')", String.class);
+        for (String table : tables) {
+            jdbc.execute("DROP TABLE " + table);
+        }
+        jdbc.execute("CREATE TABLE tbl_board (id BIGINT NOT NULL AUTO_INCREMENT, user_id BIGINT NOT NULL, " +
+                "title VARCHAR(100) NOT NULL, is_del BOOLEAN NOT NULL DEFAULT FALSE, view_count INT NOT NULL DEFAULT 0, " +
+                "created_at DATETIME(6) NOT NULL, PRIMARY KEY (id, created_at), " +
+                "INDEX idx_board_del_created (is_del, created_at, id), " +
+                "INDEX idx_board_user_created (user_id, is_del, created_at)) " +
+                "PARTITION BY RANGE COLUMNS (created_at) (" + MONTHS + ")");
+        jdbc.execute("CREATE TABLE tbl_comment (id BIGINT NOT NULL AUTO_INCREMENT, board_id BIGINT NOT NULL, " +
+                "user_id BIGINT NOT NULL, is_del BOOLEAN NOT NULL DEFAULT FALSE, path VARCHAR(255) NOT NULL, " +
+                "created_at DATETIME(6) NOT NULL, PRIMARY KEY (id, created_at), " +
+                "INDEX idx_comment_board_del_path (board_id, is_del, path)) " +
+                "PARTITION BY RANGE COLUMNS (created_at) (" + MONTHS + ")");
+        jdbc.execute("CREATE TABLE tbl_recommend (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, board_id BIGINT NOT NULL, INDEX idx_recommend_board (board_id))");
+    }
+
+    @Test
+    void latestWindowReadsOnlyNewestPartitions() {
+        // PostService.findSummaryPage 첫 구간 (PartitionWindows.newestFirst)
+        assertThat(partitions("SELECT id, title, created_at FROM tbl_board " +
+                "WHERE is_del = false AND created_at >= '2025-06-01' AND created_at < '9999-12-31' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 201")).isEqualTo("p202506,pmax");
+    }
+
+    @Test
+    void postsByUserReadOnlyWindowPartitions() {
+        // PostService.findPostsByUserId 두 번째 구간 (2개월 전 ~ 기준 달)
+        assertThat(partitions("SELECT * FROM tbl_board " +
+                "WHERE is_del = false AND user_id = 1 AND created_at >= '2025-04-01' AND created_at < '2025-06-01' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 100")).isEqualTo("p202504,p202505");
+    }
+
+    @Test
+    void commentsOfPostSkipPartitionsBeforePost() {
+        // CommentService.commentsSince: 게시글 작성 시각 - 1일 이후
+        assertThat(partitions("SELECT * FROM tbl_comment " +
+                "WHERE is_del = false AND board_id = 1 AND created_at >= '2025-05-14' ORDER BY path LIMIT 51"))
+                .isEqualTo("p202505,p202506,pmax");
+    }
+
+    @Test
+    void writesWithCreatedAtTouchOnePartition() {
+        // ViewCountBuffer / addCommentCount(created_at) / softDelete
+        assertThat(partitions("UPDATE tbl_board SET view_count = view_count + 3 " +
+                "WHERE id = 1 AND created_at = '2025-03-10 12:00:00'")).isEqualTo("p202503");
+        assertThat(partitions("UPDATE tbl_comment SET is_del = true " +
+                "WHERE id = 1 AND created_at = '2025-05-20 08:00:00'")).isEqualTo("p202505");
+        // id만 있으면 모든 파티션 (db/044의 비용 설명)
+        assertThat(partitions("UPDATE tbl_board SET view_count = view_count + 1 WHERE id = 1"))
+                .isEqualTo("p202501,p202502,p202503,p202504,p202505,p202506,pmax");
+    }
+
+    @Test
+    void detachingBoardPartitionArchivesChildRows() {
+        jdbc.update("INSERT INTO tbl_board (id, user_id, title, created_at) VALUES (1, 1, 'old', '2025-01-15 10:00:00')");
+        jdbc.update("INSERT INTO tbl_board (id, user_id, title, created_at) VALUES (2, 1, 'new', ?)", LocalDateTime.now());
+        // 오래된 게시글에 나중 달에 달린 댓글과 추천
+        jdbc.update("INSERT INTO tbl_comment (board_id, user_id, path, created_at) VALUES (1, 2, '0001', '2025-06-02 09:00:00')");
+        jdbc.update("INSERT INTO tbl_comment (board_id, user_id, path, created_at) VALUES (2, 2, '0002', ?)", LocalDateTime.now());
+        jdbc.update("INSERT INTO tbl_recommend (user_id, board_id) VALUES (2, 1), (3, 1), (2, 2)");
+
+        new PartitionMaintenance(jdbc, true, 1, 3).maintain();
+
+        assertThat(jdbc.queryForList("SELECT id FROM tbl_board", Long.class)).containsExactly(2L);
+        assertThat(jdbc.queryForList("SELECT id FROM tbl_board_p202501", Long.class)).containsExactly(1L);
+        // 하위 행도 게시글과 함께 보관 테이블로 (남은 테이블에 고아 행 없음)
+        assertThat(jdbc.queryForList("SELECT board_id FROM tbl_comment", Long.class)).containsExactly(2L);
+        assertThat(jdbc.queryForList("SELECT board_id FROM tbl_comment_of_p202501", Long.class)).containsExactly(1L);
+        assertThat(jdbc.queryForList("SELECT board_id FROM tbl_recommend", Long.class)).containsExactly(2L);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM tbl_recommend_of_p202501", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    void emptyMaxPartitionIsSplitIntoFutureMonths() {
+        new PartitionMaintenance(jdbc, true, 1, 0).maintain();
+
+        String next = LocalDate.now().withDayOfMonth(1).plusMonths(1).format(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+        assertThat(partitionNames("tbl_board")).contains(next).endsWith("pmax");
+    }
+
+    @Test
+    void nonEmptyMaxPartitionIsNotReorganized() {
+        // 월 파티션이 2025-06까지만 있으므로 현재 시각의 게시글은 pmax에 들어감
+        jdbc.update("INSERT INTO tbl_board (user_id, title, created_at) VALUES (1, 'now', ?)", LocalDateTime.now());
+        List<String> before = partitionNames("tbl_board");
+
+        new PartitionMaintenance(jdbc, true, 1, 0).maintain();
+
+        assertThat(partitionNames("tbl_board")).isEqualTo(before);
+        assertThat(partitionNames("tbl_comment")).hasSizeGreaterThan(before.size()); // 비어 있는 테이블은 나눔
+    }
+
+    private List<String> partitionNames(String table) {
+        return jdbc.queryForList("SELECT PARTITION_NAME FROM INFORMATION_SCHEMA.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY PARTITION_ORDINAL_POSITION", String.class, table);
+    }
+
+    /**
+     * EXPLAIN 결과의 partitions 컬럼 (실제로 읽는 파티션 목록)
+     */
+    private String partitions(String sql) {
+        List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + sql);
+        return (String) plan.get(0).get("partitions");
+    }
+}
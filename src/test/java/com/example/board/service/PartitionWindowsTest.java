@@ -0,0 +1,96 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionWindowsTest {
+
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    @Test
+    void stopsAtTheNewestWindowWhenItHasEnoughRows() {
+        List<LocalDateTime[]> windows = new ArrayList<>();
+
+        List<Integer> rows = PartitionWindows.newestFirst(ANCHOR, 10, (from, to, limit) -> {
+            windows.add(new LocalDateTime[]{from, to});
+            return rows(limit);
+        });
+
+        assertThat(rows).hasSize(10);
+        assertThat(windows).hasSize(1);
+        assertThat(windows.get(0)).containsExactly(LocalDateTime.of(2025, 6, 1, 0, 0), PartitionWindows.MAX);
+    }
+
+    @Test
+    void olderWindowsAreContiguousAndAskOnlyForTheRemainder() {
+        List<LocalDateTime[]> windows = new ArrayList<>();
+        List<Integer> limits = new ArrayList<>();
+
+        List<Integer> rows = PartitionWindows.newestFirst(ANCHOR, 10, (from, to, limit) -> {
+            windows.add(new LocalDateTime[]{from, to});
+            limits.add(limit);
+            return rows(Math.min(limit, 2)); // 구간마다 2개씩만 있음
+        });
+
+        assertThat(rows).hasSize(8);
+        assertThat(limits).containsExactly(10, 8, 6, 4);
+        assertThat(windows).extracting(window -> window[0]).containsExactly(
+                LocalDateTime.of(2025, 6, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0),
+                LocalDateTime.of(2024, 7, 1, 0, 0), PartitionWindows.MIN);
+        for (int i = 1; i < windows.size(); i++) {
+            assertThat(windows.get(i)[1]).isEqualTo(windows.get(i - 1)[0]); // 빈틈이나 겹침 없음
+        }
+    }
+
+    @Test
+    void keysetPagesWalkEveryRowWithoutACap() {
+        // 한 사용자의 글 250개 (하루 간격, 최신순) - 마이페이지처럼 페이지 크기보다 많아도 끝까지 조회됨
+        List<LocalDateTime> createdAt = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            createdAt.add(LocalDateTime.now().minusDays(i));
+        }
+        PartitionWindows.KeysetWindowQuery<Integer> query = (from, to, afterAt, afterId, limit) -> {
+            List<Integer> rows = new ArrayList<>();
+            for (int i = 0; i < createdAt.size() && rows.size() < limit; i++) {
+                LocalDateTime at = createdAt.get(i);
+                long id = createdAt.size() - i; // 최신 글일수록 큰 ID
+                boolean afterCursor = at.isBefore(afterAt) || (at.isEqual(afterAt) && id < afterId);
+                if (!at.isBefore(from) && at.isBefore(to) && afterCursor) {
+                    rows.add(i);
+                }
+            }
+            return rows;
+        };
+
+        List<Integer> seen = new ArrayList<>();
+        Slice<Integer> page = PartitionWindows.newestFirstPage(null, null, 100, query);
+        seen.addAll(page.getContent());
+        while (page.hasNext()) {
+            int last = page.getContent().get(page.getNumberOfElements() - 1);
+            page = PartitionWindows.newestFirstPage(createdAt.get(last), (long) (createdAt.size() - last), 100, query);
+            seen.addAll(page.getContent());
+        }
+
+        assertThat(seen).hasSize(250).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void childRowsStartOneDayBeforeThePost() {
+        assertThat(PartitionWindows.childRowsSince(ANCHOR)).isEqualTo(ANCHOR.minusDays(1));
+        assertThat(PartitionWindows.childRowsSince(null)).isEqualTo(PartitionWindows.MIN);
+    }
+
+    private static List<Integer> rows(int count) {
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.board.service;
+
+import com.example.board.model.PostContent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostContentCodecTest {
+
+    private final PostContentCodec codec = new PostContentCodec(1024);
+
+    @Test
+    void shortBodyIsStoredAsIs() {
+        PostContent stored = codec.encode(1L, "짧은 본문");
+        assertThat(stored.getCodec()).isEqualTo(PostContent.CODEC_NONE);
+        assertThat(codec.decode(stored)).isEqualTo("짧은 본문");
+    }
+
+    @Test
+    void longBodyIsCompressedAndRoundTrips() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            body.append("오늘 게시판에 올라온 ").append(i).append("번째 문단입니다. 같은 표현이 자주 반복됩니다.\n");
+        }
+        PostContent stored = codec.encode(1L, body.toString());
+
+        assertThat(stored.getCodec()).isEqualTo(PostContent.CODEC_DEFLATE);
+        assertThat(stored.getOriginalLength()).isEqualTo(body.toString().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(stored.getBody().length).isLessThan(stored.getOriginalLength() / 4);
+        assertThat(codec.decode(stored)).isEqualTo(body.toString());
+    }
+
+    @Test
+    void incompressibleBodyIsStoredAsIs() {
+        byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+        String body = Base64.getEncoder().encodeToString(random).substring(0, 2048);
+
+        PostContent stored = codec.encode(1L, body);
+        assertThat(stored.getBody().length).isLessThanOrEqualTo(body.length());
+        assertThat(codec.decode(stored)).isEqualTo(body);
+    }
+
+    @Test
+    void truncatedBodyFailsInsteadOfReturningPartialText() {
+        PostContent stored = codec.encode(1L, "반복되는 본문 ".repeat(500));
+        stored.setBody(Arrays.copyOf(stored.getBody(), stored.getBody().length / 2));
+
+        assertThatThrownBy(() -> codec.decode(stored)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.board.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 구독자 수 한도에 도달했을 때 500 대신 재연결 안내(SSE retry)를 보내는지 확인합니다.
+ */
+class PostEventHubTest {
+
+    private PostEventHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        hub = new PostEventHub(60_000, 8, 1, 1, 5_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventsController(hub)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void subscriberOverLimitGetsRetryHint() throws Exception {
+        MvcResult first = mockMvc.perform(get("/posts/1/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        assertThat(first.getResponse().getContentAsString()).doesNotContain("retry:");
+
+        MvcResult busy = mockMvc.perform(get("/posts/2/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(busy)).andExpect(status().isOk());
+
+        String body = busy.getResponse().getContentAsString();
+        Matcher retry = Pattern.compile("retry:(\\d+)").matcher(body);
+        assertThat(retry.find()).as(body).isTrue();
+        assertThat(Long.parseLong(retry.group(1))).isBetween(5_000L, 10_000L);
+        assertThat(hub.getSubscriberCount()).isEqualTo(1); // 거절된 연결은 구독자로 세지 않음
+    }
+
+    @RestController
+    static class EventsController {
+
+        private final PostEventHub hub;
+
+        EventsController(PostEventHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping(path = "/posts/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter subscribe(@PathVariable Long id) {
+            return hub.subscribe(id);
+        }
+    }
+}
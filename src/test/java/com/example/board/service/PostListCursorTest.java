@@ -0,0 +1,112 @@
+package com.example.board.service;
+
+import com.example.board.repository.PostRepository.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostListCursorTest {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH = 200;
+
+    private final List<PostSummary> posts = new ArrayList<>();
+    private PostListCursor.PageLoader loader;
+    private final AtomicInteger flushes = new AtomicInteger();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // 최신순 (작성 시각이 같은 글은 ID 역순)
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 0, 0);
+        for (long id = ROWS; id >= 1; id--) {
+            posts.add(new Summary(id, "제목 " + id, now.minusMinutes((ROWS - id) / 3)));
+        }
+        loader = (createdAt, id, size) -> {
+            int from = 0;
+            while (createdAt != null && from < posts.size() && !isBefore(posts.get(from), createdAt, id)) {
+                from++;
+            }
+            return page(from, size);
+        };
+    }
+
+    @Test
+    void readsEveryRowOnceInKeysetBatches() {
+        PostListCursor cursor = new PostListCursor(loader, BATCH, flushes::incrementAndGet);
+
+        List<Long> ids = new ArrayList<>();
+        for (PostSummary summary : cursor) {
+            ids.add(summary.getId());
+        }
+
+        assertThat(ids).hasSize(ROWS).doesNotHaveDuplicates();
+        assertThat(ids.get(0)).isEqualTo(ROWS);
+        assertThat(ids.get(ROWS - 1)).isEqualTo(1L);
+        assertThat(fetches.get()).isEqualTo(ROWS / BATCH);
+        assertThat(flushes.get()).isEqualTo(fetches.get()); // 배치마다 조회 전에 응답을 내보냄
+    }
+
+    @Test
+    void fetchesNextBatchOnlyWhenTheTemplateReachesIt() {
+        PostListCursor cursor = new PostListCursor(loader, BATCH, flushes::incrementAndGet);
+        assertThat(cursor.isEmpty()).isFalse();
+
+        Iterator<PostSummary> rows = cursor.iterator();
+        for (int i = 0; i < BATCH; i++) {
+            rows.next();
+        }
+        assertThat(fetches.get()).isEqualTo(1); // 첫 배치는 isEmpty와 순회가 함께 사용
+
+        rows.next();
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private SliceImpl<PostSummary> page(int from, int size) {
+        fetches.incrementAndGet();
+        int to = Math.min(posts.size(), from + size);
+        return new SliceImpl<>(new ArrayList<>(posts.subList(from, to)), PageRequest.of(0, size), to < posts.size());
+    }
+
+    private static boolean isBefore(PostSummary summary, LocalDateTime createdAt, Long id) {
+        return summary.getCreatedAt().isBefore(createdAt)
+                || (summary.getCreatedAt().isEqual(createdAt) && summary.getId() < id);
+    }
+
+    private record Summary(Long id, String title, LocalDateTime createdAt) implements PostSummary {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public int getRecommendationCount() {
+            return 0;
+        }
+
+        @Override
+        public int getCommentCount() {
+            return 0;
+        }
+    }
+}
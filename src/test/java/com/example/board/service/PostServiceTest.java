@@ -0,0 +1,136 @@
+package com.example.board.service;
+
+import com.example.board.repository.CommentRepository;
+import com.example.board.repository.PostContentRepository;
+import com.example.board.repository.PostRepository;
+import com.example.board.repository.PostRepository.PostDetailView;
+import com.example.board.repository.PostRepository.PostSummary;
+import com.example.board.repository.RecommendationRepository;
+import com.example.board.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private static final int READERS = 1000;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private PostRepository postRepository;
+    private JdbcTemplate jdbcTemplate;
+    private ViewCountBuffer viewCountBuffer;
+    private LatestPostsWindow latestPostsWindow;
+    private PostService postService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionManager);
+        latestPostsWindow = mock(LatestPostsWindow.class);
+        postService = new PostService(postRepository, mock(UserRepository.class), mock(CommentRepository.class),
+                mock(RecommendationRepository.class), mock(PostContentRepository.class), mock(PostContentCodec.class),
+                new ContentRenderer(), mock(ApplicationEventPublisher.class), mock(SingleFlight.class),
+                latestPostsWindow, viewCountBuffer, transactionManager);
+
+        PostDetailView view = mock(PostDetailView.class);
+        when(view.getId()).thenReturn(1L);
+        when(view.getCreatedAt()).thenReturn(CREATED_AT);
+        when(view.getViewCount()).thenReturn(5);
+        when(postRepository.findDetailViewById(1L)).thenReturn(Optional.of(view));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void concurrentApiReadersAreFlushedAsOneBatchedUpdate() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PostDetailView>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < READERS; i++) {
+                String viewerKey = "u:reader-" + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return postService.getPostDetailView(1L, viewerKey);
+                }));
+            }
+            start.countDown();
+            int maxViewCount = 0;
+            for (Future<PostDetailView> result : results) {
+                PostDetailView view = result.get(10, TimeUnit.SECONDS);
+                assertThat(view.getViewCount()).isGreaterThan(5); // 아직 반영되지 않은 자기 조회수 포함
+                maxViewCount = Math.max(maxViewCount, view.getViewCount());
+            }
+            assertThat(maxViewCount).isEqualTo(5 + READERS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 요청 중에는 DB에 쓰지 않고, 반영 주기에 배치 UPDATE 1번 (증가분 1000)
+        verify(jdbcTemplate, times(0)).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        viewCountBuffer.flush();
+
+        ArgumentCaptor<Collection<Object>> batch = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Object>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture(), eq(1), setter.capture());
+        assertThat(batch.getValue()).hasSize(1);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, batch.getValue().iterator().next());
+        verify(ps).setLong(1, READERS);
+        verify(ps).setLong(2, 1L);
+    }
+
+    @Test
+    void missingPostIsNotCounted() {
+        when(postRepository.findDetailViewById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> postService.getPostDetailView(9L, "u:reader"))
+                .isInstanceOf(IllegalArgumentException.class);
+        viewCountBuffer.flush();
+        verify(jdbcTemplate, times(0)).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+    }
+
+    @Test
+    void mainPageLatestPostsComeFromTheSnapshot() {
+        List<PostSummary> latest = List.of(new LatestPostsWindow.Entry(2L, "둘", CREATED_AT, 0, 0),
+                new LatestPostsWindow.Entry(1L, "하나", CREATED_AT, 0, 0));
+        when(latestPostsWindow.findPage(null, null, 10))
+                .thenReturn(new SliceImpl<>(latest, PageRequest.of(0, 10), false));
+
+        assertThat(postService.findLatest10()).isEqualTo(latest);
+        verifyNoInteractions(postRepository); // 메인 페이지는 DB를 조회하지 않음
+    }
+}
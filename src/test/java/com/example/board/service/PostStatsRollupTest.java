@@ -0,0 +1,105 @@
+package com.example.board.service;
+
+import com.example.board.model.PostStat;
+import com.example.board.model.PostStat.Granularity;
+import com.example.board.repository.PostStatRepository;
+import com.example.board.service.event.PostViewedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 구간 집계 저장(JDBC 배치 upsert)과 저장 전/실패 후 조회를 H2(MySQL 모드)에서 확인합니다.
+ */
+class PostStatsRollupTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostStatsRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/037-post-stats.sql")).execute(dataSource);
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+
+        // 저장된 구간 조회는 같은 테이블에서 (JPA 대신)
+        PostStatRepository repository = mock(PostStatRepository.class);
+        doAnswer(invocation -> jdbcTemplate.query("SELECT bucket_start, view_count, recommend_count " +
+                        "FROM tbl_board_stats WHERE board_id = ? AND granularity = ? AND bucket_start >= ? AND bucket_start < ? " +
+                        "ORDER BY bucket_start",
+                (rs, rowNum) -> new PostStat(invocation.getArgument(0), invocation.getArgument(1),
+                        rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2), rs.getLong(3)),
+                invocation.<Long>getArgument(0), invocation.<Granularity>getArgument(1).ordinal(),
+                invocation.<LocalDateTime>getArgument(2), invocation.<LocalDateTime>getArgument(3)))
+                .when(repository).findRange(any(), any(), any(), any());
+
+        rollup = new PostStatsRollup(repository, jdbcTemplate, new DataSourceTransactionManager(dataSource), 500, 48, 90);
+    }
+
+    @Test
+    void flushWritesRowsInJdbcBatches() {
+        int posts = 400;
+        for (long postId = 1; postId <= posts; postId++) {
+            for (int view = 0; view < 5; view++) {
+                rollup.onPostViewed(new PostViewedEvent(postId, "viewer-" + view));
+            }
+        }
+        rollup.flush();
+
+        // 게시글 400개 x 구간 단위 3개 = 1200행 -> 500행씩 3번의 배치
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tbl_board_stats", Long.class)).isEqualTo(posts * 3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(view_count) FROM tbl_board_stats WHERE granularity = 2",
+                Long.class)).isEqualTo(posts * 5L);
+
+        // 이미 있는 행에는 더함 (upsert)
+        rollup.onPostViewed(new PostViewedEvent(1L, "again"));
+        rollup.flush();
+        assertThat(rollup.totals(1L, Duration.ofHours(24)).views()).isEqualTo(6);
+    }
+
+    @Test
+    void queriesIncludeRowsWaitingForRetry() {
+        for (int view = 0; view < 3; view++) {
+            rollup.onPostViewed(new PostViewedEvent(7L, "viewer-" + view));
+        }
+        assertThat(rollup.totals(7L, Duration.ofHours(24)).views()).isEqualTo(3); // 저장 전 (메모리 분 구간)
+
+        jdbcTemplate.execute("ALTER TABLE tbl_board_stats RENAME TO tbl_board_stats_offline");
+        rollup.flush(); // 저장 실패 -> 합산된 행은 재시도 대기
+        jdbcTemplate.execute("ALTER TABLE tbl_board_stats_offline RENAME TO tbl_board_stats");
+
+        assertThat(rollup.totals(7L, Duration.ofHours(24)).views()).isEqualTo(3);
+        List<PostStatsRollup.StatPoint> minutes = rollup.series(7L, Granularity.MINUTE,
+                LocalDateTime.now().minusMinutes(5), LocalDateTime.now().plusMinutes(1));
+        assertThat(minutes).extracting(PostStatsRollup.StatPoint::views).containsExactly(3L);
+
+        rollup.onPostViewed(new PostViewedEvent(7L, "viewer-3"));
+        assertThat(rollup.totals(7L, Duration.ofHours(24)).views()).isEqualTo(4);
+
+        rollup.flush(); // 재시도 행 + 새 변경분을 합쳐 저장
+        assertThat(rollup.totals(7L, Duration.ofHours(24)).views()).isEqualTo(4); // 중복 없음
+        assertThat(jdbcTemplate.queryForObject("SELECT view_count FROM tbl_board_stats WHERE board_id = 7 AND granularity = 2",
+                Long.class)).isEqualTo(4);
+    }
+}
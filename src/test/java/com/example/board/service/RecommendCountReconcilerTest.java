@@ -0,0 +1,75 @@
+package com.example.board.service;
+
+import com.example.board.service.invalidation.InvalidationBus;
+import com.example.board.service.invalidation.InvalidationRegions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 추천 수 정합성 작업을 실제 MySQL 8에서 확인합니다.
+ *
+ * PartitionPruningTest와 같이 BOARD_TEST_MYSQL_* 환경 변수가 있을 때만 실행하며,
+ * 테스트용 스키마의 tbl_board / tbl_recommend 를 지우고 다시 만듭니다.
+ */
+@EnabledIfEnvironmentVariable(named = "BOARD_TEST_MYSQL_URL", matches = ".+")
+class RecommendCountReconcilerTest {
+
+    private JdbcTemplate jdbc;
+    private LatestPostsWindow latestPostsWindow;
+    private InvalidationBus invalidationBus;
+    private RecommendCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(new SingleConnectionDataSource(System.getenv("BOARD_TEST_MYSQL_URL"),
+                System.getenv("BOARD_TEST_MYSQL_USER"), System.getenv("BOARD_TEST_MYSQL_PASSWORD"), true));
+        jdbc.execute("DROP TABLE IF EXISTS tbl_recommend");
+        jdbc.execute("DROP TABLE IF EXISTS tbl_board");
+        jdbc.execute("CREATE TABLE tbl_board (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                "recommend_count INT NOT NULL DEFAULT 0)");
+        jdbc.execute("CREATE TABLE tbl_recommend (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, board_id BIGINT NOT NULL, INDEX idx_recommend_board (board_id))");
+
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(System.getenv("BOARD_TEST_MYSQL_URL"));
+        properties.setUsername(System.getenv("BOARD_TEST_MYSQL_USER"));
+        properties.setPassword(System.getenv("BOARD_TEST_MYSQL_PASSWORD"));
+        latestPostsWindow = mock(LatestPostsWindow.class);
+        invalidationBus = mock(InvalidationBus.class);
+        reconciler = new RecommendCountReconciler(properties, latestPostsWindow, invalidationBus,
+                new SimpleMeterRegistry(), true, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.close();
+    }
+
+    @Test
+    void correctsDriftedCountsAndPushesThem() {
+        // 1: 맞음, 2: 저장값이 큼, 3: 추천 기록 없음, 4: 저장값이 작음, 5: 맞음
+        jdbc.update("INSERT INTO tbl_board (id, recommend_count) VALUES (1, 2), (2, 5), (3, 1), (4, 0), (5, 1)");
+        jdbc.update("INSERT INTO tbl_recommend (user_id, board_id) VALUES (1, 1), (2, 1), (1, 2), (1, 4), (2, 4), (1, 5)");
+
+        reconciler.reconcile();
+
+        assertThat(jdbc.queryForList("SELECT recommend_count FROM tbl_board ORDER BY id", Integer.class))
+                .containsExactly(2, 1, 0, 2, 1);
+        verify(latestPostsWindow).refreshEntry(2L);
+        verify(latestPostsWindow).refreshEntry(3L);
+        verify(latestPostsWindow).refreshEntry(4L);
+        verify(invalidationBus).publishAll(InvalidationRegions.LATEST_POSTS, List.of("2", "3", "4"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.board.service;
+
+import com.example.board.repository.RecommendationRepository;
+import com.example.board.service.event.RecommendationToggledEvent;
+import com.example.board.service.invalidation.LocalInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecommenderIndexTest {
+
+    private RecommendationRepository repository;
+    private RecommenderIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RecommendationRepository.class);
+        index = new RecommenderIndex(repository, new LocalInvalidationBus(), new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void loadsOncePerPostAndAnswersFromTheBitmap() {
+        List<Long> recommenders = new ArrayList<>();
+        for (long userPk = 1; userPk <= 1_000_000; userPk += 2) {
+            recommenders.add(userPk); // 홀수 사용자 50만 명
+        }
+        when(repository.findUserIdsByPostId(1L)).thenReturn(recommenders);
+
+        assertThat(index.contains(1L, 999_999)).isTrue();
+        assertThat(index.contains(1L, 2)).isFalse();
+        assertThat(index.contains(1L, 1_000_001)).isFalse();
+        verify(repository, times(1)).findUserIdsByPostId(1L);
+    }
+
+    @Test
+    void committedTogglesUpdateCachedBitmap() {
+        when(repository.findUserIdsByPostId(1L)).thenReturn(List.of(7L));
+        assertThat(index.contains(1L, 7)).isTrue();
+
+        index.onRecommendationToggled(new RecommendationToggledEvent(1L, "u8", 8L, true, 2));
+        index.onRecommendationToggled(new RecommendationToggledEvent(1L, "u7", 7L, false, 1));
+
+        assertThat(index.contains(1L, 8)).isTrue();
+        assertThat(index.contains(1L, 7)).isFalse();
+        verify(repository, times(1)).findUserIdsByPostId(1L);
+    }
+
+    @Test
+    void loadRacingWithCommitIsNotCached() {
+        // 로딩 중에 추천이 커밋되면 읽은 목록이 오래되었을 수 있으므로 캐시하지 않음
+        when(repository.findUserIdsByPostId(1L)).thenAnswer(invocation -> {
+            index.onRecommendationToggled(new RecommendationToggledEvent(1L, "u9", 9L, true, 1));
+            return List.of();
+        }).thenReturn(List.of(9L));
+
+        assertThat(index.contains(1L, 9)).isFalse();
+        assertThat(index.contains(1L, 9)).isTrue();
+        assertThat(index.contains(1L, 9)).isTrue();
+        verify(repository, times(2)).findUserIdsByPostId(1L);
+    }
+
+    @Test
+    void userPkOutsideBitmapRangeFallsBackToDatabase() {
+        long bigPk = Integer.MAX_VALUE + 1L;
+        when(repository.existsByPostIdAndUserId(1L, bigPk)).thenReturn(true);
+
+        assertThat(index.contains(1L, bigPk)).isTrue();
+        verify(repository, times(0)).findUserIdsByPostId(1L);
+    }
+}
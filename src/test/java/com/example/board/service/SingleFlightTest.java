@@ -0,0 +1,144 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int READERS = 1000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentReadersOfOnePostShareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", 30_000, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitReaders(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release); // 모든 요청이 합쳐질 때까지 조회를 끝내지 않음
+            return "post-1";
+        }));
+        awaitFollowers(READERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("post-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("leader")).isEqualTo(1);
+        assertThat(calls("fallback")).isZero();
+    }
+
+    @Test
+    void followersReceiveLeaderFailureWithoutReloading() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", 30_000, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitReaders(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new IllegalArgumentException("해당 ID의 게시글을 찾을 수 없습니다: 1");
+        }));
+        awaitFollowers(READERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void slowLoadIsRetriedByOneFollowerOnly() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", 1000, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch stuck = new CountDownLatch(1);
+
+        // 첫 조회는 끝나지 않음 -> 대기 시간이 지나면 대기 중인 요청 중 하나만 다시 조회
+        List<Future<String>> results = submitReaders(() -> singleFlight.load(1L, () -> {
+            if (loads.incrementAndGet() == 1) {
+                await(stuck);
+                return "stale";
+            }
+            awaitFollowers(READERS - 1); // 다시 조회하는 동안 나머지 요청이 모두 합쳐지도록
+            return "post-1";
+        }));
+        awaitFollowers(READERS - 1);
+
+        int fresh = 0;
+        for (Future<String> result : results) {
+            try {
+                if ("post-1".equals(result.get(5, TimeUnit.SECONDS))) {
+                    fresh++;
+                }
+            } catch (TimeoutException e) {
+                // 첫 조회를 맡은 요청만 계속 대기
+            }
+        }
+        stuck.countDown();
+
+        assertThat(fresh).isEqualTo(READERS - 1);
+        assertThat(loads).hasValue(2);
+        assertThat(calls("fallback")).isEqualTo(1);
+    }
+
+    private List<Future<String>> submitReaders(Callable<String> reader) {
+        List<Future<String>> results = new ArrayList<>(READERS);
+        for (int i = 0; i < READERS; i++) {
+            results.add(executor.submit(reader));
+        }
+        return results;
+    }
+
+    private void awaitFollowers(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (calls("follower") < expected) {
+            assertThat(System.nanoTime()).as("follower 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private double calls(String role) {
+        return meterRegistry.counter("board.single-flight.calls", "name", "test", "role", role).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
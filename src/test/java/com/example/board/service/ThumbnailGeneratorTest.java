@@ -0,0 +1,78 @@
+package com.example.board.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    private ThumbnailGenerator generator;
+
+    @AfterEach
+    void tearDown() {
+        if (generator != null) {
+            generator.shutdown();
+        }
+    }
+
+    @Test
+    void scalesImageDownToThumbnailSize() throws Exception {
+        AttachmentStorage storage = new AttachmentStorage(directory.toString(), new SimpleMeterRegistry());
+        generator = new ThumbnailGenerator(storage, new SimpleMeterRegistry(), 1, 10, 320, 40_000_000);
+        String sha256 = storage.store(image(1000, 500)).sha256();
+
+        generator.request(sha256);
+        Path thumbnail = await(storage, sha256);
+
+        assertThat(thumbnail.getFileName().toString()).endsWith(".jpg");
+        BufferedImage read = ImageIO.read(thumbnail.toFile());
+        assertThat(read.getWidth()).isEqualTo(320);
+        assertThat(read.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    void imageOverPixelLimitIsNotDecoded() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AttachmentStorage storage = new AttachmentStorage(directory.toString(), meterRegistry);
+        generator = new ThumbnailGenerator(storage, meterRegistry, 1, 10, 320, 100 * 100);
+        String sha256 = storage.store(image(200, 200)).sha256();
+        String small = storage.store(image(50, 50)).sha256();
+
+        generator.request(sha256);
+        generator.request(small);
+        await(storage, small); // 스레드 1개이므로 앞의 요청은 이미 처리됨
+
+        assertThat(storage.findThumbnail(sha256)).isEmpty();
+        assertThat(meterRegistry.get("board.attachment.thumbnail").tag("result", "generated").counter().count()).isEqualTo(1);
+    }
+
+    private static MockMultipartFile image(int width, int height) throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", png);
+        return new MockMultipartFile("file", "image.png", "image/png", png.toByteArray());
+    }
+
+    private static Path await(AttachmentStorage storage, String sha256) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            Optional<Path> thumbnail = storage.findThumbnail(sha256);
+            if (thumbnail.isPresent()) {
+                return thumbnail.get();
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("썸네일이 생성되지 않았습니다: " + sha256);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.board.service.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 감사 로그의 기록 순서/누락을 확인합니다. (생산자 지연은 src/jmh 의 AuditLogBenchmark)
+ */
+class AuditLogTest {
+
+    private static final int PRODUCERS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyRecordWrittenInOrder() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // 완전성 확인을 위해 BLOCK + 넉넉한 대기 (기록 스레드가 잠깐 밀려도 버리지 않음)
+        AuditLog auditLog = newLog(65536, AuditLog.FullPolicy.BLOCK, 5_000, registry);
+        auditLog.start();
+        int perProducer = 50_000;
+        CountDownLatch ready = new CountDownLatch(PRODUCERS);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                String actor = "user-" + producer;
+                producers.add(executor.submit(() -> {
+                    ready.countDown();
+                    await(go);
+                    for (int seq = 0; seq < perProducer; seq++) {
+                        auditLog.record(AuditAction.RECOMMEND, actor, "10.0.0.1", seq, -1);
+                    }
+                }));
+            }
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            go.countDown();
+            for (Future<?> producer : producers) {
+                producer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        auditLog.stop();
+
+        assertThat(registry.counter("board.audit.dropped").count()).isZero();
+        assertThat(registry.counter("board.audit.recorded").count()).isEqualTo(PRODUCERS * perProducer);
+        Map<String, List<Long>> targets = readTargets();
+        assertThat(targets).hasSize(PRODUCERS);
+        for (List<Long> written : targets.values()) {
+            // 생산자별로 기록한 순서 그대로, 빠짐없이
+            assertThat(written).hasSize(perProducer);
+            for (int i = 0; i < written.size(); i++) {
+                assertThat(written.get(i)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    void dropPolicyCountsEveryRejectedRecord() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditLog auditLog = newLog(16, AuditLog.FullPolicy.DROP, 0, registry);
+        auditLog.start();
+        int total = 200_000;
+        for (int seq = 0; seq < total; seq++) {
+            auditLog.record(AuditAction.LOGIN_FAILURE, "user", "10.0.0.1", seq, -1);
+        }
+        auditLog.stop();
+
+        // 버린 건수 + 파일에 쓴 건수 = 전체 (버려도 조용히 사라지지 않음)
+        double dropped = registry.counter("board.audit.dropped").count();
+        double recorded = registry.counter("board.audit.recorded").count();
+        assertThat(dropped + recorded).isEqualTo(total);
+        List<Long> written = readTargets().getOrDefault("user", List.of());
+        assertThat(written).hasSize((int) recorded);
+        assertThat(written).isSorted();
+    }
+
+    @Test
+    void fullRingRejectsUntilConsumerReleases() {
+        AuditRing ring = new AuditRing(8);
+        for (int i = 0; i < ring.capacity(); i++) {
+            long sequence = ring.tryClaim();
+            assertThat(sequence).isEqualTo(i);
+            ring.write(sequence, 0, AuditAction.LOGOUT, "user", null, i, -1);
+        }
+        assertThat(ring.tryClaim()).isEqualTo(-1);
+        assertThat(ring.backlog()).isEqualTo(ring.capacity());
+
+        StringBuilder line = new StringBuilder();
+        ring.appendLine(0, line);
+        ring.release(1);
+        assertThat(line.toString()).contains("LOGOUT\tuser\t");
+        assertThat(ring.tryClaim()).isEqualTo(ring.capacity());
+        assertThat(ring.isPublished(ring.capacity())).isFalse(); // 예약만 하고 아직 쓰지 않음
+    }
+
+    private AuditLog newLog(int bufferSize, AuditLog.FullPolicy fullPolicy, long blockTimeoutMillis,
+                            SimpleMeterRegistry registry) {
+        return new AuditLog(true, directory.toString(), bufferSize, fullPolicy, blockTimeoutMillis, 512,
+                DataSize.ofMegabytes(64), 90, 1000, registry);
+    }
+
+    /**
+     * 사용자별로 파일에 쓰인 대상 ID (파일 순서대로)
+     */
+    private Map<String, List<Long>> readTargets() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.sorted().toList();
+        }
+        Map<String, List<Long>> targets = new HashMap<>();
+        for (Path file : files) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] columns = line.split("\t", -1);
+                targets.computeIfAbsent(columns[2], actor -> new ArrayList<>()).add(Long.parseLong(columns[4]));
+            }
+        }
+        return targets;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
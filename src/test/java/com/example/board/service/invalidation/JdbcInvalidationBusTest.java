@@ -0,0 +1,220 @@
+package com.example.board.service.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 두 서버(버스 2개)가 같은 변경 기록 테이블(H2, MySQL 모드)을 공유할 때의 전달을 확인합니다.
+ * (전달 지연은 src/jmh 의 JdbcInvalidationBusBenchmark)
+ */
+class JdbcInvalidationBusTest {
+
+    private static final String REGION = "test";
+    private static final long GAP_TIMEOUT_MS = 50;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcInvalidationBus publisher;
+    private JdbcInvalidationBus receiver;
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/045-cache-changelog.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        publisher = newBus(600_000);
+        receiver = newBus(600_000);
+        receiver.subscribe(REGION, received::add);
+        receiver.poll(); // 시작 위치 결정
+    }
+
+    @Test
+    void deliversOtherNodesChangesOnceAndSkipsOwn() {
+        List<String> own = new CopyOnWriteArrayList<>();
+        publisher.subscribe(REGION, own::add);
+        publisher.poll();
+
+        transactionTemplate.executeWithoutResult(status -> publisher.publishAll(REGION, List.of("1", "2", "1")));
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "2"));
+        receiver.poll();
+        publisher.poll();
+        receiver.poll();
+
+        assertThat(received).containsExactly("1", "2"); // 같은 폴링 안의 같은 키는 한 번만
+        assertThat(own).isEmpty();
+    }
+
+    @Test
+    void rolledBackChangeIsNotDelivered() throws Exception {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(REGION, "rolled-back");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "committed"));
+
+        pollPastGapTimeout();
+        assertThat(received).containsExactly("committed");
+    }
+
+    @Test
+    void changeCommittedAfterGapTimeoutIsStillDelivered() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 먼저 ID를 받았지만 늦게 커밋되는 트랜잭션
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(REGION, "late");
+                inserted.countDown();
+                await(release);
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "early"));
+
+            // 빈 ID를 gap-timeout 넘게 기다린 뒤 cursor가 넘어감
+            pollPastGapTimeout();
+            assertThat(received).containsExactly("early");
+
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        receiver.poll();
+        receiver.poll();
+        assertThat(received).containsExactly("early", "late");
+    }
+
+    @Test
+    void changeInFlightAtStartupIsDelivered() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        JdbcInvalidationBus started = newBus(600_000);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        started.subscribe(REGION, delivered::add);
+        try {
+            // 서버가 시작할 때 ID는 받았지만 아직 커밋되지 않은 기록 + 그 뒤에 커밋된 기록
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(REGION, "in-flight");
+                inserted.countDown();
+                await(release);
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "committed"));
+
+            started.poll(); // 시작 위치: late-window 이전의 마지막 ID (마지막 ID가 아님)
+            pollPastGapTimeout(started);
+
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        started.poll();
+        assertThat(delivered).containsExactly("committed", "in-flight");
+    }
+
+    @Test
+    void recordsOlderThanLateWindowAreNotReplayedAtStartup() {
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "old"));
+        jdbcTemplate.update("UPDATE tbl_cache_changelog SET created_at = DATEADD('HOUR', -1, created_at)");
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "recent"));
+
+        JdbcInvalidationBus started = newBus(600_000);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        started.subscribe(REGION, delivered::add);
+        started.poll();
+        started.poll();
+
+        assertThat(delivered).containsExactly("recent");
+    }
+
+    @Test
+    void skippedIdIsForgottenAfterLateWindow() throws Exception {
+        JdbcInvalidationBus shortWindow = newBus(0);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        shortWindow.subscribe(REGION, delivered::add);
+        shortWindow.poll();
+        // 커밋되지 않은 ID를 먼저 받아 둠
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(REGION, "too-late");
+                inserted.countDown();
+                await(release);
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            transactionTemplate.executeWithoutResult(status -> publisher.publish(REGION, "early"));
+            pollPastGapTimeout(shortWindow);
+            Thread.sleep(5);
+            shortWindow.poll(); // late-window(0ms) 지남 -> 더 이상 확인하지 않음
+
+            release.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        shortWindow.poll();
+        assertThat(delivered).containsExactly("early");
+    }
+
+    @Test
+    void startupFailsWithoutChangelogTable() {
+        jdbcTemplate.execute("DROP TABLE tbl_cache_changelog");
+
+        assertThatThrownBy(() -> newBus(600_000).verifyTable())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("tbl_cache_changelog");
+    }
+
+    private JdbcInvalidationBus newBus(long lateWindowMillis) {
+        JdbcInvalidationBus bus = new JdbcInvalidationBus(jdbcTemplate, new SimpleMeterRegistry(),
+                1000, GAP_TIMEOUT_MS, 3_600_000, lateWindowMillis);
+        bus.verifyTable();
+        return bus;
+    }
+
+    private void pollPastGapTimeout() throws InterruptedException {
+        pollPastGapTimeout(receiver);
+    }
+
+    private static void pollPastGapTimeout(JdbcInvalidationBus bus) throws InterruptedException {
+        bus.poll();
+        Thread.sleep(GAP_TIMEOUT_MS * 2);
+        bus.poll();
+        bus.poll();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
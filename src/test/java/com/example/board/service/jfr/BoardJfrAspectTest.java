@@ -0,0 +1,106 @@
+package com.example.board.service.jfr;
+
+import com.example.board.service.RecommendationService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JFR 구간이 트랜잭션 바깥에서 열려 커밋 시간까지 포함하는지 확인합니다.
+ */
+class BoardJfrAspectTest {
+
+    private static final long COMMIT_MILLIS = 50;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void spanIncludesTransactionCommit() throws Exception {
+        RecommendationService target = mock(RecommendationService.class);
+        when(target.toggleRecommendation(anyLong(), any())).thenReturn(true);
+        SlowCommitTransactionManager transactionManager = new SlowCommitTransactionManager();
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+             Recording recording = new Recording()) {
+            context.register(ProxyConfig.class, BoardJfrAspect.class);
+            context.registerBean(PlatformTransactionManager.class, () -> transactionManager);
+            context.registerBean(RecommendationService.class, () -> target);
+            context.refresh();
+            recording.enable("board.Recommendation").withThreshold(Duration.ZERO);
+            recording.start();
+
+            assertThat(context.getBean(RecommendationService.class).toggleRecommendation(7L, "alice")).isTrue();
+
+            recording.stop();
+            Path file = directory.resolve("aspect.jfr");
+            recording.dump(file);
+            assertThat(transactionManager.commits).isEqualTo(1);
+
+            // 같은 JVM에서 상시 기록(ContinuousRecording)이 켜져 있으면 다른 이벤트도 함께 들어옴
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("board.Recommendation"))
+                    .toList();
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.get(0);
+            assertThat(event.getLong("postId")).isEqualTo(7L);
+            assertThat(event.getBoolean("recommended")).isTrue();
+            assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(COMMIT_MILLIS));
+        }
+    }
+
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @EnableTransactionManagement
+    static class ProxyConfig {
+    }
+
+    /**
+     * 커밋에 시간이 걸리는 트랜잭션 매니저 (커밋 시점의 flush 대신)
+     */
+    private static class SlowCommitTransactionManager extends AbstractPlatformTransactionManager {
+
+        private int commits;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits++;
+            try {
+                Thread.sleep(COMMIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
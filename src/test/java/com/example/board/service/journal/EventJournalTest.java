@@ -0,0 +1,163 @@
+package com.example.board.service.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 저널의 동시 기록 / 세그먼트 롤링 / 비정상 종료 후 판독을 확인합니다.
+ */
+class EventJournalTest {
+
+    private static final int WRITERS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void concurrentAppendsAcrossSegmentsAreAllReadBack() throws Exception {
+        EventJournal journal = open(directory);
+        int perWriter = 20_000; // 세그먼트(1MB = 32768건)를 여러 번 넘김
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                long postId = writer;
+                writers.add(executor.submit(() -> {
+                    for (int seq = 0; seq < perWriter; seq++) {
+                        journal.append(JournalRecord.TYPE_VIEW, (short) 0, postId, seq);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        journal.close();
+
+        EventJournalReader reader = new EventJournalReader(directory);
+        assertThat(reader.segments()).hasSizeGreaterThanOrEqualTo(3);
+        Map<Long, TreeSet<Long>> seqs = readSeqs(reader);
+        assertThat(reader.corruptedCount()).isZero();
+        for (long writer = 0; writer < WRITERS; writer++) {
+            assertThat(seqs.get(writer)).hasSize(perWriter);
+        }
+    }
+
+    @Test
+    void recoversAfterProcessIsKilledWhileWriting() throws Exception {
+        // 다른 JVM에서 기록하다가 종료 처리(@PreDestroy, force) 없이 강제 종료
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), CrashingWriter.class.getName(), directory.toString())
+                .inheritIO()
+                .start();
+        assertThat(process.waitFor(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(process.exitValue()).isEqualTo(CrashingWriter.HALT_STATUS);
+
+        EventJournalReader reader = new EventJournalReader(directory);
+        Map<Long, TreeSet<Long>> seqs = readSeqs(reader);
+        assertThat(reader.corruptedCount()).isZero();
+        assertThat(seqs).hasSize(WRITERS);
+        for (TreeSet<Long> writerSeqs : seqs.values()) {
+            // 각 기록 스레드는 순서대로 기록하므로 읽힌 레코드는 빠짐없이 0부터 이어짐 (기록 중이던 마지막 1건만 없을 수 있음)
+            assertThat(writerSeqs.first()).isZero();
+            assertThat(writerSeqs.last()).isEqualTo(writerSeqs.size() - 1);
+        }
+
+        // 다시 기동하면 새 세그먼트에서 이어서 기록
+        List<Path> before = reader.segments();
+        EventJournal restarted = open(directory);
+        restarted.append(JournalRecord.TYPE_RECOMMEND, (short) 0, 99, 1);
+        restarted.close();
+        List<Path> after = new EventJournalReader(directory).segments();
+        assertThat(after).hasSize(before.size() + 1);
+        List<JournalRecord> last = new ArrayList<>();
+        new EventJournalReader(directory).read(after.get(after.size() - 1), last::add);
+        assertThat(last).extracting(JournalRecord::postId).containsExactly(99L);
+    }
+
+    @Test
+    void skipsTornAndTruncatedRecords() throws Exception {
+        EventJournal journal = open(directory);
+        for (int seq = 0; seq < 10; seq++) {
+            journal.append(JournalRecord.TYPE_VIEW, (short) 0, 1, seq);
+        }
+        journal.close();
+        Path segment = new EventJournalReader(directory).segments().get(0);
+
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // 3번째 레코드: 본문 일부만 디스크에 기록됨 (CRC 불일치)
+            file.seek(2L * JournalRecord.SIZE + JournalRecord.OFFSET_POST_ID);
+            file.write(0x7f);
+            // 5번째 레코드: 커밋 표시 전에 종료됨 (커밋 표시 0)
+            file.seek(4L * JournalRecord.SIZE + JournalRecord.OFFSET_COMMIT);
+            file.writeInt(0);
+            // 10번째 레코드 중간에서 파일이 잘림
+            file.setLength(9L * JournalRecord.SIZE + 12);
+        }
+
+        EventJournalReader reader = new EventJournalReader(directory);
+        List<Long> seqs = new ArrayList<>();
+        reader.forEach(record -> seqs.add(record.actor()));
+        assertThat(seqs).containsExactly(0L, 1L, 3L, 5L, 6L, 7L, 8L);
+        assertThat(reader.corruptedCount()).isEqualTo(1);
+    }
+
+    private static EventJournal open(Path directory) {
+        EventJournal journal = new EventJournal(directory.toString(), 1, 48, true, new SimpleMeterRegistry());
+        journal.open();
+        return journal;
+    }
+
+    /**
+     * 기록 스레드(postId)별로 읽힌 순번(actor)
+     */
+    private static Map<Long, TreeSet<Long>> readSeqs(EventJournalReader reader) {
+        Map<Long, TreeSet<Long>> seqs = new HashMap<>();
+        reader.forEach(record -> seqs.computeIfAbsent(record.postId(), id -> new TreeSet<>()).add(record.actor()));
+        return seqs;
+    }
+
+    /**
+     * 저널에 계속 기록하다가 정리 없이 강제 종료하는 프로세스
+     */
+    static class CrashingWriter {
+
+        static final int HALT_STATUS = 137;
+        static final long MAX_PER_WRITER = 500_000; // 디스크 사용량 제한 (최대 64MB)
+
+        public static void main(String[] args) throws IOException, InterruptedException {
+            EventJournal journal = open(Files.createDirectories(Path.of(args[0])));
+            for (int writer = 0; writer < WRITERS; writer++) {
+                long postId = writer;
+                Thread thread = new Thread(() -> {
+                    for (long seq = 0; seq < MAX_PER_WRITER; seq++) {
+                        journal.append(JournalRecord.TYPE_VIEW, (short) 0, postId, seq);
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            }
+            Thread.sleep(50); // 기록 도중 (세그먼트 롤링이 여러 번 일어날 만큼)
+            Runtime.getRuntime().halt(HALT_STATUS);
+        }
+    }
+}
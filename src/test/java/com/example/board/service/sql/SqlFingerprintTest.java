@@ -0,0 +1,25 @@
+package com.example.board.service.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTest {
+
+    @Test
+    void removesLiteralsAndInListLength() {
+        assertThat(SqlFingerprint.of("select * from tbl_board where id in (1, 2, 3) and title = 'a'"))
+                .isEqualTo("select * from tbl_board where id in (?+) and title = ?");
+        assertThat(SqlFingerprint.of("select * from tbl_board where id in (?,?)"))
+                .isEqualTo(SqlFingerprint.of("select * from tbl_board where id IN ( ? , ? , ? , ? )"));
+        // 따옴표가 들어간 문자열, 소수, 여러 줄 공백
+        assertThat(SqlFingerprint.of("update tbl_post_stats\n   set score = 1.5\twhere title = 'it''s' and memo = 'a\\'b'"))
+                .isEqualTo("update tbl_post_stats set score = ? where title = ? and memo = ?");
+    }
+
+    @Test
+    void keepsIdentifiersWithDigits() {
+        assertThat(SqlFingerprint.of("select b1_0.id from tbl_board_p202501 b1_0 where b1_0.id = 7 limit 20"))
+                .isEqualTo("select b1_0.id from tbl_board_p202501 b1_0 where b1_0.id = ? limit ?");
+    }
+}